@@ -0,0 +1,177 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.lang;
+
+import jdk.jfr.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * A listener that emits a JFR event for each dispatch. An event begins when the dispatch enters and get committed when it exits.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @implNote only loaded (reflectively) by {@link JFR#listener()} after checking that JFR is available. Compiled in its own source set (against
+ * 		the jdk.jfr api). So the main classes can be compiled with {@code --release 8}
+ * @since 19-Oct-2026
+ */
+final class JFRDispatchListener implements DispatchListener {
+	/**
+	 * The events that have begun and not committed yet on each thread. (the latest on the top)
+	 */
+	final private ThreadLocal<ArrayDeque<DispatchEvent>> events = ThreadLocal.withInitial(ArrayDeque::new);
+
+	@Override
+	public void onEnter(Object dispatcher, Operation operation, Object method, Clazz inputClazz, Clazz outputClazz, int depth) {
+		DispatchEvent event;
+		switch (operation) {
+			case CLASSIFY:
+				event = new ClassifyEvent();
+				break;
+			case CONVERT:
+				event = new ConvertEvent();
+				break;
+			case FORMAT:
+				event = new FormatEvent();
+				break;
+			case PARSE:
+				event = new ParseEvent();
+				break;
+			default:
+				return;
+		}
+
+		if (!event.isEnabled())
+			return;
+
+		event.operation = operation;
+		event.target = method;
+		event.depth = depth;
+		event.dispatcher = dispatcher.getClass().getName();
+		event.method = method instanceof Method ?
+					   ((Method) method).getDeclaringClass().getName() + "." + ((Method) method).getName() :
+					   String.valueOf(method);
+		event.inputFamily = inputClazz == null ? null : inputClazz.getFamily();
+		event.outputFamily = outputClazz == null ? null : outputClazz.getFamily();
+
+		this.events.get().push(event);
+		event.begin();
+	}
+
+	@Override
+	public void onExit(Object dispatcher, Operation operation, Object method, Clazz inputClazz, Clazz outputClazz, int depth, long nanos) {
+		ArrayDeque<DispatchEvent> events = this.events.get();
+
+		//the events of the failed dispatches (that never exit) are above the event of this dispatch
+		for (Iterator<DispatchEvent> i = events.iterator(); i.hasNext(); ) {
+			DispatchEvent event = i.next();
+
+			if (event.operation == operation && event.target == method && event.depth == depth) {
+				while (events.pop() != event)
+					;
+
+				event.end();
+				if (event.shouldCommit()) {
+					if (outputClazz != null)
+						event.outputFamily = outputClazz.getFamily();
+
+					event.commit();
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * The base of the dispatch events.
+	 */
+	@Category("Cufy")
+	@StackTrace(false)
+	@Threshold("1 ms")
+	abstract static class DispatchEvent extends Event {
+		/**
+		 * The depth of the dispatch from its first parent.
+		 */
+		@Label("Depth")
+		int depth;
+		/**
+		 * The class of the converter or the format doing the dispatch.
+		 */
+		@Label("Dispatcher")
+		String dispatcher;
+		/**
+		 * The family of the input.
+		 */
+		@Label("Input Family")
+		Class<?> inputFamily;
+		/**
+		 * The name of the resolved method. ("null" if the else-method was resolved)
+		 */
+		@Label("Method")
+		String method;
+		/**
+		 * The dispatched operation. (to match the exit with the event)
+		 */
+		transient Operation operation;
+		/**
+		 * The family of the output.
+		 */
+		@Label("Output Family")
+		Class<?> outputFamily;
+		/**
+		 * The resolved method. (to match the exit with the event)
+		 */
+		transient Object target;
+	}
+
+	/**
+	 * A classification event.
+	 */
+	@Description("A classification done by a format")
+	@Label("Classify")
+	@Name("cufy.Classify")
+	final static class ClassifyEvent extends DispatchEvent {
+	}
+
+	/**
+	 * A conversion event.
+	 */
+	@Description("A conversion done by a converter. (including its nested conversions)")
+	@Label("Convert")
+	@Name("cufy.Convert")
+	final static class ConvertEvent extends DispatchEvent {
+	}
+
+	/**
+	 * A formatting event.
+	 */
+	@Description("A formatting done by a format. (including its nested formattings)")
+	@Label("Format")
+	@Name("cufy.Format")
+	final static class FormatEvent extends DispatchEvent {
+	}
+
+	/**
+	 * A parsing event.
+	 */
+	@Description("A parsing done by a format. (including its nested parsings)")
+	@Label("Parse")
+	@Name("cufy.Parse")
+	final static class ParseEvent extends DispatchEvent {
+	}
+}
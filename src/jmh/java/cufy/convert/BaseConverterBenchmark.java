@@ -0,0 +1,165 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.convert;
+
+import cufy.lang.Clazz;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the hot paths of {@link BaseConverter}. (dispatching, container methods and reflective construction) Run with the gc profiler. So
+ * the allocations per operation are tracked alongside the throughput.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BaseConverterBenchmark {
+	final static Clazz<ArrayList> ARRAY_LIST_STRING = Clazz.of(ArrayList.class, Clazz.of(String.class));
+	final static Clazz<Boolean> BOOLEAN = Clazz.of(Boolean.class);
+	final static Clazz<Double> DOUBLE = Clazz.of(Double.class);
+	final static Clazz<HashMap> HASH_MAP_STRING_ARRAY_LIST_STRING = Clazz.of(HashMap.class, Clazz.of(String.class), ARRAY_LIST_STRING);
+	final static Clazz<Integer> INTEGER = Clazz.of(Integer.class);
+	final static Clazz<Long> LONG = Clazz.of(Long.class);
+	final static Clazz<long[]> LONG_ARRAY = Clazz.of(long[].class);
+	final static Clazz<String[]> STRING_ARRAY = Clazz.of(String[].class);
+
+	Converter converter;
+
+	@Param({"10", "1000", "100000"})
+	int size;
+
+	ArrayList<Integer> collection;
+	Object[] graph;
+	Integer[] integers;
+	int[] ints;
+	HashMap<String, List<Integer>> map;
+	ArrayList<Object> nested;
+	Clazz<ArrayList> nestedClazz;
+
+	@Setup
+	public void setup() {
+		this.converter = BaseConverter.global;
+
+		this.ints = new int[this.size];
+		this.integers = new Integer[this.size];
+		this.collection = new ArrayList<>(this.size);
+		this.map = new HashMap<>();
+
+		for (int i = 0; i < this.size; i++) {
+			this.ints[i] = i;
+			this.integers[i] = i;
+			this.collection.add(i);
+			this.map.computeIfAbsent("k" + i % 64, k -> new ArrayList<>()).add(i);
+		}
+
+		//a deep chain of lists. (each list holds the previous list)
+		this.nested = new ArrayList<>();
+		this.nestedClazz = Clazz.of(ArrayList.class);
+		for (int i = 0; i < Math.min(this.size, 10000); i++) {
+			ArrayList<Object> parent = new ArrayList<>();
+			parent.add(this.nested);
+			this.nested = parent;
+			this.nestedClazz = Clazz.of(ArrayList.class, this.nestedClazz);
+		}
+
+		//a graph that references the same arrays many times. And references itself
+		Object[] shared = {1, 2, 3};
+		this.graph = new Object[this.size + 1];
+		Arrays.fill(this.graph, shared);
+		this.graph[this.size] = this.graph;
+	}
+
+	@Benchmark
+	public Object array_array_object() {
+		return this.converter.convert(this.integers, STRING_ARRAY);
+	}
+
+	@Benchmark
+	public Object array_array_primitive() {
+		return this.converter.convert(this.ints, LONG_ARRAY);
+	}
+
+	@Benchmark
+	public Object array_list() {
+		return this.converter.convert(this.integers, ARRAY_LIST_STRING);
+	}
+
+	@Benchmark
+	public Object collection_list() {
+		return this.converter.convert(this.collection, ARRAY_LIST_STRING);
+	}
+
+	@Benchmark
+	public Object map_map() {
+		return this.converter.convert(this.map, HASH_MAP_STRING_ARRAY_LIST_STRING);
+	}
+
+	@Benchmark
+	public Object nested() {
+		return this.converter.convert(this.nested, this.nestedClazz);
+	}
+
+	@Benchmark
+	public Object recurse_graph() {
+		return this.converter.convertGraph(this.graph, Clazz.of(Object[].class));
+	}
+
+	@Benchmark
+	public Object recurse_tree() {
+		return this.converter.convert(this.graph, Clazz.of(Object[].class));
+	}
+
+	/**
+	 * Benchmarks for {@link BaseConverter#string_object} with the primitive wrappers. (no containers, so no sizes)
+	 */
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@State(Scope.Benchmark)
+	public static class StringObject {
+		Converter converter;
+
+		@Setup
+		public void setup() {
+			this.converter = BaseConverter.global;
+		}
+
+		@Benchmark
+		public Object string_boolean() {
+			return this.converter.convert("true", BOOLEAN);
+		}
+
+		@Benchmark
+		public Object string_double() {
+			return this.converter.convert("3.14159", DOUBLE);
+		}
+
+		@Benchmark
+		public Object string_integer() {
+			return this.converter.convert("123456", INTEGER);
+		}
+
+		@Benchmark
+		public Object string_long() {
+			return this.converter.convert("1234567890123", LONG);
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.convert;
+
+import cufy.lang.Clazz;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the scalability of a converter shared between threads. (the converter and {@link Clazz} caches are shared) Each thread count has its
+ * own state class. Run with the gc profiler. So the allocations per operation are tracked alongside the throughput.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public abstract class SharedConverterBenchmark {
+	final static Clazz<ArrayList> ARRAY_LIST_STRING = Clazz.of(ArrayList.class, Clazz.of(String.class));
+	final static Clazz<Integer> INTEGER = Clazz.of(Integer.class);
+
+	Converter converter;
+	List<Integer> list;
+
+	@Setup
+	public void setup() {
+		this.converter = BaseConverter.global;
+		this.list = new ArrayList<>();
+
+		for (int i = 0; i < 100; i++)
+			this.list.add(i);
+	}
+
+	@Benchmark
+	public Object clazz() {
+		return Clazz.of(ArrayList.class, Clazz.of(String.class));
+	}
+
+	@Benchmark
+	public Object collection_list() {
+		return this.converter.convert(this.list, ARRAY_LIST_STRING);
+	}
+
+	@Benchmark
+	public Object string_object() {
+		return this.converter.convert("123456", INTEGER);
+	}
+
+	@Threads(1)
+	public static class Threads1 extends SharedConverterBenchmark {
+	}
+
+	@Threads(2)
+	public static class Threads2 extends SharedConverterBenchmark {
+	}
+
+	@Threads(4)
+	public static class Threads4 extends SharedConverterBenchmark {
+	}
+
+	@Threads(8)
+	public static class Threads8 extends SharedConverterBenchmark {
+	}
+
+	@Threads(16)
+	public static class Threads16 extends SharedConverterBenchmark {
+	}
+
+	@Threads(32)
+	public static class Threads32 extends SharedConverterBenchmark {
+	}
+
+	/**
+	 * Readers converting on a registry converter, while a writer keeps registering. (each registration invalidates the dispatch cache)
+	 */
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@State(Scope.Group)
+	public static class Registering {
+		RegistryConverter converter;
+		List<Integer> list;
+
+		@Setup
+		public void setup() {
+			this.converter = new RegistryConverter();
+			this.list = new ArrayList<>();
+
+			for (int i = 0; i < 100; i++)
+				this.list.add(i);
+		}
+
+		@Benchmark
+		@Group("registering")
+		@GroupThreads(7)
+		public Object convert() {
+			return this.converter.convert(this.list, ARRAY_LIST_STRING);
+		}
+
+		@Benchmark
+		@Group("registering")
+		@GroupThreads(1)
+		public void register() {
+			this.converter.register(Integer.class, String.class, (Integer input, String output) -> String.valueOf(input));
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import cufy.lang.Clazz;
+import cufy.meta.MetaFamily;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A small format for the benchmarks. That formats integers and (nested) lists of integers. Like "[1,[2,3],4]".
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @implNote the readers passed to this format should support marking
+ * @since 19-Oct-2026
+ */
+public class IntegerListFormat extends AbstractFormat {
+	/**
+	 * The global instance to be shared by the benchmarks.
+	 */
+	final public static IntegerListFormat global = new IntegerListFormat();
+	/**
+	 * The structural indexer of this format. (this format has no strings. So the quote and the escape never appear)
+	 */
+	final private static StructuralIndex INDEX = new StructuralIndex("[", "]", ',', '"', '\\');
+
+	/**
+	 * Peek the next character on the given reader.
+	 *
+	 * @param reader to peek the next character on
+	 * @return the next character on the given reader. Or -1 if the reader ended
+	 * @throws IOException if any I/O exception occurs
+	 */
+	private static int peek(Reader reader) throws IOException {
+		reader.mark(1);
+		int c = reader.read();
+		reader.reset();
+		return c;
+	}
+
+	/**
+	 * Classify an integer.
+	 *
+	 * @param arguments the classification instance that holds the variables of this classification
+	 * @return true
+	 */
+	@ClassifyMethod(start = "-", range = "0-9")
+	protected boolean string_integer(ClassifyArguments arguments) {
+		arguments.output = Clazz.of(Integer.class);
+		return true;
+	}
+
+	/**
+	 * Classify a list.
+	 *
+	 * @param arguments the classification instance that holds the variables of this classification
+	 * @return true
+	 */
+	@ClassifyMethod(start = "[")
+	protected boolean string_list(ClassifyArguments arguments) {
+		arguments.output = Clazz.of(ArrayList.class);
+		return true;
+	}
+
+	/**
+	 * Integer => String
+	 *
+	 * @param arguments the formatting instance that holds the variables of this formatting
+	 * @throws IOException if any I/O exception occurs
+	 */
+	@FormatMethod(@MetaFamily(subin = Integer.class))
+	protected void integer_string(FormatArguments<Integer, ?> arguments) throws IOException {
+		arguments.output.write(arguments.input.toString());
+	}
+
+	/**
+	 * List => String
+	 *
+	 * @param arguments the formatting instance that holds the variables of this formatting
+	 * @throws IOException if any I/O exception occurs
+	 */
+	@FormatMethod(@MetaFamily(subin = List.class))
+	protected void list_string(FormatArguments<List, ?> arguments) throws IOException {
+		arguments.output.write('[');
+
+		boolean first = true;
+		for (Object element : arguments.input) {
+			if (first)
+				first = false;
+			else arguments.output.write(',');
+
+			this.format(new FormatArguments<>(arguments, element, arguments.output, 0));
+		}
+
+		arguments.output.write(']');
+	}
+
+	/**
+	 * String => Integer
+	 *
+	 * @param arguments the parsing instance that holds the variables of this parsing
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the input is not an integer
+	 */
+	@ParseMethod(@MetaFamily(subin = Integer.class))
+	protected void string_integer(ParseArguments<?, Integer> arguments) throws IOException {
+		int value = 0, sign = 1, digits = 0;
+
+		if (IntegerListFormat.peek(arguments.input) == '-') {
+			arguments.input.read();
+			sign = -1;
+		}
+
+		for (int c = IntegerListFormat.peek(arguments.input); c >= '0' && c <= '9'; c = IntegerListFormat.peek(arguments.input), digits++) {
+			arguments.input.read();
+			value = value * 10 + c - '0';
+		}
+
+		if (digits == 0)
+			throw new ParseException("Not an integer");
+
+		arguments.output = sign * value;
+	}
+
+	/**
+	 * String => List
+	 *
+	 * @param arguments the parsing instance that holds the variables of this parsing
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the input is not a list
+	 */
+	@ParseMethod(@MetaFamily(subin = List.class))
+	protected void string_list(ParseArguments<?, List> arguments) throws IOException {
+		if (arguments.input.read() != '[')
+			throw new ParseException("Not a list");
+
+		List output = new ArrayList();
+		arguments.output = output;
+
+		if (IntegerListFormat.peek(arguments.input) == ']') {
+			arguments.input.read();
+			return;
+		}
+
+		while (true) {
+			Clazz clazz = this.classify(arguments.input);
+			output.add(this.parse(new ParseArguments<>(arguments, arguments.input, null, clazz, clazz, 0)));
+
+			int c = arguments.input.read();
+			if (c == ']')
+				return;
+			if (c != ',')
+				throw new ParseException("Expected ',' or ']'");
+		}
+	}
+
+	@Override
+	public StructuralIndex structuralIndex() {
+		return IntegerListFormat.INDEX;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import cufy.lang.Clazz;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for parsing one large top-level list. Sequentially. And in parallel through the structural index of the format.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ParallelParseBenchmark {
+	final static Clazz<ArrayList> ARRAY_LIST = Clazz.of(ArrayList.class);
+
+	ByteBuffer buffer;
+	Format format;
+
+	@Setup
+	public void setup() throws IOException {
+		this.format = IntegerListFormat.global;
+		List<Object> list = new ArrayList<>();
+
+		for (int i = 0; i < 10000; i++) {
+			List<Object> inner = new ArrayList<>();
+			for (int j = 0; j < 100; j++)
+				inner.add(i * 100 + j);
+			list.add(inner);
+		}
+
+		String text = this.format.format(list, new StringWriter()).toString();
+		this.buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Benchmark
+	public Object index() {
+		return this.format.structuralIndex().index(this.buffer);
+	}
+
+	@Benchmark
+	public Object parse() throws IOException {
+		return this.format.parse(this.buffer, ARRAY_LIST);
+	}
+
+	@Benchmark
+	public Object parseElements() throws IOException {
+		return this.format.parseElements(this.buffer, ARRAY_LIST);
+	}
+}
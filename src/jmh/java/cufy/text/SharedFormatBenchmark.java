@@ -0,0 +1,133 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import cufy.lang.Clazz;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the scalability of a format shared between threads. Each thread count has its own state class. Run with the gc profiler. So the
+ * allocations per operation are tracked alongside the throughput.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public abstract class SharedFormatBenchmark {
+	final static Clazz<ArrayList> ARRAY_LIST = Clazz.of(ArrayList.class);
+	final static OutputStream SINK = new OutputStream() {
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	};
+
+	byte[] bytes;
+	Format format;
+	List<Object> list;
+	String text;
+
+	@Setup
+	public void setup() throws IOException {
+		this.format = IntegerListFormat.global;
+		this.list = new ArrayList<>();
+
+		for (int i = 0; i < 10; i++) {
+			List<Object> inner = new ArrayList<>();
+			for (int j = 0; j < 10; j++)
+				inner.add(i * 10 + j);
+			this.list.add(inner);
+		}
+
+		this.text = this.format.format(this.list, new StringWriter()).toString();
+		this.bytes = this.text.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public Object cparse() throws IOException {
+		return this.format.cparse(new StringReader(this.text), (Object) null);
+	}
+
+	@Benchmark
+	public Object format() throws IOException {
+		return this.format.format(this.list, new StringWriter());
+	}
+
+	@Benchmark
+	public Object format_bytes() throws IOException {
+		return this.format.format(this.list, SINK);
+	}
+
+	@Benchmark
+	public Object formatToString() throws IOException {
+		return this.format.formatToString(this.list);
+	}
+
+	@Benchmark
+	public Object parse() throws IOException {
+		return this.format.parse(new StringReader(this.text), ARRAY_LIST);
+	}
+
+	@Benchmark
+	public Object parse_bytes() throws IOException {
+		return this.format.parse(ByteBuffer.wrap(this.bytes), ARRAY_LIST);
+	}
+
+	@Benchmark
+	public Object parse_chars() throws IOException {
+		return this.format.parse(this.text, ARRAY_LIST);
+	}
+
+	@Threads(1)
+	public static class Threads1 extends SharedFormatBenchmark {
+	}
+
+	@Threads(2)
+	public static class Threads2 extends SharedFormatBenchmark {
+	}
+
+	@Threads(4)
+	public static class Threads4 extends SharedFormatBenchmark {
+	}
+
+	@Threads(8)
+	public static class Threads8 extends SharedFormatBenchmark {
+	}
+
+	@Threads(16)
+	public static class Threads16 extends SharedFormatBenchmark {
+	}
+
+	@Threads(32)
+	public static class Threads32 extends SharedFormatBenchmark {
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import cufy.lang.Clazz;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for parsing and formatting a realistic document (a list of user records). Against Jackson and Gson parsing to and formatting from
+ * maps and lists. (their untyped models)
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JSONBenchmark {
+	final static Clazz<Object> OBJECT = Clazz.of(Object.class);
+
+	ByteBuffer buffer;
+	Gson gson;
+	ObjectMapper mapper;
+	Object model;
+	String text;
+
+	@Setup
+	public void setup() throws IOException {
+		List<Object> users = new ArrayList<>();
+
+		for (int i = 0; i < 100; i++) {
+			Map<String, Object> address = new LinkedHashMap<>();
+			address.put("street", i + " Main Street");
+			address.put("city", "City " + i % 10);
+			address.put("zip", String.format("%05d", i * 37));
+
+			Map<String, Object> user = new LinkedHashMap<>();
+			user.put("id", 100000 + i);
+			user.put("name", "User \"" + i + "\"");
+			user.put("email", "user" + i + "@example.com");
+			user.put("active", i % 3 != 0);
+			user.put("score", i * 1.25);
+			user.put("tags", Arrays.asList("tag" + i % 5, "tag" + i % 7, "line\nbreak"));
+			user.put("address", address);
+			user.put("manager", null);
+			users.add(user);
+		}
+
+		this.gson = new Gson();
+		this.mapper = new ObjectMapper();
+		this.model = users;
+		this.text = JSON.global.formatToString(users);
+		this.buffer = ByteBuffer.wrap(this.text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Benchmark
+	public Object format() throws IOException {
+		return JSON.global.formatToString(this.model);
+	}
+
+	@Benchmark
+	public Object formatGson() {
+		return this.gson.toJson(this.model);
+	}
+
+	@Benchmark
+	public Object formatJackson() throws IOException {
+		return this.mapper.writeValueAsString(this.model);
+	}
+
+	@Benchmark
+	public Object parse() throws IOException {
+		return JSON.global.cparse(this.text);
+	}
+
+	@Benchmark
+	public Object parseBytes() throws IOException {
+		return JSON.global.cparse(this.buffer.duplicate(), OBJECT);
+	}
+
+	@Benchmark
+	public Object parseGson() {
+		return this.gson.fromJson(this.text, Object.class);
+	}
+
+	@Benchmark
+	public Object parseJackson() throws IOException {
+		return this.mapper.readValue(this.text, Object.class);
+	}
+}
@@ -15,6 +15,9 @@
  */
 package cufy.convert;
 
+import cufy.lang.DispatchListener;
+import cufy.lang.DispatchMetrics;
+import cufy.lang.Recurse;
 import cufy.lang.Static;
 import cufy.meta.MetaFamily;
 import cufy.util.Array$;
@@ -27,6 +30,8 @@ import java.lang.reflect.Method;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * An abstract class for converter classes. Used to simplify the conversion processes and make it more inheritable. Also making the inheriting for
@@ -39,22 +44,54 @@ import java.util.Objects;
  *     <li>{@link ConvertMethod} methods that can convert a value with a specific class to a output with another specific class.</li>
  * </ul>
  *
+ * Conversions are driven by a work stack allocated on the heap. So a converting method that converts the elements of a container using {@link
+ * #convert(ConvertArguments, Consumer)} don't consume the java stack for each nested level.
+ *
  * @author LSaferSE
  * @version 11 release (30-Mar-2020)
  * @implNote you have to navigate this class to where your dynamic methods is. By using annotations.
  * @since 31-Aug-19
  */
 public abstract class AbstractConverter implements Converter {
+	/**
+	 * The failure thrown by quiet conversions. (preallocated and stackless, so expected failures cost nothing to report)
+	 */
+	final private static ConvertException FAILURE = new ConvertException("Conversion failed", false);
+	/**
+	 * A mark at {@link #convertRoutines} for the pairs that don't have a converting routine.
+	 */
+	final private static Consumer<ConvertArguments> NO_ROUTINE = arguments -> {
+		throw new IllegalStateException("no routine");
+	};
+
 	/**
 	 * The converting methods of this class.
 	 */
 	final protected Group<Method> methods;
+	/**
+	 * The converting routines found for each input family then for each output family. (to avoid querying the routines on each conversion)
+	 *
+	 * @implSpec the value {@link #NO_ROUTINE} means that there is no routine for that pair of families. Replaced (not cleared) to invalidate it
+	 */
+	private volatile ConcurrentHashMap<Class, ConcurrentHashMap<Class, Consumer<ConvertArguments>>> convertRoutines = new ConcurrentHashMap<>();
 	/**
 	 * If this class in a debugging mode or not.
 	 *
 	 * @implSpec if this set false all null-checks and type-checks should not be executed at runtime.
 	 */
 	protected boolean DEBUGGING = false;
+	/**
+	 * The listener to be notified about the dispatches of this converter. (null if no listener)
+	 *
+	 * @implSpec not volatile. To not cost anything when there is no listener. Set it before sharing this converter with other threads
+	 */
+	private DispatchListener listener;
+	/**
+	 * The live counters of this converter. (null if not counting)
+	 *
+	 * @implSpec not volatile. To not cost anything when not counting. Set it before sharing this converter with other threads
+	 */
+	private DispatchMetrics metrics;
 
 	{
 		List<Method> methods = Reflect$.getAllMethods(this.getClass());
@@ -62,20 +99,106 @@ public abstract class AbstractConverter implements Converter {
 		this.methods = new UnmodifiableGroup<>(methods);
 	}
 
+	/**
+	 * Get the listener to be notified about the dispatches of this converter.
+	 *
+	 * @return the listener to be notified about the dispatches of this converter. Or null if no listener is installed
+	 */
+	@Static
+	public DispatchListener getDispatchListener() {
+		return this.listener;
+	}
+
+	/**
+	 * Install the given listener to be notified about the dispatches of this converter. Replacing the previous listener.
+	 *
+	 * @param listener the listener to be notified about the dispatches of this converter. (null to remove the current listener)
+	 * @apiNote set it before sharing this converter with other threads
+	 */
+	@Static
+	public void setDispatchListener(DispatchListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Get the live counters of this converter.
+	 *
+	 * @return the live counters of this converter. Or null if this converter is not counting
+	 */
+	@Static
+	public DispatchMetrics getDispatchMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * Set the live counters of this converter. Replacing the previous counters.
+	 *
+	 * @param metrics the live counters of this converter. (null to stop counting)
+	 * @apiNote set it before sharing this converter with other threads. Use {@link DispatchMetrics#register(Object)} to expose it as an MBean
+	 */
+	@Static
+	public void setDispatchMetrics(DispatchMetrics metrics) {
+		this.metrics = metrics;
+	}
+
 	@Override
 	@Static
 	public <O> O convert(ConvertArguments<?, O> arguments) {
 		Objects.requireNonNull(arguments, "arguments");
 
-		Method method = this.getConvertMethod(arguments.inputClazz.getFamily(), arguments.outputClazz.getFamily());
+		ConvertStack parent = arguments.parent == null ? null : arguments.parent.stack;
 
-		if (method == null)
-			this.convertElse(arguments);
-		else this.convert0(method, arguments);
+		try {
+			new ConvertStack(this, parent != null && parent.quiet).run(arguments);
+		} catch (RuntimeException e) {
+			if (this.metrics != null && arguments.parent == null)
+				//the root. (a nested failure passes through each enclosing conversion)
+				this.metrics.exception(e);
+			throw e;
+		}
 
 		return arguments.output;
 	}
 
+	@Override
+	@Static
+	public <O> O tryConvert(ConvertArguments<?, O> arguments, O fallback) {
+		Objects.requireNonNull(arguments, "arguments");
+
+		try {
+			new ConvertStack(this, true).run(arguments);
+			return arguments.output;
+		} catch (ConvertException e) {
+			if (this.metrics != null)
+				this.metrics.exception(e);
+			return fallback;
+		}
+	}
+
+	/**
+	 * Convert the given arguments. Then pass its output to the given callback. If the parent of the given arguments is being converted by this
+	 * converter, then the conversion will be deferred until the converting method currently running returns. (it will be done before the parent
+	 * completes) Otherwise, the conversion will be done immediately.
+	 *
+	 * @param arguments the conversion instance that holds the variables of the conversion
+	 * @param callback  to be invoked with the output of the conversion after it completes
+	 * @param <O>       the type of the output
+	 * @throws NullPointerException if the given 'arguments' or 'callback' is null
+	 * @throws ConvertException     if any converting error occurred
+	 * @apiNote use this to convert the elements of a container. So deeply nested inputs don't consume the java stack
+	 */
+	@Static
+	protected <O> void convert(ConvertArguments<?, O> arguments, Consumer<? super O> callback) {
+		Objects.requireNonNull(arguments, "arguments");
+		Objects.requireNonNull(callback, "callback");
+
+		ConvertStack stack = arguments.parent == null ? null : arguments.parent.stack;
+
+		if (stack != null && stack.converter == this)
+			stack.push(arguments, callback);
+		else callback.accept(this.convert(arguments));
+	}
+
 	/**
 	 * Invoke the given {@link ConvertMethod} with the given parameters.
 	 *
@@ -101,6 +224,8 @@ public abstract class AbstractConverter implements Converter {
 			Throwable cause = e.getCause();
 			if (cause instanceof ConvertException)
 				throw (ConvertException) cause;
+			else if (this.isQuiet(arguments))
+				throw FAILURE;
 			else throw new ConvertException(cause);
 		}
 	}
@@ -123,11 +248,111 @@ public abstract class AbstractConverter implements Converter {
 			arguments.output = null;
 		} else if (arguments.outputClazz.getKlass().isInstance(arguments.input)) {
 			arguments.output = arguments.input;
+		} else if (this.isQuiet(arguments)) {
+			throw FAILURE;
 		} else {
 			throw new ConvertException("Cannot convert " + arguments.inputClazz.getFamily() + " to " + arguments.outputClazz.getFamily());
 		}
 	}
 
+	/**
+	 * Determine if the failures of the given arguments are expected or not. (it is being converted by {@link #tryConvert(ConvertArguments, Object)})
+	 * Expected failures should be reported by throwing a preallocated stackless {@link ConvertException}. Since the exception will not reach the
+	 * caller anyway.
+	 *
+	 * @param arguments the conversion instance that holds the variables of the conversion
+	 * @return true, if the failures of the given arguments are expected
+	 * @throws NullPointerException if the given 'arguments' is null
+	 */
+	@Static
+	protected boolean isQuiet(ConvertArguments arguments) {
+		Objects.requireNonNull(arguments, "arguments");
+		return arguments.stack != null && arguments.stack.quiet;
+	}
+
+	/**
+	 * Get invoked by the work stack to start converting the given arguments. (the conversions it defers will be done after this returns)
+	 *
+	 * @param arguments the conversion instance that holds the variables of this conversion
+	 * @throws ConvertException if any converting error occurred. (the runtime exceptions thrown by the routine are wrapped like the ones thrown by
+	 *                          the methods invoked by {@link #convert0(Method, ConvertArguments)})
+	 */
+	@Static
+	void convertEnter(ConvertArguments arguments) {
+		if (arguments.graph != null && arguments.input != null) {
+			//shared reference, converted before
+			ConvertArguments done = (ConvertArguments) arguments.graph.get(arguments.input);
+
+			if (done != null && done.isSharableWith(arguments)) {
+				arguments.output = done.output;
+				return;
+			}
+		}
+
+		Consumer<ConvertArguments> routine = this.getConvertRoutine(arguments.inputClazz.getFamily(), arguments.outputClazz.getFamily());
+		DispatchListener listener = this.listener;
+		DispatchMetrics metrics = this.metrics;
+
+		if (metrics != null) {
+			metrics.depth(arguments.depth);
+			if (routine == null)
+				metrics.elseFallback();
+		}
+		if (listener != null) {
+			Object method = routine instanceof MethodRoutine ? ((MethodRoutine) routine).method : routine;
+			arguments.listener = listener;
+			arguments.method = method;
+			listener.onEnter(this, DispatchListener.Operation.CONVERT, method, arguments.inputClazz, arguments.outputClazz, arguments.depth);
+			arguments.nanos = System.nanoTime();
+		}
+
+		if (routine == null)
+			this.convertElse(arguments);
+		else if (routine instanceof MethodRoutine)
+			//wrapped by convert0
+			routine.accept(arguments);
+		else try {
+			routine.accept(arguments);
+		} catch (ConvertException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			if (this.isQuiet(arguments))
+				throw FAILURE;
+			else throw new ConvertException(e);
+		}
+	}
+
+	/**
+	 * Get invoked by the work stack after the given arguments and all the conversions deferred by it are done.
+	 *
+	 * @param arguments the conversion instance that holds the variables of this conversion
+	 */
+	@Static
+	void convertExit(ConvertArguments arguments) {
+		if (arguments.listener != null)
+			arguments.listener.onExit(this, DispatchListener.Operation.CONVERT, arguments.method, arguments.inputClazz, arguments.outputClazz,
+					arguments.depth, System.nanoTime() - arguments.nanos);
+
+		if (arguments.graph != null && arguments.input != null && arguments.inputClazz.getFamily() != Recurse.class)
+			arguments.graph.put(arguments.input, arguments);
+	}
+
+	/**
+	 * Find a routine that converts the given 'inputClass' to the given 'outputClass'. The default implementation returns a routine that invokes the
+	 * method found by {@link #getConvertMethod(Class, Class)}.
+	 *
+	 * @param inputClass  type that the targeted routine can except as a parameter
+	 * @param outputClass type that the targeted routine can return
+	 * @return a routine that can convert the given inputClass to the given outputClass class. Or null if this don't have one
+	 * @throws NullPointerException if any of the given parameters is null
+	 * @apiNote called once for each pair of classes. Then cached by {@link #getConvertRoutine(Class, Class)}
+	 */
+	@Static
+	protected Consumer<ConvertArguments> findConvertRoutine(Class inputClass, Class outputClass) {
+		Method method = this.getConvertMethod(inputClass, outputClass);
+		return method == null ? null : new MethodRoutine(method);
+	}
+
 	/**
 	 * Find a method that converts the given 'inputClass' to the given 'outputClass'.
 	 *
@@ -143,16 +368,114 @@ public abstract class AbstractConverter implements Converter {
 			Objects.requireNonNull(outputClass, "outputClass");
 		}
 
-		//QUERY the best method!
-		Group<Method> valid = this.methods
-				.subGroup(ConvertMethod.class, m -> m.isAnnotationPresent(ConvertMethod.class))
-				.subGroup(Array$.asList(inputClass, outputClass), m -> {
-					ConvertMethod ann = m.getAnnotation(ConvertMethod.class);
-					return MetaFamily.util.test(ann.input(), inputClass) &&
-						   MetaFamily.util.test(ann.output(), outputClass);
-				});
+		synchronized (this.methods) {
+			//QUERY the best method!
+			Group<Method> valid = this.methods
+					.subGroup(ConvertMethod.class, m -> m.isAnnotationPresent(ConvertMethod.class))
+					.subGroup(Array$.asList(inputClass, outputClass), m -> {
+						ConvertMethod ann = m.getAnnotation(ConvertMethod.class);
+						return MetaFamily.util.test(ann.input(), inputClass) &&
+							   MetaFamily.util.test(ann.output(), outputClass);
+					});
+
+			Iterator<Method> i = valid.iterator();
+			return i.hasNext() ? i.next() : null;
+		}
+	}
+
+	/**
+	 * Get the routine that converts the given 'inputClass' to the given 'outputClass'. The results are cached. So only the first call for each pair
+	 * of classes will call {@link #findConvertRoutine(Class, Class)}.
+	 *
+	 * @param inputClass  type that the targeted routine can except as a parameter
+	 * @param outputClass type that the targeted routine can return
+	 * @return a routine that can convert the given inputClass to the given outputClass class. Or null if this don't have one
+	 * @throws NullPointerException if any of the given parameters is null
+	 */
+	@Static
+	protected Consumer<ConvertArguments> getConvertRoutine(Class inputClass, Class outputClass) {
+		if (DEBUGGING) {
+			Objects.requireNonNull(inputClass, "inputClass");
+			Objects.requireNonNull(outputClass, "outputClass");
+		}
+
+		ConcurrentHashMap<Class, Consumer<ConvertArguments>> routines = this.convertRoutines
+				.computeIfAbsent(inputClass, k -> new ConcurrentHashMap<>());
+		Consumer<ConvertArguments> routine = routines.get(outputClass);
+
+		if (routine == null) {
+			if (this.metrics != null)
+				this.metrics.cacheMiss();
+
+			routine = routines.computeIfAbsent(outputClass, k -> {
+				Consumer<ConvertArguments> found = this.findConvertRoutine(inputClass, outputClass);
+				return found == null ? NO_ROUTINE : found;
+			});
+		} else if (this.metrics != null) {
+			this.metrics.cacheHit();
+		}
+
+		return routine == NO_ROUTINE ? null : routine;
+	}
+
+	/**
+	 * Construct a new instance of the given class. Using its public no-args constructor.
+	 *
+	 * @param klass the class to construct a new instance of
+	 * @param <T>   the type of the new instance
+	 * @return a new instance of the given class
+	 * @throws NullPointerException        if the given 'klass' is null
+	 * @throws ReflectiveOperationException if the given class has no public no-args constructor. Or if the constructor failed
+	 * @apiNote use this for the reflective instantiations. So they get counted on the {@link DispatchMetrics} of this
+	 */
+	@Static
+	protected <T> T newInstance(Class<T> klass) throws ReflectiveOperationException {
+		Objects.requireNonNull(klass, "klass");
+
+		if (this.metrics != null)
+			this.metrics.instantiation();
 
-		Iterator<Method> i = valid.iterator();
-		return i.hasNext() ? i.next() : null;
+		return klass.getConstructor().newInstance();
+	}
+
+	/**
+	 * Forget all the cached routines. So the next conversions will find their routines again.
+	 *
+	 * @apiNote call this after changing the results of {@link #findConvertRoutine(Class, Class)}
+	 */
+	@Static
+	protected void invalidateConvertRoutines() {
+		this.convertRoutines = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * A routine that invokes a {@link ConvertMethod} of this converter.
+	 */
+	final protected class MethodRoutine implements Consumer<ConvertArguments> {
+		/**
+		 * The method to be invoked.
+		 */
+		final public Method method;
+
+		/**
+		 * Construct a new routine that invokes the given method.
+		 *
+		 * @param method the method to be invoked
+		 * @throws NullPointerException if the given 'method' is null
+		 */
+		public MethodRoutine(Method method) {
+			Objects.requireNonNull(method, "method");
+			this.method = method;
+		}
+
+		@Override
+		public void accept(ConvertArguments arguments) {
+			AbstractConverter.this.convert0(this.method, arguments);
+		}
+
+		@Override
+		public String toString() {
+			return this.method.toString();
+		}
 	}
 }
@@ -0,0 +1,229 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.convert;
+
+import cufy.lang.Clazz;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A converter facade that does the conversions of a {@link Converter} asynchronously on an {@link Executor}. Batches converted by the same instance
+ * share the same converter (and so the same dispatch caches). And only a bounded count of conversions of a batch will be in-flight at the same
+ * time.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+public class AsyncConverter {
+	/**
+	 * The converter to do the conversions.
+	 */
+	final protected Converter converter;
+	/**
+	 * The executor to do the conversions on.
+	 */
+	final protected Executor executor;
+	/**
+	 * The maximum count of conversions of a batch to be in-flight at the same time.
+	 */
+	final protected int parallelism;
+
+	/**
+	 * Construct a new asynchronous converter.
+	 *
+	 * @param converter   the converter to do the conversions
+	 * @param executor    the executor to do the conversions on
+	 * @param parallelism the maximum count of conversions of a batch to be in-flight at the same time
+	 * @throws NullPointerException     if the given 'converter' or 'executor' is null
+	 * @throws IllegalArgumentException if the given 'parallelism' is less than 1
+	 */
+	public AsyncConverter(Converter converter, Executor executor, int parallelism) {
+		Objects.requireNonNull(converter, "converter");
+		Objects.requireNonNull(executor, "executor");
+		if (parallelism < 1)
+			throw new IllegalArgumentException("parallelism < 1");
+
+		this.converter = converter;
+		this.executor = executor;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Construct a new asynchronous converter. That allows as many conversions of a batch to be in-flight as the available processors.
+	 *
+	 * @param converter the converter to do the conversions
+	 * @param executor  the executor to do the conversions on
+	 * @throws NullPointerException if the given 'converter' or 'executor' is null
+	 */
+	public AsyncConverter(Converter converter, Executor executor) {
+		this(converter, executor, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Construct a new asynchronous converter. That does the conversions on the {@link #defaultExecutor()}.
+	 *
+	 * @param converter the converter to do the conversions
+	 * @throws NullPointerException if the given 'converter' is null
+	 */
+	public AsyncConverter(Converter converter) {
+		this(converter, AsyncConverter.defaultExecutor());
+	}
+
+	/**
+	 * Get the default executor for asynchronous conversions. A virtual thread per task executor if the running java supports virtual threads (21+).
+	 * Otherwise, the {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @return the default executor for asynchronous conversions
+	 */
+	public static Executor defaultExecutor() {
+		return DefaultExecutor.executor;
+	}
+
+	/**
+	 * Asynchronously, set the {@link ConvertArguments#output} on the given arguments to a value of the {@link ConvertArguments#input}, but as the
+	 * class specified as in the {@link ConvertArguments#outputClazz}.
+	 *
+	 * @param arguments the conversion instance that holds the variables of this conversion
+	 * @param <O>       the type of the output
+	 * @return a future of the output. (completed exceptionally with a {@link ConvertException} if any converting error occurred)
+	 * @throws NullPointerException if the given 'arguments' is null
+	 */
+	public <O> CompletableFuture<O> convert(ConvertArguments<?, O> arguments) {
+		Objects.requireNonNull(arguments, "arguments");
+		return CompletableFuture.supplyAsync(() -> this.converter.convert(arguments), this.executor);
+	}
+
+	/**
+	 * Asynchronously, output the value of the 'input', but as the 'outputClazz'.
+	 *
+	 * @param input       the input instance (source of inputClazz)
+	 * @param outputClazz the clazz to be for the output
+	 * @param <I>         the type of the input
+	 * @param <O>         the type of the output
+	 * @return a future of the output. (completed exceptionally with a {@link ConvertException} if any converting error occurred)
+	 * @throws NullPointerException if the given 'outputClazz' is null
+	 */
+	public <I, O> CompletableFuture<O> convert(I input, Clazz outputClazz) {
+		return this.convert(new ConvertArguments<I, O>(input, outputClazz));
+	}
+
+	/**
+	 * Asynchronously, convert each arguments on the given batch. Only {@link #parallelism} conversions of the batch will be in-flight at the same
+	 * time. If any conversion fails, then the remaining conversions will not be started.
+	 *
+	 * @param batch the conversion instances that holds the variables of the conversions
+	 * @param <O>   the type of the outputs
+	 * @return a future of the outputs. In the same order as the given batch. (completed exceptionally with the first error occurred)
+	 * @throws NullPointerException if the given 'batch' or any of its elements is null
+	 */
+	public <O> CompletableFuture<List<O>> convertAll(List<? extends ConvertArguments<?, ? extends O>> batch) {
+		Objects.requireNonNull(batch, "batch");
+		ConvertArguments[] arguments = batch.toArray(new ConvertArguments[0]);
+		for (ConvertArguments argument : arguments)
+			Objects.requireNonNull(argument, "batch[?]");
+
+		CompletableFuture<List<O>> future = new CompletableFuture<>();
+
+		if (arguments.length == 0) {
+			future.complete(Collections.emptyList());
+			return future;
+		}
+
+		Object[] outputs = new Object[arguments.length];
+		AtomicInteger next = new AtomicInteger();
+		AtomicInteger running = new AtomicInteger(Math.min(this.parallelism, arguments.length));
+
+		//each worker pulls the next conversion until the batch is done. So no more than 'parallelism' conversions are in-flight
+		Runnable worker = () -> {
+			try {
+				for (int i = next.getAndIncrement(); i < arguments.length && !future.isDone(); i = next.getAndIncrement())
+					outputs[i] = this.converter.convert(arguments[i]);
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+
+			if (running.decrementAndGet() == 0)
+				future.complete((List<O>) new ArrayList<>(Arrays.asList(outputs)));
+		};
+
+		for (int i = running.get(); i > 0; i--)
+			try {
+				this.executor.execute(worker);
+			} catch (RuntimeException e) {
+				//rejected. Let the other workers do the work
+				if (running.decrementAndGet() == 0)
+					if (next.get() == 0)
+						//no worker got executed
+						future.completeExceptionally(e);
+					else future.complete((List<O>) new ArrayList<>(Arrays.asList(outputs)));
+			}
+
+		return future;
+	}
+
+	/**
+	 * Asynchronously, output the value of each input on the given batch, but as the 'outputClazz'.
+	 *
+	 * @param inputs      the input instances (source of inputClazz)
+	 * @param outputClazz the clazz to be for the outputs
+	 * @param <O>         the type of the outputs
+	 * @return a future of the outputs. In the same order as the given inputs. (completed exceptionally with the first error occurred)
+	 * @throws NullPointerException if the given 'inputs' or 'outputClazz' is null
+	 */
+	public <O> CompletableFuture<List<O>> convertAll(List<?> inputs, Clazz<O> outputClazz) {
+		Objects.requireNonNull(inputs, "inputs");
+		Objects.requireNonNull(outputClazz, "outputClazz");
+
+		List<ConvertArguments<?, O>> batch = new ArrayList<>(inputs.size());
+		for (Object input : inputs)
+			batch.add(new ConvertArguments<>(input, outputClazz));
+
+		return this.convertAll(batch);
+	}
+
+	/**
+	 * A holder for the default executor. To not initialize it until it is needed.
+	 */
+	final private static class DefaultExecutor {
+		/**
+		 * The default executor.
+		 */
+		final static Executor executor;
+
+		static {
+			Executor virtual;
+
+			try {
+				//java 21+
+				virtual = (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException | RuntimeException ignored) {
+				virtual = ForkJoinPool.commonPool();
+			}
+
+			executor = virtual;
+		}
+	}
+}
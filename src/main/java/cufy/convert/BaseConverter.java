@@ -16,12 +16,14 @@
 package cufy.convert;
 
 import com.sun.nio.sctp.IllegalReceiveException;
+import cufy.lang.Clazz;
 import cufy.lang.Recurse;
 import cufy.lang.Static;
 import cufy.meta.MetaFamily;
 import cufy.meta.MetaReference;
 
 import java.lang.reflect.Array;
+import java.nio.*;
 import java.util.*;
 
 /**
@@ -34,12 +36,21 @@ import java.util.*;
  *         <ul>
  *
  *             <li>{@link #array_array}</li>
+ *             <li>{@link #array_buffer}</li>
  *             <li>{@link #array_collection}</li>
  *             <li>{@link #array_list}</li>
+ *             <li>{@link #buffer_array}</li>
  *             <li>{@link #collection_array}</li>
  *         </ul>
  *     </li>
  *     <li>
+ *         <b>Buffers</b>
+ *         <ul>
+ *             <li>{@link #array_buffer}</li>
+ *             <li>{@link #buffer_array}</li>
+ *         </ul>
+ *     </li>
+ *     <li>
  *         <b>Collections</b>
  *         <ul>
  *             <li>{@link #collection_array}</li>
@@ -97,6 +108,22 @@ public class BaseConverter extends AbstractConverter {
 	@MetaReference
 	final public static BaseConverter global = new BaseConverter();
 
+	/**
+	 * If the output of a conversion between a primitive array and a buffer is allowed to share the content of the input or not. (zero-copy
+	 * wrapping)
+	 *
+	 * @implSpec if this set true, changes to the input may be visible on the output and vice versa
+	 */
+	protected boolean ALIASING = false;
+	/**
+	 * The byte order of the byte buffers allocated by this converter. (and of the views of the direct byte buffers allocated by it)
+	 */
+	protected ByteOrder BYTE_ORDER = ByteOrder.BIG_ENDIAN;
+	/**
+	 * If the buffers allocated by this converter should be direct or not.
+	 */
+	protected boolean DIRECT_BUFFERS = false;
+
 	{
 		DEBUGGING = false;
 	}
@@ -164,18 +191,110 @@ public class BaseConverter extends AbstractConverter {
 			//output presented is not valid
 			arguments.output = Array.newInstance(arguments.outputClazz.getKlass().getComponentType(), length);
 
+		Object output = arguments.output;
+
 		//converting foreach element
 		for (int i = 0; i < length; i++) {
 			//init
-			Object outputElement = Array.get(arguments.output, i);
+			int index = i;
+			Object outputElement = Array.get(output, i);
 			Object inputElement = Array.get(arguments.input, i);
 
 			//DyNaMiC cOnVeRsIoN _/-\_/-\_/- :0 ~ MA-GI-KKU
-			outputElement = this.convert(new ConvertArguments(arguments, inputElement, outputElement, 0));
-
 			//Replace the element at the output with the converted element from the input
-			Array.set(arguments.output, i, outputElement);
+			this.convert(new ConvertArguments<>(arguments, inputElement, outputElement, 0), element -> Array.set(output, index, element));
+		}
+	}
+
+	/**
+	 * Array => Buffer
+	 * <br/>
+	 * Set the content of the {@link ConvertArguments#output} from the given arguments to the elements of the given {@link ConvertArguments#input}.
+	 * Using bulk puts (and view buffers for byte buffers). Or converting each element (like {@link #array_array}) if the input and the output have
+	 * different element types. If the output is null, or have a type different than the class at {@link
+	 * ConvertArguments#outputClazz}, or is read-only, or don't have enough capacity. Then it will be replaced with a new buffer (direct if {@link
+	 * #DIRECT_BUFFERS}, ordered as {@link #BYTE_ORDER}). Or with a buffer wrapping the input (ordered as {@link #BYTE_ORDER}) if {@link #ALIASING}
+	 * is allowed and the input have the same element type as the output. The output will be flipped (ready to be read) after the conversion.
+	 *
+	 * @param arguments the conversion instance that holds the variables of this conversion
+	 * @throws NullPointerException     if the given 'arguments' or 'arguments.input' is null
+	 * @throws IllegalArgumentException if the given 'input' isn't a primitive array. Or if the given 'outputClass' is not a class for buffers
+	 */
+	@ConvertMethod(
+			input = @MetaFamily(
+					in = {byte[].class,
+						  double[].class,
+						  float[].class,
+						  int[].class,
+						  long[].class,
+						  short[].class
+					}),
+			output = @MetaFamily(
+					subin = {ByteBuffer.class,
+							 DoubleBuffer.class,
+							 IntBuffer.class,
+							 LongBuffer.class
+					}))
+	protected void array_buffer(ConvertArguments<Object, Buffer> arguments) {
+		if (DEBUGGING) {
+			Objects.requireNonNull(arguments, "arguments");
+			Objects.requireNonNull(arguments.input, "arguments.input");
+
+			if (!arguments.input.getClass().isArray() || !arguments.input.getClass().getComponentType().isPrimitive())
+				throw new IllegalArgumentException(arguments.input + " is not a primitive array");
+			if (!Buffer.class.isAssignableFrom(arguments.outputClazz.getKlass()))
+				throw new IllegalArgumentException(arguments.outputClazz.getKlass() + " is not a class for buffers");
+		}
+
+		Class klass = arguments.outputClazz.getKlass();
+		Class component = arguments.input.getClass().getComponentType();
+		int length = Array.getLength(arguments.input);
+		//the count of the elements needed on the output
+		int capacity = ByteBuffer.class.isAssignableFrom(klass) ? length * BaseConverter.sizeOf(component) : length;
+
+		//Replace if the output is incompatible
+		if (!klass.isInstance(arguments.output) || arguments.output.isReadOnly() || arguments.output.capacity() < capacity) {
+			Buffer wrapped = ALIASING && !DIRECT_BUFFERS ? BaseConverter.wrap(arguments.input, klass, BYTE_ORDER) : null;
+
+			if (wrapped != null) {
+				//zero-copy
+				arguments.output = wrapped;
+				return;
+			}
+
+			//output presented is not valid
+			arguments.output = this.allocate(klass, capacity);
 		}
+
+		arguments.output.clear();
+
+		if (arguments.output instanceof ByteBuffer) {
+			ByteBuffer output = (ByteBuffer) arguments.output;
+			BaseConverter.put(BaseConverter.view(output, component), arguments.input);
+			//through Buffer. (ByteBuffer.position(int) is java 9+)
+			((Buffer) output).position(capacity);
+		} else if (BaseConverter.elementOf(arguments.output) == component) {
+			BaseConverter.put(arguments.output, arguments.input);
+		} else {
+			Buffer output = arguments.output;
+			Clazz inputClazz = Clazz.of(component);
+			Clazz outputClazz = Clazz.of(BaseConverter.elementOf(output));
+
+			//converting foreach element (different element types)
+			for (int i = 0; i < length; i++) {
+				//init
+				int index = i;
+				Object inputElement = Array.get(arguments.input, i);
+
+				//absolute. The elements can be converted after the output is flipped
+				this.convert(new ConvertArguments<>(arguments, inputElement, null, inputClazz, outputClazz, 0),
+						element -> BaseConverter.set(output, index, (Number) element));
+			}
+
+			output.position(length);
+		}
+
+		arguments.output.flip();
 	}
 
 	/**
@@ -225,20 +344,19 @@ public class BaseConverter extends AbstractConverter {
 		//Replace if the output is incompatible
 		if (!arguments.outputClazz.getKlass().isInstance(arguments.output))
 			//output presented is not valid
-			arguments.output = arguments.outputClazz.getKlass().getConstructor().newInstance();
+			arguments.output = this.newInstance(arguments.outputClazz.getKlass());
 		else //fresh start
 			arguments.output.clear();
 
+		Collection output = arguments.output;
+
 		for (int i = 0; i < length; i++) {
 			//init
 			Object inputElement = Array.get(arguments.input, i);
-			Object outputElement;
 
 			//DyNaMiC cOnVeRsIoN _/-\_/-\_/- :0 ~ MA-GI-KKU
-			outputElement = this.convert(new ConvertArguments<>(arguments, inputElement, 0));
-
 			//Set the elements from the input
-			arguments.output.add(outputElement);
+			this.convert(new ConvertArguments<>(arguments, inputElement, 0), output::add);
 		}
 	}
 
@@ -290,22 +408,115 @@ public class BaseConverter extends AbstractConverter {
 		//Replace if the output is incompatible
 		if (!arguments.outputClazz.getKlass().isInstance(arguments.output))
 			//output presented is not valid
-			arguments.output = arguments.outputClazz.getKlass().getConstructor().newInstance();
+			arguments.output = this.newInstance(arguments.outputClazz.getKlass());
 
-		int size = arguments.output.size();
+		List output = arguments.output;
+		int size = output.size();
 
 		for (int i = 0; i < length; i++) {
 			//init
+			int index = i;
 			Object inputElement = Array.get(arguments.input, i);
-			Object outputElement = i < size ? arguments.output.get(i) : null;
+			Object outputElement = i < size ? output.get(i) : null;
 
 			//DyNaMiC cOnVeRsIoN _/-\_/-\_/- :0 ~ MA-GI-KKU
-			outputElement = this.convert(new ConvertArguments<>(arguments, inputElement, outputElement, 0));
-
 			//Set the elements from the input
-			if (i < size)
-				arguments.output.set(i, outputElement);
-			else arguments.output.add(outputElement);
+			this.convert(new ConvertArguments<>(arguments, inputElement, outputElement, 0), element -> {
+				if (index < size)
+					output.set(index, element);
+				else output.add(element);
+			});
+		}
+	}
+
+	/**
+	 * Buffer => Array
+	 * <br/>
+	 * Replace the elements on the {@link ConvertArguments#output} from the given arguments. With the remaining elements of the given {@link
+	 * ConvertArguments#input}. Using bulk gets (and view buffers for byte buffers). Or converting each element (like {@link #array_array}) if the
+	 * input and the output have different element types. The position of the input will not be changed. If the output is
+	 * null, or have a different length, or have a type different than the class at {@link ConvertArguments#outputClazz}. Then it will be replaced
+	 * with a new array. Or with the backing array of the input if {@link #ALIASING} is allowed and the input is exactly backed by an array of the
+	 * output class.
+	 *
+	 * @param arguments the conversion instance that holds the variables of this conversion
+	 * @throws NullPointerException     if the given 'arguments' or 'arguments.input' is null
+	 * @throws IllegalArgumentException if the given 'input' isn't a buffer. Or if the given 'outputClass' is not a class for primitive arrays. Or if
+	 *                                  the remaining bytes of a byte buffer can't be divided into elements of the output
+	 */
+	@ConvertMethod(
+			input = @MetaFamily(
+					subin = {ByteBuffer.class,
+							 DoubleBuffer.class,
+							 IntBuffer.class,
+							 LongBuffer.class
+					}),
+			output = @MetaFamily(
+					in = {byte[].class,
+						  double[].class,
+						  float[].class,
+						  int[].class,
+						  long[].class,
+						  short[].class
+					}))
+	protected void buffer_array(ConvertArguments<Buffer, Object> arguments) {
+		if (DEBUGGING) {
+			Objects.requireNonNull(arguments, "arguments");
+			Objects.requireNonNull(arguments.input, "arguments.input");
+
+			if (!(arguments.input instanceof Buffer))
+				throw new IllegalArgumentException(arguments.input + " is not a buffer");
+			if (!arguments.outputClazz.getKlass().isArray() || !arguments.outputClazz.getKlass().getComponentType().isPrimitive())
+				throw new IllegalArgumentException(arguments.outputClazz.getKlass() + " is not a class for primitive arrays");
+		}
+
+		Class klass = arguments.outputClazz.getKlass();
+		Class component = klass.getComponentType();
+		//to not change the position of the input
+		Buffer input = BaseConverter.duplicate(arguments.input);
+
+		if (input instanceof ByteBuffer) {
+			int size = BaseConverter.sizeOf(component);
+
+			if (input.remaining() % size != 0)
+				throw new IllegalArgumentException(input + " remaining bytes can't be divided into " + component + " elements");
+
+			input = BaseConverter.view((ByteBuffer) input, component);
+		}
+
+		int length = input.remaining();
+
+		if (ALIASING && input.hasArray() && input.arrayOffset() == 0 && input.position() == 0 && klass.isInstance(input.array()) &&
+			Array.getLength(input.array()) == length) {
+			//zero-copy
+			arguments.output = input.array();
+			return;
+		}
+
+		//Replace if the output is incompatible
+		if (!klass.isInstance(arguments.output) || Array.getLength(arguments.output) != length)
+			//output presented is not valid
+			arguments.output = Array.newInstance(component, length);
+
+		if (BaseConverter.elementOf(input) == component) {
+			BaseConverter.get(input, arguments.output);
+			return;
+		}
+
+		Object output = arguments.output;
+		Clazz inputClazz = Clazz.of(BaseConverter.elementOf(input));
+		Clazz outputClazz = Clazz.of(component);
+		int position = input.position();
+
+		//converting foreach element (different element types)
+		for (int i = 0; i < length; i++) {
+			//init
+			int index = i;
+			Object inputElement = BaseConverter.get(input, position + i);
+
+			//Replace the element at the output with the converted element from the input
+			this.convert(new ConvertArguments<>(arguments, inputElement, null, inputClazz, outputClazz, 0),
+					element -> Array.set(output, index, element));
 		}
 	}
 
@@ -355,17 +566,18 @@ public class BaseConverter extends AbstractConverter {
 		if (!arguments.outputClazz.getKlass().isInstance(arguments.output) || Array.getLength(arguments.output) != length)
 			arguments.output = Array.newInstance(arguments.outputClazz.getKlass().getComponentType(), length);
 
+		Object output = arguments.output;
+
 		Iterator it = arguments.input.iterator();
 		for (int i = 0; i < length; i++) {
 			//init
+			int index = i;
 			Object inputElement = it.next();
-			Object outputElement = Array.get(arguments.input, i);
+			Object outputElement = Array.get(output, i);
 
 			//DyNaMiC cOnVeRsIoN _/-\_/-\_/- :0 ~ MA-GI-KKU
-			outputElement = this.convert(new ConvertArguments<>(arguments, inputElement, outputElement, 0));
-
 			//Replace the element at the output with the converted element from the input
-			Array.set(arguments.input, i, outputElement);
+			this.convert(new ConvertArguments<>(arguments, inputElement, outputElement, 0), element -> Array.set(output, index, element));
 		}
 	}
 
@@ -406,18 +618,17 @@ public class BaseConverter extends AbstractConverter {
 		int length = arguments.input.size();
 
 		if (!arguments.outputClazz.getKlass().isInstance(arguments.output))
-			arguments.output = arguments.outputClazz.getKlass().getConstructor().newInstance();
+			arguments.output = this.newInstance(arguments.outputClazz.getKlass());
 		else arguments.output.clear();
 
+		Collection output = arguments.output;
+
 		Iterator it = arguments.input.iterator();
 		for (int i = 0; i < length; i++) {
 			Object inputElement = it.next();
-			Object outputElement;
 
 			//DyNaMiC cOnVeRsIoN _/-\_/-\_/- :0 ~ MA-GI-KKU
-			outputElement = this.convert(new ConvertArguments<>(arguments, inputElement, 0));
-
-			arguments.output.add(outputElement);
+			this.convert(new ConvertArguments<>(arguments, inputElement, 0), output::add);
 		}
 	}
 
@@ -457,21 +668,23 @@ public class BaseConverter extends AbstractConverter {
 		int length = arguments.input.size();
 
 		if (!arguments.outputClazz.getKlass().isInstance(arguments.output))
-			arguments.output = arguments.outputClazz.getKlass().getConstructor().newInstance();
+			arguments.output = this.newInstance(arguments.outputClazz.getKlass());
 
-		int size = arguments.output.size();
+		List output = arguments.output;
+		int size = output.size();
 
 		Iterator it = arguments.input.iterator();
 		for (int i = 0; i < length; i++) {
+			int index = i;
 			Object inputElement = it.next();
-			Object outputElement = i < size ? arguments.output.get(i) : null;
+			Object outputElement = i < size ? output.get(i) : null;
 
 			//DyNaMiC cOnVeRsIoN _/-\_/-\_/- :0 ~ MA-GI-KKU
-			outputElement = this.convert(new ConvertArguments<>(arguments, inputElement, outputElement, 0));
-
-			if (i < size)
-				arguments.output.set(i, outputElement);
-			else arguments.output.add(outputElement);
+			this.convert(new ConvertArguments<>(arguments, inputElement, outputElement, 0), element -> {
+				if (index < size)
+					output.set(index, element);
+				else output.add(element);
+			});
 		}
 	}
 
@@ -509,19 +722,19 @@ public class BaseConverter extends AbstractConverter {
 		}
 
 		if (!arguments.outputClazz.getKlass().isInstance(arguments.output))
-			arguments.output = arguments.outputClazz.getKlass().getConstructor().newInstance();
+			arguments.output = this.newInstance(arguments.outputClazz.getKlass());
 
 		arguments.output.keySet().retainAll(arguments.input.keySet());
 
+		Map output = arguments.output;
+
 		for (Map.Entry inputEntry : (Set<Map.Entry>) arguments.input.entrySet()) {
 			Object key = inputEntry.getKey();
 
 			Object inputElement = inputEntry.getValue();
-			Object outputElement = arguments.output.get(key);
-
-			outputElement = this.convert(new ConvertArguments<>(arguments, inputElement, outputElement, 1));
+			Object outputElement = output.get(key);
 
-			arguments.output.put(key, outputElement);
+			this.convert(new ConvertArguments<>(arguments, inputElement, outputElement, 1), element -> output.put(key, element));
 		}
 	}
 
@@ -844,6 +1057,9 @@ public class BaseConverter extends AbstractConverter {
 	 * <br/>
 	 * Try to construct a new object of the value of the given {@link ConvertArguments#input} with type of the {@link ConvertArguments#outputClazz}.
 	 * Using ether a method with a signature equals to 'valueOf(String)'. Or a constructor with a signature equals to '(String)'.
+	 * <br/>
+	 * String => String is left to {@link #object_string}. (both would match it. And the first found would depend on the order of the reflected
+	 * methods)
 	 *
 	 * @param arguments the conversion instance that holds the variables of this conversion
 	 * @throws NullPointerException         if the given 'arguments' or 'input' is null
@@ -865,7 +1081,9 @@ public class BaseConverter extends AbstractConverter {
 						  int.class,
 						  long.class,
 						  short.class
-					}))
+					},
+					out = String.class
+			))
 	protected void string_object(ConvertArguments<String, Object> arguments) throws ReflectiveOperationException {
 		if (DEBUGGING) {
 			Objects.requireNonNull(arguments, "arguments");
@@ -889,4 +1107,249 @@ public class BaseConverter extends AbstractConverter {
 			}
 		}
 	}
+
+	/**
+	 * Get a duplicate of the given buffer. (a buffer sharing the content of the given buffer, with its own position, limit and mark)
+	 *
+	 * @param buffer the buffer to get a duplicate of
+	 * @return a duplicate of the given buffer (with the same byte order if it is a byte buffer)
+	 * @throws IllegalArgumentException if the given buffer is not a byte, double, int or long buffer
+	 */
+	@Static
+	private static Buffer duplicate(Buffer buffer) {
+		if (buffer instanceof ByteBuffer)
+			//duplicate() resets the order
+			return ((ByteBuffer) buffer).duplicate().order(((ByteBuffer) buffer).order());
+		if (buffer instanceof DoubleBuffer)
+			return ((DoubleBuffer) buffer).duplicate();
+		if (buffer instanceof IntBuffer)
+			return ((IntBuffer) buffer).duplicate();
+		if (buffer instanceof LongBuffer)
+			return ((LongBuffer) buffer).duplicate();
+
+		throw new IllegalArgumentException(buffer + " is not a byte, double, int or long buffer");
+	}
+
+	/**
+	 * Get the count of bytes needed to store an element of the given primitive class.
+	 *
+	 * @param klass the primitive class of the element
+	 * @return the count of bytes needed to store an element of the given class
+	 * @throws IllegalArgumentException if the given class is not a numeric primitive class
+	 */
+	@Static
+	private static int sizeOf(Class klass) {
+		if (klass == byte.class)
+			return Byte.BYTES;
+		if (klass == double.class)
+			return Double.BYTES;
+		if (klass == float.class)
+			return Float.BYTES;
+		if (klass == int.class)
+			return Integer.BYTES;
+		if (klass == long.class)
+			return Long.BYTES;
+		if (klass == short.class)
+			return Short.BYTES;
+
+		throw new IllegalArgumentException(klass + " is not a numeric primitive class");
+	}
+
+	/**
+	 * Get a view of the given byte buffer with elements of the given primitive class. Starting at the position of the given buffer.
+	 *
+	 * @param buffer the byte buffer to get a view of
+	 * @param klass  the primitive class of the elements of the view
+	 * @return a view of the given byte buffer
+	 * @throws IllegalArgumentException if the given class is not a numeric primitive class
+	 */
+	@Static
+	private static Buffer view(ByteBuffer buffer, Class klass) {
+		if (klass == byte.class)
+			return buffer;
+		if (klass == double.class)
+			return buffer.asDoubleBuffer();
+		if (klass == float.class)
+			return buffer.asFloatBuffer();
+		if (klass == int.class)
+			return buffer.asIntBuffer();
+		if (klass == long.class)
+			return buffer.asLongBuffer();
+		if (klass == short.class)
+			return buffer.asShortBuffer();
+
+		throw new IllegalArgumentException(klass + " is not a numeric primitive class");
+	}
+
+	/**
+	 * Wrap the given primitive array with a buffer of the given class. (zero-copy)
+	 *
+	 * @param array the array to be wrapped
+	 * @param klass the class of the buffer
+	 * @param order the byte order of the buffer if it is a byte buffer
+	 * @return a buffer wrapping the given array. Or null if the given array can't be wrapped with a buffer of the given class
+	 */
+	@Static
+	private static Buffer wrap(Object array, Class klass, ByteOrder order) {
+		if (array instanceof byte[] && klass.isAssignableFrom(ByteBuffer.class))
+			return ByteBuffer.wrap((byte[]) array).order(order);
+		if (array instanceof double[] && klass.isAssignableFrom(DoubleBuffer.class))
+			return DoubleBuffer.wrap((double[]) array);
+		if (array instanceof int[] && klass.isAssignableFrom(IntBuffer.class))
+			return IntBuffer.wrap((int[]) array);
+		if (array instanceof long[] && klass.isAssignableFrom(LongBuffer.class))
+			return LongBuffer.wrap((long[]) array);
+
+		return null;
+	}
+
+	/**
+	 * Get the primitive class of the elements of the given buffer.
+	 *
+	 * @param buffer the buffer to get the class of its elements
+	 * @return the primitive class of the elements of the given buffer
+	 * @throws IllegalArgumentException if the given buffer is not a byte, double, float, int, long or short buffer
+	 */
+	@Static
+	private static Class elementOf(Buffer buffer) {
+		if (buffer instanceof ByteBuffer)
+			return byte.class;
+		if (buffer instanceof DoubleBuffer)
+			return double.class;
+		if (buffer instanceof FloatBuffer)
+			return float.class;
+		if (buffer instanceof IntBuffer)
+			return int.class;
+		if (buffer instanceof LongBuffer)
+			return long.class;
+		if (buffer instanceof ShortBuffer)
+			return short.class;
+
+		throw new IllegalArgumentException(buffer + " is not a byte, double, float, int, long or short buffer");
+	}
+
+	/**
+	 * Get the element at the given index of the given buffer. (boxed)
+	 *
+	 * @param buffer the buffer to get the element from
+	 * @param index  the index of the element
+	 * @return the element at the given index of the given buffer
+	 * @throws IndexOutOfBoundsException if the given index is not smaller than the limit of the given buffer
+	 * @throws IllegalArgumentException  if the given buffer is not a double, int or long buffer
+	 */
+	@Static
+	private static Number get(Buffer buffer, int index) {
+		if (buffer instanceof DoubleBuffer)
+			return ((DoubleBuffer) buffer).get(index);
+		if (buffer instanceof IntBuffer)
+			return ((IntBuffer) buffer).get(index);
+		if (buffer instanceof LongBuffer)
+			return ((LongBuffer) buffer).get(index);
+
+		throw new IllegalArgumentException(buffer + " is not a double, int or long buffer");
+	}
+
+	/**
+	 * Transfer the remaining elements of the given buffer to the given primitive array. (bulk)
+	 *
+	 * @param buffer the buffer to get the elements from
+	 * @param array  the array to put the elements to. (with the same element type as the given buffer)
+	 * @throws BufferUnderflowException if the given buffer don't have enough remaining elements
+	 * @throws IllegalArgumentException if the given buffer and array have different element types
+	 */
+	@Static
+	private static void get(Buffer buffer, Object array) {
+		if (buffer instanceof ByteBuffer && array instanceof byte[])
+			((ByteBuffer) buffer).get((byte[]) array);
+		else if (buffer instanceof DoubleBuffer && array instanceof double[])
+			((DoubleBuffer) buffer).get((double[]) array);
+		else if (buffer instanceof FloatBuffer && array instanceof float[])
+			((FloatBuffer) buffer).get((float[]) array);
+		else if (buffer instanceof IntBuffer && array instanceof int[])
+			((IntBuffer) buffer).get((int[]) array);
+		else if (buffer instanceof LongBuffer && array instanceof long[])
+			((LongBuffer) buffer).get((long[]) array);
+		else if (buffer instanceof ShortBuffer && array instanceof short[])
+			((ShortBuffer) buffer).get((short[]) array);
+		else throw new IllegalArgumentException(buffer + " and " + array + " have different element types");
+	}
+
+	/**
+	 * Transfer the elements of the given primitive array to the given buffer. (bulk)
+	 *
+	 * @param buffer the buffer to put the elements to
+	 * @param array  the array to get the elements from. (with the same element type as the given buffer)
+	 * @throws BufferOverflowException  if the given buffer don't have enough remaining space
+	 * @throws IllegalArgumentException if the given buffer and array have different element types
+	 */
+	@Static
+	private static void put(Buffer buffer, Object array) {
+		if (buffer instanceof ByteBuffer && array instanceof byte[])
+			((ByteBuffer) buffer).put((byte[]) array);
+		else if (buffer instanceof DoubleBuffer && array instanceof double[])
+			((DoubleBuffer) buffer).put((double[]) array);
+		else if (buffer instanceof FloatBuffer && array instanceof float[])
+			((FloatBuffer) buffer).put((float[]) array);
+		else if (buffer instanceof IntBuffer && array instanceof int[])
+			((IntBuffer) buffer).put((int[]) array);
+		else if (buffer instanceof LongBuffer && array instanceof long[])
+			((LongBuffer) buffer).put((long[]) array);
+		else if (buffer instanceof ShortBuffer && array instanceof short[])
+			((ShortBuffer) buffer).put((short[]) array);
+		else throw new IllegalArgumentException(buffer + " and " + array + " have different element types");
+	}
+
+	/**
+	 * Set the element at the given index of the given buffer.
+	 *
+	 * @param buffer  the buffer to set the element of
+	 * @param index   the index of the element
+	 * @param element the element to be set. (a number of the element type of the given buffer)
+	 * @throws IndexOutOfBoundsException if the given index is not smaller than the limit of the given buffer
+	 * @throws IllegalArgumentException  if the given buffer is not a double, int or long buffer
+	 */
+	@Static
+	private static void set(Buffer buffer, int index, Number element) {
+		if (buffer instanceof DoubleBuffer)
+			((DoubleBuffer) buffer).put(index, element.doubleValue());
+		else if (buffer instanceof IntBuffer)
+			((IntBuffer) buffer).put(index, element.intValue());
+		else if (buffer instanceof LongBuffer)
+			((LongBuffer) buffer).put(index, element.longValue());
+		else throw new IllegalArgumentException(buffer + " is not a double, int or long buffer");
+	}
+
+	/**
+	 * Allocate a new buffer of the given class. Direct if {@link #DIRECT_BUFFERS}. The byte buffers (and the views of the direct byte buffers) are
+	 * ordered as {@link #BYTE_ORDER}. The other heap buffers are backed by arrays of their element type. (so the bulk transfers are array copies)
+	 *
+	 * @param klass    the class of the buffer
+	 * @param capacity the count of elements of the buffer
+	 * @return a new buffer of the given class
+	 * @throws IllegalArgumentException if the given class is not a class for byte, double, int or long buffers
+	 */
+	@Static
+	protected Buffer allocate(Class klass, int capacity) {
+		Class element = ByteBuffer.class.isAssignableFrom(klass) ? byte.class :
+						DoubleBuffer.class.isAssignableFrom(klass) ? double.class :
+						IntBuffer.class.isAssignableFrom(klass) ? int.class :
+						LongBuffer.class.isAssignableFrom(klass) ? long.class : null;
+
+		if (element == null)
+			throw new IllegalArgumentException(klass + " is not a class for byte, double, int or long buffers");
+
+		if (!DIRECT_BUFFERS) {
+			if (element == double.class)
+				return DoubleBuffer.allocate(capacity);
+			if (element == int.class)
+				return IntBuffer.allocate(capacity);
+			if (element == long.class)
+				return LongBuffer.allocate(capacity);
+		}
+
+		int size = capacity * BaseConverter.sizeOf(element);
+		ByteBuffer bytes = DIRECT_BUFFERS ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+
+		return BaseConverter.view(bytes.order(BYTE_ORDER), element);
+	}
 }
@@ -16,8 +16,11 @@
 package cufy.convert;
 
 import cufy.lang.Clazz;
+import cufy.lang.DispatchListener;
 import cufy.lang.Recurse;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -42,6 +45,13 @@ public class ConvertArguments<I, O> {
 	 * The class that the output should have.
 	 */
 	final public Clazz<O> outputClazz;
+	/**
+	 * The conversions done on the inputs of this conversion graph. Mapped by the identity of the input. (null if this conversion is not in graph
+	 * mode)
+	 *
+	 * @implSpec shared between all the arguments of the same conversion
+	 */
+	final public Map<Object, ConvertArguments> graph;
 	/**
 	 * The convert-arguments for the conversion that required initializing this arguments.
 	 */
@@ -54,6 +64,22 @@ public class ConvertArguments<I, O> {
 	 * The output of the conversion. (could be changed several times!)
 	 */
 	public O output;
+	/**
+	 * The work stack currently converting this arguments. (null if this arguments is not being converted)
+	 */
+	ConvertStack stack;
+	/**
+	 * The listener that has been notified about entering the conversion of this arguments. (null if not traced)
+	 */
+	DispatchListener listener;
+	/**
+	 * The method the conversion of this arguments has been dispatched to. (only set if traced)
+	 */
+	Object method;
+	/**
+	 * The {@link System#nanoTime()} when the conversion of this arguments entered. (only set if traced)
+	 */
+	long nanos;
 
 	/**
 	 * Construct a new conversion arguments instance.
@@ -66,6 +92,21 @@ public class ConvertArguments<I, O> {
 	 * @throws NullPointerException if the given 'inputClass' or 'outputClass' is null
 	 */
 	public ConvertArguments(ConvertArguments parent, I input, O output, Clazz inputClazz, Clazz outputClazz) {
+		this(parent, input, output, inputClazz, outputClazz, parent == null ? null : parent.graph);
+	}
+
+	/**
+	 * Construct a new conversion arguments instance.
+	 *
+	 * @param parent      the parent converting-arguments
+	 * @param input       the input instance
+	 * @param output      the initial output instance
+	 * @param inputClazz  the clazz of the input
+	 * @param outputClazz the clazz to be for the output
+	 * @param graph       the conversions done on the inputs of the conversion graph (null if not in graph mode)
+	 * @throws NullPointerException if the given 'inputClass' or 'outputClass' is null
+	 */
+	private ConvertArguments(ConvertArguments parent, I input, O output, Clazz inputClazz, Clazz outputClazz, Map<Object, ConvertArguments> graph) {
 		Objects.requireNonNull(inputClazz, "inputClazz");
 		Objects.requireNonNull(outputClazz, "outputClazz");
 
@@ -81,6 +122,7 @@ public class ConvertArguments<I, O> {
 		this.inputClazz = inputClazz;
 		this.outputClazz = outputClazz;
 		this.parent = parent;
+		this.graph = graph;
 		this.depth = depth;
 	}
 
@@ -118,6 +160,21 @@ public class ConvertArguments<I, O> {
 		this(null, input, output, inputClazz, outputClazz);
 	}
 
+	/**
+	 * Construct a new conversion arguments instance. If the given 'graph' is true, then each input referenced more than once in the input graph will
+	 * be converted only once. And all the places referencing it will reference the same output.
+	 *
+	 * @param input       the input instance
+	 * @param output      the initial output instance
+	 * @param inputClazz  the clazz of the input
+	 * @param outputClazz the clazz to be for the output
+	 * @param graph       true, to preserve the shared references of the input graph in the output graph
+	 * @throws NullPointerException if the given 'inputClass' or 'outputClass' is null
+	 */
+	public ConvertArguments(I input, O output, Clazz inputClazz, Clazz outputClazz, boolean graph) {
+		this(null, input, output, inputClazz, outputClazz, graph ? new IdentityHashMap<>() : null);
+	}
+
 	/**
 	 * Construct a new conversion arguments instance.
 	 *
@@ -216,6 +273,7 @@ public class ConvertArguments<I, O> {
 		this.inputClazz = inputClazz;
 		this.outputClazz = outputClazz;
 		this.parent = parent;
+		this.graph = parent.graph;
 		this.depth = depth;
 	}
 
@@ -246,4 +304,27 @@ public class ConvertArguments<I, O> {
 	public ConvertArguments(ConvertArguments parent, I input, int component) {
 		this(parent, input, null, Clazz.of(input), Clazz.of(input), component);
 	}
+
+	/**
+	 * Determine if the output of this conversion can be shared with the given conversion. (the given conversion converts the same input to the same
+	 * clazz)
+	 *
+	 * @param arguments the conversion to share the output of this conversion with
+	 * @return true, if the output of this conversion can be used as the output of the given conversion
+	 * @throws NullPointerException if the given 'arguments' is null
+	 */
+	boolean isSharableWith(ConvertArguments arguments) {
+		Objects.requireNonNull(arguments, "arguments");
+
+		if (this.input != arguments.input)
+			return false;
+		if (this.outputClazz == arguments.outputClazz)
+			return true;
+
+		//clazzes with components are not cached. So only trust the simple ones
+		return this.outputClazz.getKlass() == arguments.outputClazz.getKlass() &&
+			   this.outputClazz.getFamily() == arguments.outputClazz.getFamily() &&
+			   this.outputClazz.getComponentCount() == 0 &&
+			   arguments.outputClazz.getComponentCount() == 0;
+	}
 }
@@ -70,6 +70,17 @@ public class ConvertException extends RuntimeException {
 		super(cause);
 	}
 
+	/**
+	 * Constructs a new exception with the specified arguments. With suppression disabled, and writable stack trace enabled or disabled. A stackless
+	 * exception (writableStackTrace=false) is cheap to construct. And can be preallocated and thrown many times.
+	 *
+	 * @param message            the message
+	 * @param writableStackTrace whether or not the stack trace should be writable
+	 */
+	public ConvertException(String message, boolean writableStackTrace) {
+		super(message, null, false, writableStackTrace);
+	}
+
 	/**
 	 * Constructs a new class conversion exception with the specified detail message, cause, suppression enabled or disabled, and writable stack trace
 	 * enabled or disabled.
@@ -0,0 +1,189 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.convert;
+
+import cufy.lang.DispatchMetrics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A heap-allocated work stack that drives a conversion and all of its nested conversions. Without using the java stack for each nested level.
+ * <br/>
+ * Each conversion on the stack is expanded (its converting method get invoked) then completed (its callback get invoked) after all the conversions
+ * it deferred (using {@link AbstractConverter#convert(ConvertArguments, Consumer)}) have been completed. The deferred conversions are completed in
+ * the same order they were deferred in.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+final class ConvertStack {
+	/**
+	 * The converter that is driving this stack.
+	 */
+	final AbstractConverter converter;
+	/**
+	 * If the failures on this stack are expected or not. (expected failures get reported using a stackless exception)
+	 */
+	final boolean quiet;
+	/**
+	 * The frames that are waiting to be expanded or completed. (allocated on the first deferred conversion)
+	 */
+	private ArrayDeque<Frame> frames;
+	/**
+	 * The frames deferred by the converting method currently running. (allocated on the first deferred conversion)
+	 */
+	private ArrayList<Frame> pending;
+
+	/**
+	 * Construct a new work stack for the given converter.
+	 *
+	 * @param converter the converter to drive the conversions on this stack
+	 * @param quiet     if the failures on this stack are expected or not
+	 * @throws NullPointerException if the given 'converter' is null
+	 */
+	ConvertStack(AbstractConverter converter, boolean quiet) {
+		Objects.requireNonNull(converter, "converter");
+		this.converter = converter;
+		this.quiet = quiet;
+	}
+
+	/**
+	 * Defer the conversion of the given arguments. Until the converting method currently running returns.
+	 *
+	 * @param arguments the conversion instance that holds the variables of the deferred conversion
+	 * @param callback  to be invoked with the output of the deferred conversion after it completes
+	 * @throws NullPointerException if the given 'arguments' or 'callback' is null
+	 */
+	void push(ConvertArguments arguments, Consumer callback) {
+		Objects.requireNonNull(arguments, "arguments");
+		Objects.requireNonNull(callback, "callback");
+
+		if (this.pending == null)
+			this.pending = new ArrayList<>();
+
+		this.pending.add(new Frame(arguments, callback));
+	}
+
+	/**
+	 * Convert the given arguments and all the conversions deferred by it (and by them).
+	 *
+	 * @param arguments the conversion instance that holds the variables of the root conversion
+	 * @throws NullPointerException if the given 'arguments' is null
+	 * @throws ConvertException     if any converting error occurred
+	 */
+	void run(ConvertArguments arguments) {
+		Objects.requireNonNull(arguments, "arguments");
+
+		//the root is expanded first without touching the frames. (most conversions are leafs)
+		this.expand(arguments);
+
+		if (this.pending == null || this.pending.isEmpty()) {
+			this.complete(arguments);
+			return;
+		}
+
+		Frame root = new Frame(arguments, null);
+		root.expanded = true;
+
+		this.frames = new ArrayDeque<>();
+		this.frames.push(root);
+		this.flush();
+
+		while (!this.frames.isEmpty()) {
+			Frame frame = this.frames.peek();
+
+			if (frame.expanded) {
+				this.frames.pop();
+				this.complete(frame.arguments);
+
+				if (frame.callback != null)
+					frame.callback.accept(frame.arguments.output);
+			} else {
+				frame.expanded = true;
+				this.expand(frame.arguments);
+				this.flush();
+			}
+		}
+	}
+
+	/**
+	 * Complete the given arguments. After it and all of its deferred conversions have been converted.
+	 *
+	 * @param arguments the conversion instance that holds the variables of the conversion to be completed
+	 */
+	private void complete(ConvertArguments arguments) {
+		arguments.stack = null;
+		this.converter.convertExit(arguments);
+	}
+
+	/**
+	 * Expand the given arguments. By invoking its converting method.
+	 *
+	 * @param arguments the conversion instance that holds the variables of the conversion to be expanded
+	 */
+	private void expand(ConvertArguments arguments) {
+		arguments.stack = this;
+		this.converter.convertEnter(arguments);
+
+		DispatchMetrics metrics = this.converter.getDispatchMetrics();
+		if (metrics != null && this.pending != null && !this.pending.isEmpty())
+			//a container. Its elements have been deferred
+			metrics.containerSize(this.pending.size());
+	}
+
+	/**
+	 * Move the pending frames to the top of the stack. In a way that the first deferred frame will be the first to be expanded.
+	 */
+	private void flush() {
+		for (int i = this.pending.size() - 1; i >= 0; i--)
+			this.frames.push(this.pending.get(i));
+
+		this.pending.clear();
+	}
+
+	/**
+	 * A conversion on the work stack.
+	 */
+	final private static class Frame {
+		/**
+		 * The conversion instance that holds the variables of the conversion of this frame.
+		 */
+		final ConvertArguments arguments;
+		/**
+		 * To be invoked with the output of this frame after completing it. (null for the root)
+		 */
+		final Consumer callback;
+		/**
+		 * If the converting method of this frame has been invoked or not.
+		 */
+		boolean expanded;
+
+		/**
+		 * Construct a new frame.
+		 *
+		 * @param arguments the conversion instance that holds the variables of the conversion of this frame
+		 * @param callback  to be invoked with the output of this frame after completing it
+		 */
+		Frame(ConvertArguments arguments, Consumer callback) {
+			this.arguments = arguments;
+			this.callback = callback;
+		}
+	}
+}
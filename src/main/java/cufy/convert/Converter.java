@@ -104,6 +104,22 @@ public interface Converter {
 		return this.convert(new ConvertArguments<>(input, outputClazz));
 	}
 
+	/**
+	 * Output the value of the 'input', but as the 'outputClazz'. Each instance referenced more than once in the input graph will be converted only
+	 * once. And the output graph will reference the same output at all the places the input graph referenced that instance.
+	 *
+	 * @param input       the input instance (source of inputClazz)
+	 * @param outputClazz the clazz to be for the output
+	 * @param <I>         the type of the input
+	 * @param <O>         the type of the output
+	 * @return the output
+	 * @throws NullPointerException if the given 'outputClass' is null
+	 * @throws ConvertException     if any converting error occurred
+	 */
+	default <I, O> O convertGraph(I input, Clazz outputClazz) {
+		return this.convert(new ConvertArguments<>(input, null, Clazz.of(input), outputClazz, true));
+	}
+
 	/**
 	 * Clone the given input.
 	 *
@@ -117,6 +133,41 @@ public interface Converter {
 		return this.convert(new ConvertArguments<>(input));
 	}
 
+	/**
+	 * Output the value of the 'input', but as the 'outputClazz'. Or the given 'fallback' if the input can't be converted.
+	 *
+	 * @param input       the input instance (source of inputClazz)
+	 * @param outputClazz the clazz to be for the output
+	 * @param fallback    the output if the conversion failed
+	 * @param <I>         the type of the input
+	 * @param <O>         the type of the output
+	 * @return the output. Or the given 'fallback' if the conversion failed
+	 * @throws NullPointerException if the given 'outputClass' is null
+	 */
+	default <I, O> O tryConvert(I input, Clazz outputClazz, O fallback) {
+		return this.tryConvert(new ConvertArguments<I, O>(input, outputClazz), fallback);
+	}
+
+	/**
+	 * Set the {@link ConvertArguments#output} on the given arguments to a value of the {@link ConvertArguments#input}, but as the class specified
+	 * as in the {@link ConvertArguments#outputClazz}. Or return the given 'fallback' if the input can't be converted.
+	 *
+	 * @param arguments the conversion instance that holds the variables of this conversion
+	 * @param fallback  the output if the conversion failed
+	 * @param <O>       the type of the output
+	 * @return the output. Or the given 'fallback' if the conversion failed
+	 * @throws NullPointerException if the given 'arguments' is null.
+	 * @implSpec the default implementation catches the {@link ConvertException} thrown by {@link #convert(ConvertArguments)}. Implementations
+	 * 		should override it to not construct exceptions for the expected failures
+	 */
+	default <O> O tryConvert(ConvertArguments<?, O> arguments, O fallback) {
+		try {
+			return this.convert(arguments);
+		} catch (ConvertException ignored) {
+			return fallback;
+		}
+	}
+
 	/**
 	 * Set the {@link ConvertArguments#output} on the given arguments to a value of the {@link ConvertArguments#input}, but as the class specified
 	 * as in the {@link ConvertArguments#outputClazz}.
@@ -0,0 +1,140 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.convert;
+
+import cufy.lang.Static;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A converter that accepts converting routines registered at runtime. Without subclassing or reflection. The registered routines share the same
+ * dispatch cache as the {@link ConvertMethod}s. And get invoked directly when dispatched.
+ * <br/>
+ * The registrations are kept on a copy-on-write snapshot. So, dispatching never locks. The latest matching registration overrides the earlier ones
+ * and the {@link ConvertMethod}s.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+public class RegistryConverter extends BaseConverter {
+	/**
+	 * The registered routines. Ordered from the oldest to the latest.
+	 *
+	 * @implSpec never modified. Replaced with a modified copy on each registration
+	 */
+	private volatile Registration[] registrations = new Registration[0];
+
+	/**
+	 * Register the given routine to convert the input classes matching the given 'input' matcher to the output classes matching the given 'output'
+	 * matcher.
+	 *
+	 * @param input   a matcher for the input families the routine can convert
+	 * @param output  a matcher for the output families the routine can convert to
+	 * @param routine to set the {@link ConvertArguments#output} of the arguments passed to it
+	 * @throws NullPointerException if any of the given parameters is null
+	 */
+	@Static
+	public synchronized void register(Predicate<Class> input, Predicate<Class> output, Consumer<ConvertArguments> routine) {
+		Objects.requireNonNull(input, "input");
+		Objects.requireNonNull(output, "output");
+		Objects.requireNonNull(routine, "routine");
+
+		Registration[] registrations = Arrays.copyOf(this.registrations, this.registrations.length + 1);
+		registrations[registrations.length - 1] = new Registration(input, output, routine);
+		this.registrations = registrations;
+		this.invalidateConvertRoutines();
+	}
+
+	/**
+	 * Register the given routine to convert the given 'input' class (and its subclasses) to the given 'output' class (and its superclasses).
+	 *
+	 * @param input   the input class the routine can convert
+	 * @param output  the output class the routine can convert to
+	 * @param routine to set the {@link ConvertArguments#output} of the arguments passed to it
+	 * @throws NullPointerException if any of the given parameters is null
+	 */
+	@Static
+	public void register(Class input, Class output, Consumer<ConvertArguments> routine) {
+		Objects.requireNonNull(input, "input");
+		Objects.requireNonNull(output, "output");
+		this.register(input::isAssignableFrom, k -> k.isAssignableFrom(output), routine);
+	}
+
+	/**
+	 * Register the given function to convert the given 'input' class (and its subclasses) to the given 'output' class (and its superclasses).
+	 *
+	 * @param input    the input class the function can convert
+	 * @param output   the output class the function can convert to
+	 * @param function takes the input and the initial output (may be null). And returns the output
+	 * @param <I>      the type of the input
+	 * @param <O>      the type of the output
+	 * @throws NullPointerException if any of the given parameters is null
+	 */
+	@Static
+	public <I, O> void register(Class<I> input, Class<O> output, BiFunction<? super I, ? super O, ? extends O> function) {
+		Objects.requireNonNull(function, "function");
+		this.register(input, output, (Consumer<ConvertArguments>) arguments ->
+				arguments.output = function.apply((I) arguments.input, (O) arguments.output));
+	}
+
+	@Override
+	@Static
+	protected Consumer<ConvertArguments> findConvertRoutine(Class inputClass, Class outputClass) {
+		Registration[] registrations = this.registrations;
+
+		for (int i = registrations.length - 1; i >= 0; i--)
+			if (registrations[i].input.test(inputClass) && registrations[i].output.test(outputClass))
+				return registrations[i].routine;
+
+		return super.findConvertRoutine(inputClass, outputClass);
+	}
+
+	/**
+	 * A registered routine.
+	 */
+	final private static class Registration {
+		/**
+		 * A matcher for the input families the routine can convert.
+		 */
+		final Predicate<Class> input;
+		/**
+		 * A matcher for the output families the routine can convert to.
+		 */
+		final Predicate<Class> output;
+		/**
+		 * The registered routine.
+		 */
+		final Consumer<ConvertArguments> routine;
+
+		/**
+		 * Construct a new registration.
+		 *
+		 * @param input   a matcher for the input families the routine can convert
+		 * @param output  a matcher for the output families the routine can convert to
+		 * @param routine the registered routine
+		 */
+		Registration(Predicate<Class> input, Predicate<Class> output, Consumer<ConvertArguments> routine) {
+			this.input = input;
+			this.output = output;
+			this.routine = routine;
+		}
+	}
+}
@@ -15,9 +15,9 @@
  */
 package cufy.lang;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An alternative representation for {@link Class classes}. This provides more data about the targeted type. About the component types and the family
@@ -31,8 +31,10 @@ import java.util.Objects;
 final public class Clazz<C> {
 	/**
 	 * The global clazzes. To not allow repeated clazzes for the same class.
+	 *
+	 * @implSpec shared between threads
 	 */
-	final private static Map<Class, Clazz> clazzes = new HashMap<>();
+	final private static Map<Class, Clazz> clazzes = new ConcurrentHashMap<>();
 	/**
 	 * The components specified to be held by the instance of this clazz.
 	 *
@@ -0,0 +1,101 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.lang;
+
+import java.util.Objects;
+
+/**
+ * A listener to the dynamic method dispatches of a converter or a format. (conversions, formats, parses and classifications) Installed on the
+ * dispatcher to trace which methods get invoked. And how much time each invocation takes.
+ * <br/>
+ * The listener get invoked on the thread doing the dispatch. So, implementations should be thread-safe and as fast as possible.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+public interface DispatchListener {
+	/**
+	 * Returns a listener that notifies this listener then the given listener.
+	 *
+	 * @param after the listener to be notified after this listener
+	 * @return a listener that notifies this listener then the given listener
+	 * @throws NullPointerException if the given 'after' is null
+	 */
+	default DispatchListener andThen(DispatchListener after) {
+		Objects.requireNonNull(after, "after");
+		return new DispatchListener() {
+			@Override
+			public void onEnter(Object dispatcher, Operation operation, Object method, Clazz inputClazz, Clazz outputClazz, int depth) {
+				DispatchListener.this.onEnter(dispatcher, operation, method, inputClazz, outputClazz, depth);
+				after.onEnter(dispatcher, operation, method, inputClazz, outputClazz, depth);
+			}
+
+			@Override
+			public void onExit(Object dispatcher, Operation operation, Object method, Clazz inputClazz, Clazz outputClazz, int depth, long nanos) {
+				DispatchListener.this.onExit(dispatcher, operation, method, inputClazz, outputClazz, depth, nanos);
+				after.onExit(dispatcher, operation, method, inputClazz, outputClazz, depth, nanos);
+			}
+		};
+	}
+
+	/**
+	 * Get invoked before invoking the given method.
+	 *
+	 * @param dispatcher  the converter or the format doing the dispatch
+	 * @param operation   the operation being dispatched
+	 * @param method      the resolved method. (a {@link java.lang.reflect.Method} or a registered routine) Or null if the else-method was resolved
+	 * @param inputClazz  the clazz of the input. (null if unknown)
+	 * @param outputClazz the clazz of the output. (null if unknown)
+	 * @param depth       the depth of the dispatch from its first parent
+	 */
+	void onEnter(Object dispatcher, Operation operation, Object method, Clazz inputClazz, Clazz outputClazz, int depth);
+
+	/**
+	 * Get invoked after the given method (and the nested dispatches it did) returned normally. Not invoked if the dispatch failed.
+	 *
+	 * @param dispatcher  the converter or the format doing the dispatch
+	 * @param operation   the operation being dispatched
+	 * @param method      the resolved method. (a {@link java.lang.reflect.Method} or a registered routine) Or null if the else-method was resolved
+	 * @param inputClazz  the clazz of the input. (null if unknown)
+	 * @param outputClazz the clazz of the output. (null if unknown)
+	 * @param depth       the depth of the dispatch from its first parent
+	 * @param nanos       the time elapsed since the dispatch entered. (using {@link System#nanoTime()})
+	 */
+	void onExit(Object dispatcher, Operation operation, Object method, Clazz inputClazz, Clazz outputClazz, int depth, long nanos);
+
+	/**
+	 * The operations that can be dispatched.
+	 */
+	enum Operation {
+		/**
+		 * A classification. (by a {@link cufy.text.ClassifyMethod})
+		 */
+		CLASSIFY,
+		/**
+		 * A conversion. (by a {@link cufy.convert.ConvertMethod})
+		 */
+		CONVERT,
+		/**
+		 * A formatting. (by a {@link cufy.text.FormatMethod})
+		 */
+		FORMAT,
+		/**
+		 * A parsing. (by a {@link cufy.text.ParseMethod})
+		 */
+		PARSE
+	}
+}
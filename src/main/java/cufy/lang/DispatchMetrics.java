@@ -0,0 +1,254 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.lang;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The live counters of a converter or a format. Counted using striped {@link LongAdder}s. So it is cheap enough to be left on in production. And
+ * can be exposed as an MBean using {@link #register(Object)}.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+public class DispatchMetrics implements DispatchMetricsMXBean {
+	/**
+	 * The count of the dispatch cache hits.
+	 */
+	final protected LongAdder cacheHits = new LongAdder();
+	/**
+	 * The count of the dispatch cache misses.
+	 */
+	final protected LongAdder cacheMisses = new LongAdder();
+	/**
+	 * The histogram of the sizes of the containers dispatched.
+	 */
+	final protected LongAdder[] containerSizes = DispatchMetrics.histogram();
+	/**
+	 * The histogram of the depths of the dispatches.
+	 */
+	final protected LongAdder[] depths = DispatchMetrics.histogram();
+	/**
+	 * The count of the dispatches fell back to the else-method.
+	 */
+	final protected LongAdder elseFallbacks = new LongAdder();
+	/**
+	 * The count of the exceptions thrown by the dispatches of each exception class.
+	 */
+	final protected Map<Class, LongAdder> exceptions = new ConcurrentHashMap<>();
+	/**
+	 * The count of the reflective instantiations.
+	 */
+	final protected LongAdder instantiations = new LongAdder();
+
+	/**
+	 * The name this have been registered with. (null if not registered)
+	 */
+	private ObjectName name;
+
+	/**
+	 * Get the bucket of the given value on a log2 histogram.
+	 *
+	 * @param value the value to get its bucket
+	 * @return the bucket of the given value
+	 */
+	private static int bucket(long value) {
+		return value <= 0 ? 0 : Math.min(31, 64 - Long.numberOfLeadingZeros(value));
+	}
+
+	/**
+	 * Construct a new log2 histogram.
+	 *
+	 * @return a new log2 histogram. (32 buckets)
+	 */
+	private static LongAdder[] histogram() {
+		LongAdder[] histogram = new LongAdder[32];
+		for (int i = 0; i < histogram.length; i++)
+			histogram[i] = new LongAdder();
+		return histogram;
+	}
+
+	/**
+	 * Get the sums of the buckets of the given histogram.
+	 *
+	 * @param histogram the histogram to get the sums of its buckets
+	 * @return the sums of the buckets of the given histogram
+	 */
+	private static long[] sum(LongAdder[] histogram) {
+		long[] sums = new long[histogram.length];
+		for (int i = 0; i < histogram.length; i++)
+			sums[i] = histogram[i].sum();
+		return sums;
+	}
+
+	@Override
+	public long getCacheHits() {
+		return this.cacheHits.sum();
+	}
+
+	@Override
+	public long getCacheMisses() {
+		return this.cacheMisses.sum();
+	}
+
+	@Override
+	public long[] getContainerSizeHistogram() {
+		return DispatchMetrics.sum(this.containerSizes);
+	}
+
+	@Override
+	public long[] getDepthHistogram() {
+		return DispatchMetrics.sum(this.depths);
+	}
+
+	@Override
+	public long getElseFallbacks() {
+		return this.elseFallbacks.sum();
+	}
+
+	@Override
+	public Map<String, Long> getExceptions() {
+		Map<String, Long> exceptions = new TreeMap<>();
+		this.exceptions.forEach((klass, count) -> exceptions.put(klass.getName(), count.sum()));
+		return exceptions;
+	}
+
+	@Override
+	public long getInstantiations() {
+		return this.instantiations.sum();
+	}
+
+	@Override
+	public void reset() {
+		this.cacheHits.reset();
+		this.cacheMisses.reset();
+		this.elseFallbacks.reset();
+		this.exceptions.clear();
+		this.instantiations.reset();
+
+		for (LongAdder bucket : this.containerSizes)
+			bucket.reset();
+		for (LongAdder bucket : this.depths)
+			bucket.reset();
+	}
+
+	/**
+	 * Count a dispatch cache hit.
+	 */
+	public void cacheHit() {
+		this.cacheHits.increment();
+	}
+
+	/**
+	 * Count a dispatch cache miss.
+	 */
+	public void cacheMiss() {
+		this.cacheMisses.increment();
+	}
+
+	/**
+	 * Record the size of a dispatched container.
+	 *
+	 * @param size the count of the elements of the dispatched container
+	 */
+	public void containerSize(long size) {
+		this.containerSizes[DispatchMetrics.bucket(size)].increment();
+	}
+
+	/**
+	 * Record the depth of a dispatch.
+	 *
+	 * @param depth the depth of the dispatch from its first parent
+	 */
+	public void depth(int depth) {
+		this.depths[DispatchMetrics.bucket(depth)].increment();
+	}
+
+	/**
+	 * Count a dispatch that fell back to the else-method.
+	 */
+	public void elseFallback() {
+		this.elseFallbacks.increment();
+	}
+
+	/**
+	 * Count an exception thrown by a dispatch.
+	 *
+	 * @param exception the exception thrown
+	 * @throws NullPointerException if the given 'exception' is null
+	 */
+	public void exception(Throwable exception) {
+		Objects.requireNonNull(exception, "exception");
+		this.exceptions.computeIfAbsent(exception.getClass(), k -> new LongAdder()).increment();
+	}
+
+	/**
+	 * Count a reflective instantiation.
+	 */
+	public void instantiation() {
+		this.instantiations.increment();
+	}
+
+	/**
+	 * Register this as an MBean on the platform MBean server. With the name "cufy:type=DispatchMetrics,name=(class of the dispatcher)@(identity
+	 * hash of the dispatcher)".
+	 *
+	 * @param dispatcher the converter or the format this is counting for
+	 * @return the name this have been registered with
+	 * @throws NullPointerException  if the given 'dispatcher' is null
+	 * @throws IllegalStateException if this is already registered. Or if the registration failed
+	 */
+	public synchronized ObjectName register(Object dispatcher) {
+		Objects.requireNonNull(dispatcher, "dispatcher");
+		if (this.name != null)
+			throw new IllegalStateException("already registered as " + this.name);
+
+		try {
+			String id = dispatcher.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(dispatcher));
+			ObjectName name = new ObjectName("cufy:type=DispatchMetrics,name=" + ObjectName.quote(id));
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+			server.registerMBean(this, name);
+			return this.name = name;
+		} catch (JMException e) {
+			throw new IllegalStateException("Can't register " + this, e);
+		}
+	}
+
+	/**
+	 * Unregister this from the platform MBean server. (if registered)
+	 *
+	 * @throws IllegalStateException if the unregistration failed
+	 */
+	public synchronized void unregister() {
+		if (this.name != null)
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.name);
+				this.name = null;
+			} catch (JMException e) {
+				throw new IllegalStateException("Can't unregister " + this.name, e);
+			}
+	}
+}
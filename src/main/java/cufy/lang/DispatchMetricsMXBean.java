@@ -0,0 +1,84 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.lang;
+
+import java.util.Map;
+
+/**
+ * The management interface of the live counters of a converter or a format. (see {@link DispatchMetrics})
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+public interface DispatchMetricsMXBean {
+	/**
+	 * Get the count of the dispatches that found their method on the dispatch cache.
+	 *
+	 * @return the count of the dispatch cache hits
+	 */
+	long getCacheHits();
+
+	/**
+	 * Get the count of the dispatches that had to query their method. (and then cached it)
+	 *
+	 * @return the count of the dispatch cache misses
+	 */
+	long getCacheMisses();
+
+	/**
+	 * Get the histogram of the sizes of the containers dispatched. The bucket at the index (i) holds the count of the containers that have from
+	 * (2^(i-1)) and less than (2^i) elements. Sized by the elements dispatched for them. (the deferred elements of a conversion, or the elements
+	 * formatted or parsed inside a formatting or a parsing) So the empty containers are not recorded
+	 *
+	 * @return the histogram of the sizes of the containers dispatched. (32 buckets)
+	 */
+	long[] getContainerSizeHistogram();
+
+	/**
+	 * Get the histogram of the depths of the dispatches. The bucket at the index (i) holds the count of the dispatches from the depth (2^(i-1)) and
+	 * less than (2^i). (the bucket 0 holds the root dispatches)
+	 *
+	 * @return the histogram of the depths of the dispatches. (32 buckets)
+	 */
+	long[] getDepthHistogram();
+
+	/**
+	 * Get the count of the dispatches that had no method. So the else-method (convertElse, formatElse, parseElse or classifyElse) got invoked.
+	 *
+	 * @return the count of the dispatches fell back to the else-method
+	 */
+	long getElseFallbacks();
+
+	/**
+	 * Get the count of the exceptions thrown by the dispatches. Mapped by the name of the class of the exception.
+	 *
+	 * @return the count of the exceptions thrown by the dispatches of each exception class
+	 */
+	Map<String, Long> getExceptions();
+
+	/**
+	 * Get the count of the instances created reflectively by the dispatched methods.
+	 *
+	 * @return the count of the reflective instantiations
+	 */
+	long getInstantiations();
+
+	/**
+	 * Reset all the counters to zero.
+	 */
+	void reset();
+}
@@ -0,0 +1,168 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.lang;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link DispatchListener} that aggregates the count and the latency of the dispatches to each method. The latencies are recorded on a histogram
+ * with a bucket for each power of two nanoseconds.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+public class DispatchStatistics implements DispatchListener {
+	/**
+	 * The key the dispatches to the else-methods are recorded on.
+	 */
+	final public static Object ELSE = new Object() {
+		@Override
+		public String toString() {
+			return "else";
+		}
+	};
+
+	/**
+	 * The statistics of each method.
+	 */
+	final protected Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Get the count of the dispatches to the given method.
+	 *
+	 * @param method the method to get the count of its dispatches. ({@link #ELSE} for the else-methods)
+	 * @return the count of the dispatches to the given method
+	 * @throws NullPointerException if the given 'method' is null
+	 */
+	public long getCount(Object method) {
+		Objects.requireNonNull(method, "method");
+		Entry entry = this.entries.get(method);
+		return entry == null ? 0 : entry.count.sum();
+	}
+
+	/**
+	 * Get the latency histogram of the dispatches to the given method. The bucket at the index (i) holds the count of the dispatches that took from
+	 * (2^(i-1)) and less than (2^i) nanoseconds. (the bucket 0 holds the dispatches that took no time)
+	 *
+	 * @param method the method to get the latency histogram of its dispatches. ({@link #ELSE} for the else-methods)
+	 * @return the latency histogram of the dispatches to the given method. (64 buckets)
+	 * @throws NullPointerException if the given 'method' is null
+	 */
+	public long[] getHistogram(Object method) {
+		Objects.requireNonNull(method, "method");
+		Entry entry = this.entries.get(method);
+		long[] histogram = new long[64];
+
+		if (entry != null)
+			for (int i = 0; i < histogram.length; i++)
+				histogram[i] = entry.histogram[i].sum();
+
+		return histogram;
+	}
+
+	/**
+	 * Get the methods that have been dispatched to.
+	 *
+	 * @return an unmodifiable view of the methods that have been dispatched to
+	 */
+	public Set<Object> getMethods() {
+		return Collections.unmodifiableSet(this.entries.keySet());
+	}
+
+	/**
+	 * Get the total time took by the dispatches to the given method.
+	 *
+	 * @param method the method to get the total time of its dispatches. ({@link #ELSE} for the else-methods)
+	 * @return the total nanoseconds took by the dispatches to the given method
+	 * @throws NullPointerException if the given 'method' is null
+	 */
+	public long getTotalNanos(Object method) {
+		Objects.requireNonNull(method, "method");
+		Entry entry = this.entries.get(method);
+		return entry == null ? 0 : entry.nanos.sum();
+	}
+
+	/**
+	 * Forget all the recorded statistics.
+	 */
+	public void reset() {
+		this.entries.clear();
+	}
+
+	@Override
+	public void onEnter(Object dispatcher, Operation operation, Object method, Clazz inputClazz, Clazz outputClazz, int depth) {
+		//recorded on exit
+	}
+
+	@Override
+	public void onExit(Object dispatcher, Operation operation, Object method, Clazz inputClazz, Clazz outputClazz, int depth, long nanos) {
+		Entry entry = this.entries.computeIfAbsent(method == null ? ELSE : method, k -> new Entry());
+
+		entry.count.increment();
+		entry.nanos.add(nanos);
+		entry.histogram[nanos <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(nanos)].increment();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+
+		for (Map.Entry<Object, Entry> entry : this.entries.entrySet()) {
+			long count = entry.getValue().count.sum();
+			long nanos = entry.getValue().nanos.sum();
+
+			builder.append(entry.getKey())
+					.append(": count=")
+					.append(count)
+					.append(", total=")
+					.append(nanos)
+					.append("ns, mean=")
+					.append(count == 0 ? 0 : nanos / count)
+					.append("ns\n");
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * The statistics of a method.
+	 */
+	final protected static class Entry {
+		/**
+		 * The count of the dispatches.
+		 */
+		final LongAdder count = new LongAdder();
+		/**
+		 * The latency histogram of the dispatches.
+		 */
+		final LongAdder[] histogram = new LongAdder[64];
+		/**
+		 * The total nanoseconds took by the dispatches.
+		 */
+		final LongAdder nanos = new LongAdder();
+
+		{
+			for (int i = 0; i < this.histogram.length; i++)
+				this.histogram[i] = new LongAdder();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.lang;
+
+/**
+ * The entry point to the Java Flight Recorder integration. The events (cufy.Convert, cufy.Parse, cufy.Format and cufy.Classify) are emitted by a
+ * {@link DispatchListener} installed on the converters and the formats to be recorded.
+ * <br/>
+ * The JFR classes are only loaded by the listener. So, this class is safe to use on runtimes without JFR. (the listener is compiled in its own
+ * source set. And loaded reflectively)
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+final public class JFR {
+	/**
+	 * This is an util class and must not be instanced as an object.
+	 *
+	 * @throws AssertionError when called
+	 */
+	private JFR() {
+		throw new AssertionError("No instance for you!");
+	}
+
+	/**
+	 * Determine if the running java supports the Java Flight Recorder. (java 11+, or java 8u262+)
+	 *
+	 * @return true, if the running java supports the Java Flight Recorder
+	 */
+	public static boolean isAvailable() {
+		return Availability.available;
+	}
+
+	/**
+	 * Get a listener that emits a JFR event for each dispatch it get notified about. The events are only committed if they are enabled on a running
+	 * recording, and took longer than their threshold. (1 ms by default, configurable on the recording settings)
+	 *
+	 * @return a listener that emits a JFR event for each dispatch
+	 * @throws UnsupportedOperationException if the running java don't support the Java Flight Recorder. Or if the listener (compiled in its own
+	 *                                       source set) is not on the classpath
+	 * @see DispatchListener#andThen(DispatchListener)
+	 */
+	public static DispatchListener listener() {
+		if (!Availability.available)
+			throw new UnsupportedOperationException("JFR is not available");
+
+		try {
+			//compiled in its own source set. (against the jdk.jfr api)
+			return (DispatchListener) Class.forName("cufy.lang.JFRDispatchListener").getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new UnsupportedOperationException("The JFR listener is missing", e);
+		}
+	}
+
+	/**
+	 * A holder for the availability of JFR. To not check it until it is needed.
+	 */
+	final private static class Availability {
+		/**
+		 * If the running java supports the Java Flight Recorder.
+		 */
+		final static boolean available;
+
+		static {
+			boolean flag;
+
+			try {
+				Class<?> recorder = Class.forName("jdk.jfr.FlightRecorder");
+				flag = (boolean) recorder.getMethod("isAvailable").invoke(null);
+			} catch (ReflectiveOperationException | LinkageError | RuntimeException ignored) {
+				flag = false;
+			}
+
+			available = flag;
+		}
+	}
+}
@@ -16,6 +16,8 @@
 package cufy.text;
 
 import cufy.lang.Clazz;
+import cufy.lang.DispatchListener;
+import cufy.lang.DispatchMetrics;
 import cufy.lang.Static;
 import cufy.meta.MetaFamily;
 import cufy.util.Group;
@@ -29,6 +31,7 @@ import java.lang.reflect.Method;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An abstract class for formatter classes. Used to simplify the formatting processes and make it more inheritable. Also making the inheriting for
@@ -49,16 +52,49 @@ import java.util.Objects;
  * @since 28-Sep-19
  */
 public abstract class AbstractFormat implements Format {
+	/**
+	 * A mark at {@link #formatMethods} and {@link #parseMethods} for the classes that don't have a method.
+	 */
+	final private static Object NO_METHOD = new Object();
+
+	/**
+	 * The formatting methods found for each class. (to avoid querying the methods on each formatting)
+	 *
+	 * @implSpec the value {@link #NO_METHOD} means that there is no method for that class
+	 */
+	final private ConcurrentHashMap<Class, Object> formatMethods = new ConcurrentHashMap<>();
 	/**
 	 * The dynamic methods of this class.
 	 */
 	final protected Group<Method> methods;
+	/**
+	 * The {@link ClassifyMethod}s of this indexed by the first characters they accept. (lazily initialized)
+	 */
+	private volatile ClassifyIndex classifyIndex;
+	/**
+	 * The parsing methods found for each class. (to avoid querying the methods on each parsing)
+	 *
+	 * @implSpec the value {@link #NO_METHOD} means that there is no method for that class
+	 */
+	final private ConcurrentHashMap<Class, Object> parseMethods = new ConcurrentHashMap<>();
 	/**
 	 * If this class in a debugging mode or not.
 	 *
 	 * @implSpec if this set false all null-checks and type-checks should not be executed at runtime.
 	 */
 	protected boolean DEBUGGING = false;
+	/**
+	 * The listener to be notified about the dispatches of this format. (null if no listener)
+	 *
+	 * @implSpec not volatile. To not cost anything when there is no listener. Set it before sharing this format with other threads
+	 */
+	private DispatchListener listener;
+	/**
+	 * The live counters of this format. (null if not counting)
+	 *
+	 * @implSpec not volatile. To not cost anything when not counting. Set it before sharing this format with other threads
+	 */
+	private DispatchMetrics metrics;
 
 	{
 		List<Method> methods = Reflect$.getAllMethods(this.getClass());
@@ -66,17 +102,108 @@ public abstract class AbstractFormat implements Format {
 		this.methods = new UnmodifiableGroup<>(methods);
 	}
 
+	/**
+	 * Get the listener to be notified about the dispatches of this format.
+	 *
+	 * @return the listener to be notified about the dispatches of this format. Or null if no listener is installed
+	 */
+	@Static
+	public DispatchListener getDispatchListener() {
+		return this.listener;
+	}
+
+	/**
+	 * Install the given listener to be notified about the dispatches of this format. Replacing the previous listener.
+	 *
+	 * @param listener the listener to be notified about the dispatches of this format. (null to remove the current listener)
+	 * @apiNote set it before sharing this format with other threads
+	 */
+	@Static
+	public void setDispatchListener(DispatchListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Get the live counters of this format.
+	 *
+	 * @return the live counters of this format. Or null if this format is not counting
+	 */
+	@Static
+	public DispatchMetrics getDispatchMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * Set the live counters of this format. Replacing the previous counters.
+	 *
+	 * @param metrics the live counters of this format. (null to stop counting)
+	 * @apiNote set it before sharing this format with other threads. Use {@link DispatchMetrics#register(Object)} to expose it as an MBean
+	 */
+	@Static
+	public void setDispatchMetrics(DispatchMetrics metrics) {
+		this.metrics = metrics;
+	}
+
 	@Override
 	@Static
 	public <O> Clazz<O> classify(ClassifyArguments<?, O> arguments) throws IOException {
 		Objects.requireNonNull(arguments, "arguments");
 
-		for (Method method : this.getClassifyMethods())
-			if (this.classify0(method, arguments))
-				return arguments.output;
+		DispatchListener listener = this.listener;
+		DispatchMetrics metrics = this.metrics;
+
+		try {
+			ClassifyIndex index = this.getClassifyIndex();
+			Method[] candidates;
+
+			if (arguments.source != null) {
+				//peek the first character. To only invoke the methods accepting it
+				candidates = index.candidates(arguments.source.peek());
+			} else if (arguments.bytes != null && arguments.bytes.peekByte() < 0x80) {
+				//an ascii byte is the character itself
+				candidates = index.candidates(arguments.bytes.peekByte());
+			} else if (arguments.input instanceof LookaheadReader) {
+				//peek the first character. To only invoke the methods accepting it
+				candidates = index.candidates(((LookaheadReader) arguments.input).peek());
+			} else if (arguments.input.markSupported()) {
+				arguments.input.mark(1);
+				int c = arguments.input.read();
+				arguments.input.reset();
+
+				candidates = index.candidates(c);
+			} else {
+				candidates = index.methods();
+			}
+
+			for (Method method : candidates) {
+				long nanos = 0;
+
+				if (listener != null) {
+					listener.onEnter(this, DispatchListener.Operation.CLASSIFY, method, null, arguments.output, 0);
+					nanos = System.nanoTime();
+				}
 
-		if (arguments.output == null)
-			this.classifyElse(arguments);
+				boolean classified = this.classify0(method, arguments);
+
+				if (listener != null)
+					listener.onExit(this, DispatchListener.Operation.CLASSIFY, method, null, arguments.output, 0,
+							System.nanoTime() - nanos);
+
+				if (classified)
+					return arguments.output;
+			}
+
+			if (arguments.output == null) {
+				if (metrics != null)
+					metrics.elseFallback();
+
+				this.classifyElse(arguments);
+			}
+		} catch (IOException | RuntimeException e) {
+			if (metrics != null)
+				metrics.exception(e);
+			throw e;
+		}
 
 		return arguments.output;
 	}
@@ -87,10 +214,46 @@ public abstract class AbstractFormat implements Format {
 		Objects.requireNonNull(arguments, "arguments");
 
 		Method method = this.getFormatMethod(arguments.inputClazz.getFamily());
+		DispatchListener listener = this.listener;
+		DispatchMetrics metrics = this.metrics;
+		long nanos = 0;
+
+		if (metrics != null) {
+			metrics.depth(arguments.depth);
+			if (method == null)
+				metrics.elseFallback();
+		}
+		if (listener != null) {
+			listener.onEnter(this, DispatchListener.Operation.FORMAT, method, arguments.inputClazz, arguments.outputClazz, arguments.depth);
+			nanos = System.nanoTime();
+		}
 
-		if (method == null)
-			this.formatElse(arguments);
-		else this.format0(method, arguments);
+		try {
+			if (method == null)
+				this.formatElse(arguments);
+			else this.format0(method, arguments);
+		} catch (IOException | RuntimeException e) {
+			//counted once. By the root
+			if (metrics != null && arguments.depth == 0)
+				metrics.exception(e);
+			throw e;
+		}
+
+		if (metrics != null && arguments.inputClazz.getFamily() != Object.class) {
+			if (arguments.elements > 0)
+				//a container. Its elements have been dispatched
+				metrics.containerSize(arguments.elements);
+
+			//an element of the nearest container. (a dispatch on the Object family only dispatches the value again. By its actual type)
+			FormatArguments container = arguments.parent;
+			while (container != null && container.inputClazz.getFamily() == Object.class)
+				container = container.parent;
+			if (container != null)
+				container.elements++;
+		}
+		if (listener != null)
+			listener.onExit(this, DispatchListener.Operation.FORMAT, method, arguments.inputClazz, arguments.outputClazz, arguments.depth,
+					System.nanoTime() - nanos);
 
 		return arguments.output;
 	}
@@ -101,10 +264,46 @@ public abstract class AbstractFormat implements Format {
 		Objects.requireNonNull(arguments, "arguments");
 
 		Method method = this.getParseMethod(arguments.inputClazz.getFamily());
+		DispatchListener listener = this.listener;
+		DispatchMetrics metrics = this.metrics;
+		long nanos = 0;
+
+		if (metrics != null) {
+			metrics.depth(arguments.depth);
+			if (method == null)
+				metrics.elseFallback();
+		}
+		if (listener != null) {
+			listener.onEnter(this, DispatchListener.Operation.PARSE, method, arguments.inputClazz, arguments.outputClazz, arguments.depth);
+			nanos = System.nanoTime();
+		}
 
-		if (method == null)
-			this.parseElse(arguments);
-		else this.parse0(method, arguments);
+		try {
+			if (method == null)
+				this.parseElse(arguments);
+			else this.parse0(method, arguments);
+		} catch (IOException | RuntimeException e) {
+			//counted once. By the root
+			if (metrics != null && arguments.depth == 0)
+				metrics.exception(e);
+			throw e;
+		}
+
+		if (metrics != null && arguments.inputClazz.getFamily() != Object.class) {
+			if (arguments.elements > 0)
+				//a container. Its elements have been dispatched
+				metrics.containerSize(arguments.elements);
+
+			//an element of the nearest container. (a dispatch on the Object family only dispatches the value again. By its actual type)
+			ParseArguments container = arguments.parent;
+			while (container != null && container.inputClazz.getFamily() == Object.class)
+				container = container.parent;
+			if (container != null)
+				container.elements++;
+		}
+		if (listener != null)
+			listener.onExit(this, DispatchListener.Operation.PARSE, method, arguments.inputClazz, arguments.outputClazz, arguments.depth,
+					System.nanoTime() - nanos);
 
 		return arguments.output;
 	}
@@ -225,41 +424,126 @@ public abstract class AbstractFormat implements Format {
 	}
 
 	/**
-	 * Get the first formatter method that supports the given class as a parameter. (methods ordered randomly).
+	 * Get the {@link ClassifyMethod}s of this indexed by the first characters they accept. Indexed on the first call.
+	 *
+	 * @return the {@link ClassifyMethod}s of this indexed by the first characters they accept
+	 * @throws IllegalArgumentException if any of the {@link ClassifyMethod}s have an illegal {@link ClassifyMethod#range()}
+	 */
+	@Static
+	ClassifyIndex getClassifyIndex() {
+		ClassifyIndex index = this.classifyIndex;
+
+		if (index == null)
+			synchronized (this.methods) {
+				index = this.classifyIndex;
+
+				if (index == null)
+					this.classifyIndex = index = new ClassifyIndex(this.getClassifyMethods());
+			}
+
+		return index;
+	}
+
+	/**
+	 * Find the first formatter method that supports the given class as a parameter. (methods ordered randomly).
 	 *
 	 * @param klass to query a method for
 	 * @return the first format method supports given class. Or null if this class don't have one
 	 * @throws NullPointerException if the given class is null
+	 * @apiNote called once for each class. Then cached by {@link #getFormatMethod(Class)}
+	 */
+	@Static
+	protected Method findFormatMethod(Class klass) {
+		Objects.requireNonNull(klass, "klass");
+
+		synchronized (this.methods) {
+			Group<Method> valid = this.methods
+					.subGroup(FormatMethod.class, m -> m.isAnnotationPresent(FormatMethod.class))
+					.subGroup(klass, m -> MetaFamily.util.test(m.getAnnotation(FormatMethod.class).value(), klass));
+
+			Iterator<Method> i = valid.iterator();
+			return i.hasNext() ? i.next() : null;
+		}
+	}
+
+	/**
+	 * Get the first formatter method that supports the given class as a parameter. The results are cached. So only the first call for each class will
+	 * call {@link #findFormatMethod(Class)}.
+	 *
+	 * @param klass to get a method for
+	 * @return the first format method supports given class. Or null if this class don't have one
+	 * @throws NullPointerException if the given class is null
 	 */
 	@Static
 	protected Method getFormatMethod(Class klass) {
 		Objects.requireNonNull(klass, "klass");
 
-		Group<Method> valid = this.methods
-				.subGroup(FormatMethod.class, m -> m.isAnnotationPresent(FormatMethod.class))
-				.subGroup(klass, m -> MetaFamily.util.test(m.getAnnotation(FormatMethod.class).value(), klass));
+		Object method = this.formatMethods.get(klass);
+
+		if (method == null) {
+			if (this.metrics != null)
+				this.metrics.cacheMiss();
+
+			method = this.formatMethods.computeIfAbsent(klass, k -> {
+				Method found = this.findFormatMethod(klass);
+				return found == null ? NO_METHOD : found;
+			});
+		} else if (this.metrics != null) {
+			this.metrics.cacheHit();
+		}
 
-		Iterator<Method> i = valid.iterator();
-		return i.hasNext() ? i.next() : null;
+		return method == NO_METHOD ? null : (Method) method;
 	}
 
 	/**
-	 * Get the first parser method that supports the given class as a parameter. (methods ordered randomly).
+	 * Find the first parser method that supports the given class as a parameter. (methods ordered randomly).
 	 *
 	 * @param klass to query a method for
 	 * @return the first parse method supports given class. Or null if this class don't have one
 	 * @throws NullPointerException if the given class is null
+	 * @apiNote called once for each class. Then cached by {@link #getParseMethod(Class)}
+	 */
+	@Static
+	protected Method findParseMethod(Class klass) {
+		Objects.requireNonNull(klass, "klass");
+
+		synchronized (this.methods) {
+			Group<Method> valid = this.methods
+					.subGroup(ParseMethod.class, m -> m.isAnnotationPresent(ParseMethod.class))
+					.subGroup(klass, m -> MetaFamily.util.test(m.getAnnotation(ParseMethod.class).value(), klass));
+
+			Iterator<Method> i = valid.iterator();
+			return i.hasNext() ? i.next() : null;
+		}
+	}
+
+	/**
+	 * Get the first parser method that supports the given class as a parameter. The results are cached. So only the first call for each class will
+	 * call {@link #findParseMethod(Class)}.
+	 *
+	 * @param klass to get a method for
+	 * @return the first parse method supports given class. Or null if this class don't have one
+	 * @throws NullPointerException if the given class is null
 	 */
 	@Static
 	protected Method getParseMethod(Class klass) {
 		Objects.requireNonNull(klass, "klass");
 
-		Group<Method> valid = this.methods
-				.subGroup(ParseMethod.class, m -> m.isAnnotationPresent(ParseMethod.class))
-				.subGroup(klass, m -> MetaFamily.util.test(m.getAnnotation(ParseMethod.class).value(), klass));
+		Object method = this.parseMethods.get(klass);
+
+		if (method == null) {
+			if (this.metrics != null)
+				this.metrics.cacheMiss();
+
+			method = this.parseMethods.computeIfAbsent(klass, k -> {
+				Method found = this.findParseMethod(klass);
+				return found == null ? NO_METHOD : found;
+			});
+		} else if (this.metrics != null) {
+			this.metrics.cacheHit();
+		}
 
-		Iterator<Method> i = valid.iterator();
-		return i.hasNext() ? i.next() : null;
+		return method == NO_METHOD ? null : (Method) method;
 	}
 
 	/**
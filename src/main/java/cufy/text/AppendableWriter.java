@@ -0,0 +1,174 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * A writer that appends to an {@link Appendable}. Without locking. So formatting to a {@link StringBuilder} (or any other appendable) don't pay
+ * for the locks of a {@link java.io.StringWriter} or a {@link java.io.BufferedWriter}.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @implNote not synchronized. A writer should only be used by one thread at a time
+ * @since 19-Oct-2026
+ */
+public class AppendableWriter extends Writer {
+	/**
+	 * The maximum capacity of a builder to be kept for reuse by {@link #release(AppendableWriter)}. (bigger builders are left to the gc)
+	 */
+	final private static int MAX_REUSE_CAPACITY = 16 * 1024;
+	/**
+	 * The writer of each thread ready to be reused by {@link #acquire()}. (null while in use)
+	 */
+	final private static ThreadLocal<AppendableWriter> REUSABLE = new ThreadLocal<>();
+
+	/**
+	 * The appendable to append to.
+	 */
+	final private Appendable appendable;
+	/**
+	 * The appendable as a builder. (null if the appendable is not a {@link StringBuilder})
+	 */
+	final private StringBuilder builder;
+
+	/**
+	 * Construct a new writer that appends to the given appendable.
+	 *
+	 * @param appendable the appendable to append to
+	 * @throws NullPointerException if the given 'appendable' is null
+	 */
+	public AppendableWriter(Appendable appendable) {
+		Objects.requireNonNull(appendable, "appendable");
+		this.appendable = appendable;
+		this.builder = appendable instanceof StringBuilder ? (StringBuilder) appendable : null;
+	}
+
+	/**
+	 * Construct a new writer that appends to a new {@link StringBuilder}.
+	 */
+	public AppendableWriter() {
+		this(new StringBuilder());
+	}
+
+	/**
+	 * Get a writer (appending to an empty {@link StringBuilder}) of the current thread. Reusing the writer released by the last call of {@link
+	 * #release(AppendableWriter)} on this thread. Nested calls (before releasing) get new writers.
+	 *
+	 * @return an empty writer appending to a {@link StringBuilder}
+	 */
+	static AppendableWriter acquire() {
+		AppendableWriter writer = REUSABLE.get();
+
+		if (writer == null)
+			return new AppendableWriter();
+
+		//taken. So nested calls don't share it
+		REUSABLE.set(null);
+		return writer;
+	}
+
+	/**
+	 * Give the given writer (returned by {@link #acquire()}) back to the current thread. To be reused by the next call of {@link #acquire()}.
+	 *
+	 * @param writer the writer to be reused
+	 * @throws NullPointerException if the given 'writer' is null
+	 */
+	static void release(AppendableWriter writer) {
+		Objects.requireNonNull(writer, "writer");
+
+		if (writer.builder.capacity() <= MAX_REUSE_CAPACITY) {
+			writer.builder.setLength(0);
+			REUSABLE.set(writer);
+		}
+	}
+
+	@Override
+	public AppendableWriter append(CharSequence csq) throws IOException {
+		this.appendable.append(csq);
+		return this;
+	}
+
+	@Override
+	public AppendableWriter append(CharSequence csq, int start, int end) throws IOException {
+		this.appendable.append(csq, start, end);
+		return this;
+	}
+
+	@Override
+	public AppendableWriter append(char c) throws IOException {
+		this.appendable.append(c);
+		return this;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.appendable instanceof Closeable)
+			((Closeable) this.appendable).close();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (this.appendable instanceof Flushable)
+			((Flushable) this.appendable).flush();
+	}
+
+	/**
+	 * Get the appendable this writer appends to.
+	 *
+	 * @return the appendable this writer appends to
+	 */
+	public Appendable getAppendable() {
+		return this.appendable;
+	}
+
+	@Override
+	public String toString() {
+		return this.appendable.toString();
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		this.appendable.append((char) c);
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		if (this.builder != null)
+			this.builder.append(cbuf, off, len);
+		else this.appendable.append(CharBuffer.wrap(cbuf, off, len));
+	}
+
+	@Override
+	public void write(char[] cbuf) throws IOException {
+		this.write(cbuf, 0, cbuf.length);
+	}
+
+	@Override
+	public void write(String str) throws IOException {
+		this.appendable.append(str);
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		this.appendable.append(str, off, off + len);
+	}
+}
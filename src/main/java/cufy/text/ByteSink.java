@@ -0,0 +1,512 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * A writer that encodes the characters written to it as UTF-8 bytes. Directly into an {@link OutputStream}, a {@link WritableByteChannel} or a
+ * {@link ByteBuffer}. Without a {@link java.nio.charset.CharsetEncoder} or any intermediate char array. ASCII characters are copied in bulk. Other
+ * characters are encoded one by one.
+ * <br/>
+ * Heap byte buffers are encoded into directly. The bytes for streams, channels and direct byte buffers are staged in a byte array then written in
+ * bulk. When the staging array gets full, or when flushed.
+ * <br/>
+ * Unpaired surrogates are encoded as '?'. Like {@link String#getBytes(java.nio.charset.Charset)} does. (a high surrogate at the end of the text
+ * is encoded when closed or finished)
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @implNote not synchronized. A writer should only be used by one thread at a time
+ * @since 19-Oct-2026
+ */
+public class ByteSink extends Writer {
+	/**
+	 * The default capacity of the staging array.
+	 */
+	final public static int DEFAULT_CAPACITY = 8192;
+	/**
+	 * The staging array of each thread ready to be reused by {@link #acquire(OutputStream)}. (null while in use)
+	 */
+	final private static ThreadLocal<byte[]> REUSABLE = new ThreadLocal<>();
+
+	/**
+	 * The offset of the {@link #bytes} on the {@link #buffer}. (if the bytes are the array of a heap buffer)
+	 */
+	final private int arrayOffset;
+	/**
+	 * The buffer to encode to. (null if not encoding to a buffer)
+	 */
+	final private ByteBuffer buffer;
+	/**
+	 * The channel to write the encoded bytes to. (null if not encoding to a channel)
+	 */
+	final private WritableByteChannel channel;
+	/**
+	 * A buffer view of the {@link #bytes}. Used to write them to the {@link #channel}. (null if not encoding to a channel)
+	 */
+	final private ByteBuffer channelView;
+	/**
+	 * The stream to write the encoded bytes to. (null if not encoding to a stream)
+	 */
+	final private OutputStream stream;
+	/**
+	 * The array to encode into. (the array of the {@link #buffer} if it is a heap buffer. Otherwise, the staging array)
+	 */
+	private byte[] bytes;
+	/**
+	 * A high surrogate written without its low surrogate yet. (0 if none)
+	 */
+	private char high;
+	/**
+	 * The index after the last byte that can be encoded on the {@link #bytes}.
+	 */
+	private int limit;
+	/**
+	 * The index of the next byte to be encoded on the {@link #bytes}.
+	 */
+	private int position;
+
+	/**
+	 * Construct a new writer that encodes to the given stream. Staging the bytes in an array with the given capacity.
+	 *
+	 * @param stream   the stream to write the encoded bytes to
+	 * @param capacity the capacity of the staging array
+	 * @throws NullPointerException     if the given 'stream' is null
+	 * @throws IllegalArgumentException if the given 'capacity' is less than 4
+	 */
+	public ByteSink(OutputStream stream, int capacity) {
+		this(stream, null, null, ByteSink.staging(capacity));
+	}
+
+	/**
+	 * Construct a new writer that encodes to the given stream. With the {@link #DEFAULT_CAPACITY}.
+	 *
+	 * @param stream the stream to write the encoded bytes to
+	 * @throws NullPointerException if the given 'stream' is null
+	 */
+	public ByteSink(OutputStream stream) {
+		this(stream, ByteSink.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Construct a new writer that encodes to the given channel. Staging the bytes in an array with the given capacity.
+	 *
+	 * @param channel  the channel to write the encoded bytes to
+	 * @param capacity the capacity of the staging array
+	 * @throws NullPointerException     if the given 'channel' is null
+	 * @throws IllegalArgumentException if the given 'capacity' is less than 4
+	 */
+	public ByteSink(WritableByteChannel channel, int capacity) {
+		this(null, channel, null, ByteSink.staging(capacity));
+	}
+
+	/**
+	 * Construct a new writer that encodes to the given channel. With the {@link #DEFAULT_CAPACITY}.
+	 *
+	 * @param channel the channel to write the encoded bytes to
+	 * @throws NullPointerException if the given 'channel' is null
+	 */
+	public ByteSink(WritableByteChannel channel) {
+		this(channel, ByteSink.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Construct a new writer that encodes to the remaining of the given buffer. The position of the buffer will be moved after each write (or on
+	 * flush if it is a direct buffer).
+	 *
+	 * @param buffer the buffer to encode to
+	 * @throws NullPointerException if the given 'buffer' is null
+	 */
+	public ByteSink(ByteBuffer buffer) {
+		this(null, null, buffer, buffer.hasArray() ? null : new byte[Math.max(4, Math.min(buffer.remaining(), ByteSink.DEFAULT_CAPACITY))]);
+	}
+
+	/**
+	 * Construct a new writer. Exactly one of the given 'stream', 'channel' or 'buffer' should not be null.
+	 *
+	 * @param stream  the stream to write the encoded bytes to
+	 * @param channel the channel to write the encoded bytes to
+	 * @param buffer  the buffer to encode to
+	 * @param staging the staging array. (null if encoding to a heap buffer)
+	 * @throws NullPointerException if the given 'stream', 'channel' and 'buffer' are all null
+	 */
+	private ByteSink(OutputStream stream, WritableByteChannel channel, ByteBuffer buffer, byte[] staging) {
+		if (stream == null && channel == null && buffer == null)
+			throw new NullPointerException("output");
+
+		this.stream = stream;
+		this.channel = channel;
+		this.buffer = buffer;
+
+		if (staging == null) {
+			//encoding directly into the array of the buffer
+			this.bytes = buffer.array();
+			this.arrayOffset = buffer.arrayOffset();
+			this.position = this.arrayOffset + buffer.position();
+			this.limit = this.arrayOffset + buffer.limit();
+		} else {
+			this.bytes = staging;
+			this.arrayOffset = 0;
+			this.limit = staging.length;
+		}
+
+		this.channelView = channel == null ? null : ByteBuffer.wrap(this.bytes);
+	}
+
+	/**
+	 * Get a writer that encodes to the given stream. Staging the bytes in the array of the current thread. Nested calls (before releasing) get a new
+	 * staging array.
+	 *
+	 * @param stream the stream to write the encoded bytes to
+	 * @return a writer that encodes to the given stream
+	 * @throws NullPointerException if the given 'stream' is null
+	 */
+	static ByteSink acquire(OutputStream stream) {
+		return new ByteSink(stream, null, null, ByteSink.take());
+	}
+
+	/**
+	 * Get a writer that encodes to the given channel. Staging the bytes in the array of the current thread. Nested calls (before releasing) get a
+	 * new staging array.
+	 *
+	 * @param channel the channel to write the encoded bytes to
+	 * @return a writer that encodes to the given channel
+	 * @throws NullPointerException if the given 'channel' is null
+	 */
+	static ByteSink acquire(WritableByteChannel channel) {
+		return new ByteSink(null, channel, null, ByteSink.take());
+	}
+
+	/**
+	 * Give the staging array of the given writer (returned by {@link #acquire(OutputStream)}) back to the current thread. The writer can't be used
+	 * after releasing it. (the bytes not flushed are discarded)
+	 *
+	 * @param sink the writer to be released
+	 * @throws NullPointerException if the given 'sink' is null
+	 */
+	static void release(ByteSink sink) {
+		Objects.requireNonNull(sink, "sink");
+
+		if (sink.bytes != null) {
+			REUSABLE.set(sink.bytes);
+			sink.bytes = null;
+		}
+	}
+
+	/**
+	 * Construct a new staging array with the given capacity.
+	 *
+	 * @param capacity the capacity of the staging array
+	 * @return a new staging array
+	 * @throws IllegalArgumentException if the given 'capacity' is less than 4
+	 */
+	private static byte[] staging(int capacity) {
+		if (capacity < 4)
+			//the longest character
+			throw new IllegalArgumentException("capacity < 4");
+
+		return new byte[capacity];
+	}
+
+	/**
+	 * Take the staging array of the current thread. Or a new one if it is in use.
+	 *
+	 * @return a staging array
+	 */
+	private static byte[] take() {
+		byte[] staging = REUSABLE.get();
+
+		if (staging == null)
+			return new byte[ByteSink.DEFAULT_CAPACITY];
+
+		//taken. So nested calls don't share it
+		REUSABLE.set(null);
+		return staging;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.bytes == null)
+			return;
+
+		this.finish();
+		this.bytes = null;
+
+		if (this.stream != null)
+			this.stream.close();
+		if (this.channel != null)
+			this.channel.close();
+	}
+
+	/**
+	 * End the text written to this writer. Writing the pending high surrogate (if any) as '?'. Then flush. Without closing the output.
+	 *
+	 * @throws IOException             if any I/O exception occurs
+	 * @throws BufferOverflowException if encoding to a buffer that has no room for the '?'
+	 */
+	void finish() throws IOException {
+		this.ensureOpen();
+
+		if (this.high != 0) {
+			//a high surrogate without a low surrogate
+			this.high = 0;
+			this.reserve(1);
+			this.bytes[this.position++] = '?';
+			this.sync();
+		}
+
+		this.flush();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		this.ensureOpen();
+
+		if (this.buffer == null || !this.buffer.hasArray())
+			this.drain();
+		if (this.stream != null)
+			this.stream.flush();
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		this.ensureOpen();
+
+		if (c < 0x80 && this.high == 0) {
+			this.reserve(1);
+			this.bytes[this.position++] = (byte) c;
+		} else {
+			this.encode((char) c);
+		}
+
+		this.sync();
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		Objects.requireNonNull(cbuf, "cbuf");
+		if (off < 0 || len < 0 || len > cbuf.length - off)
+			throw new IndexOutOfBoundsException("off=" + off + " len=" + len + " length=" + cbuf.length);
+		this.ensureOpen();
+
+		int end = off + len;
+
+		while (off < end) {
+			if (this.high == 0) {
+				//ascii fast path
+				byte[] bytes = this.bytes;
+				int position = this.position;
+				int n = Math.min(end - off, this.limit - position);
+				int i = 0;
+
+				for (char c; i < n && (c = cbuf[off + i]) < 0x80; i++)
+					bytes[position + i] = (byte) c;
+
+				this.position = position + i;
+				off += i;
+
+				if (off == end)
+					break;
+				if (i == n && this.position == this.limit) {
+					this.reserve(1);
+					continue;
+				}
+			}
+
+			this.encode(cbuf[off++]);
+		}
+
+		this.sync();
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		Objects.requireNonNull(str, "str");
+		if (off < 0 || len < 0 || len > str.length() - off)
+			throw new IndexOutOfBoundsException("off=" + off + " len=" + len + " length=" + str.length());
+		this.ensureOpen();
+
+		int end = off + len;
+
+		while (off < end) {
+			if (this.high == 0) {
+				//ascii fast path
+				byte[] bytes = this.bytes;
+				int position = this.position;
+				int n = Math.min(end - off, this.limit - position);
+				int i = 0;
+
+				for (char c; i < n && (c = str.charAt(off + i)) < 0x80; i++)
+					bytes[position + i] = (byte) c;
+
+				this.position = position + i;
+				off += i;
+
+				if (off == end)
+					break;
+				if (i == n && this.position == this.limit) {
+					this.reserve(1);
+					continue;
+				}
+			}
+
+			this.encode(str.charAt(off++));
+		}
+
+		this.sync();
+	}
+
+	@Override
+	public void write(String str) throws IOException {
+		this.write(str, 0, str.length());
+	}
+
+	@Override
+	public ByteSink append(CharSequence csq) throws IOException {
+		String str = String.valueOf(csq);
+		this.write(str, 0, str.length());
+		return this;
+	}
+
+	@Override
+	public ByteSink append(CharSequence csq, int start, int end) throws IOException {
+		CharSequence sequence = csq == null ? "null" : csq;
+		String str = sequence.subSequence(start, end).toString();
+		this.write(str, 0, str.length());
+		return this;
+	}
+
+	@Override
+	public ByteSink append(char c) throws IOException {
+		this.write(c);
+		return this;
+	}
+
+	/**
+	 * Write the staged bytes to the stream, channel or direct buffer. Then empty the staging array.
+	 *
+	 * @throws IOException             if any I/O exception occurs
+	 * @throws BufferOverflowException if encoding to a direct buffer that has no room for the staged bytes
+	 */
+	private void drain() throws IOException {
+		if (this.position == 0)
+			return;
+
+		if (this.stream != null) {
+			this.stream.write(this.bytes, 0, this.position);
+		} else if (this.channel != null) {
+			//through Buffer. (the ByteBuffer overloads are java 9+)
+			((Buffer) this.channelView).clear().limit(this.position);
+			while (this.channelView.hasRemaining())
+				this.channel.write(this.channelView);
+		} else {
+			this.buffer.put(this.bytes, 0, this.position);
+		}
+
+		this.position = 0;
+	}
+
+	/**
+	 * Encode the given character. Combining surrogate pairs. And writing '?' for unpaired surrogates.
+	 *
+	 * @param c the character to be encoded
+	 * @throws IOException             if any I/O exception occurs
+	 * @throws BufferOverflowException if encoding to a buffer that has no room for the encoded bytes
+	 */
+	private void encode(char c) throws IOException {
+		if (this.high != 0) {
+			char high = this.high;
+			this.high = 0;
+
+			if (Character.isLowSurrogate(c)) {
+				int code = Character.toCodePoint(high, c);
+				this.reserve(4);
+				this.bytes[this.position++] = (byte) (0xF0 | code >> 18);
+				this.bytes[this.position++] = (byte) (0x80 | code >> 12 & 0x3F);
+				this.bytes[this.position++] = (byte) (0x80 | code >> 6 & 0x3F);
+				this.bytes[this.position++] = (byte) (0x80 | code & 0x3F);
+				return;
+			}
+
+			//a high surrogate without a low surrogate
+			this.reserve(1);
+			this.bytes[this.position++] = '?';
+		}
+
+		if (c < 0x80) {
+			this.reserve(1);
+			this.bytes[this.position++] = (byte) c;
+		} else if (c < 0x800) {
+			this.reserve(2);
+			this.bytes[this.position++] = (byte) (0xC0 | c >> 6);
+			this.bytes[this.position++] = (byte) (0x80 | c & 0x3F);
+		} else if (Character.isHighSurrogate(c)) {
+			//wait for the low surrogate
+			this.high = c;
+		} else if (Character.isLowSurrogate(c)) {
+			//a low surrogate without a high surrogate
+			this.reserve(1);
+			this.bytes[this.position++] = '?';
+		} else {
+			this.reserve(3);
+			this.bytes[this.position++] = (byte) (0xE0 | c >> 12);
+			this.bytes[this.position++] = (byte) (0x80 | c >> 6 & 0x3F);
+			this.bytes[this.position++] = (byte) (0x80 | c & 0x3F);
+		}
+	}
+
+	/**
+	 * Throw an exception if this writer is closed.
+	 *
+	 * @throws IOException if this writer is closed
+	 */
+	private void ensureOpen() throws IOException {
+		if (this.bytes == null)
+			throw new IOException("Stream closed");
+	}
+
+	/**
+	 * Make room for the given count of bytes on the {@link #bytes}.
+	 *
+	 * @param count the count of bytes to make room for. (not more than 4)
+	 * @throws IOException             if any I/O exception occurs
+	 * @throws BufferOverflowException if encoding to a buffer that has no room for the given count of bytes
+	 */
+	private void reserve(int count) throws IOException {
+		if (this.limit - this.position >= count)
+			return;
+		if (this.buffer != null && this.buffer.hasArray())
+			throw new BufferOverflowException();
+
+		this.drain();
+	}
+
+	/**
+	 * Move the position of the heap buffer encoded to. To after the bytes encoded into its array.
+	 */
+	private void sync() {
+		if (this.buffer != null && this.buffer.hasArray())
+			((Buffer) this.buffer).position(this.position - this.arrayOffset);
+	}
+}
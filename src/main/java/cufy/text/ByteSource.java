@@ -0,0 +1,637 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+/**
+ * A reader of UTF-8 bytes. From an {@link InputStream}, a {@link ByteBuffer}, a slice of a {@code byte[]} or a {@link FileChannel} (mapped to
+ * memory window by window). That decodes the bytes lazily. Only when they are read as characters. Without a {@link
+ * java.nio.charset.CharsetDecoder}.
+ * <br/>
+ * Parsing methods can check if {@link ParseArguments#bytes} is available. Then consume the structural (ASCII) bytes using the byte methods ({@link
+ * #peekByte()}, {@link #readByte()}...) without decoding them. And only read characters where decoding is needed (like inside string literals).
+ * ASCII bytes are the characters themselves. So the byte methods and the character methods can be mixed freely. But not in the middle of a
+ * multi-byte character.
+ * <br/>
+ * Malformed sequences are decoded as the replacement character (U+FFFD). One for each maximal invalid subpart. As recommended by unicode.
+ * (the jdk decoders differ only on encoded surrogates. That they replace as a whole)
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @implNote not synchronized. A source should only be used by one thread at a time. Streams and direct buffers are read ahead into a bounded byte
+ * 		buffer. (so are mapped channels) So marks are only guaranteed for up to a third of its capacity (in characters). The byte methods read
+ * 		straight from the direct buffer (or the mapped window) when no byte is read ahead and there is no mark
+ * @since 19-Oct-2026
+ */
+public class ByteSource extends Reader {
+	/**
+	 * The default capacity of the buffer. (if reading from a stream or a direct buffer)
+	 */
+	final public static int DEFAULT_CAPACITY = 8192;
+	/**
+	 * The default size of the windows to map a channel to memory by. (the size of a mapped buffer can't exceed 2 GB)
+	 */
+	final public static int DEFAULT_WINDOW = 1 << 30;
+	/**
+	 * The character decoded from malformed sequences.
+	 */
+	final private static char REPLACEMENT = '\uFFFD';
+	/**
+	 * The buffer replacing a finished window. So the finished window is no longer referenced. (and can be unmapped)
+	 */
+	final private static ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+	/**
+	 * The bytes read ahead. (or all the bytes if reading from an array or a heap buffer)
+	 */
+	final private byte[] bytes;
+	/**
+	 * The channel to map windows from. (null if not reading from a channel)
+	 */
+	final private FileChannel channel;
+	/**
+	 * The stream to read ahead from. (null if not reading from a stream)
+	 */
+	final private InputStream stream;
+	/**
+	 * The size of the windows to map the {@link #channel} by. (0 if not reading from a channel)
+	 */
+	final private int window;
+	/**
+	 * The direct buffer (or the current mapped window) to read ahead from. (null if not reading from a direct buffer or a channel. Or {@link #EMPTY}
+	 * between windows)
+	 */
+	private ByteBuffer buffer;
+	/**
+	 * The position on the {@link #channel} to stop mapping at.
+	 */
+	private long channelLimit;
+	/**
+	 * The position on the {@link #channel} after the end of the current window.
+	 */
+	private long channelPosition;
+	/**
+	 * If this source is closed or not.
+	 */
+	private boolean closed;
+	/**
+	 * The index after the last byte available on the {@link #bytes}.
+	 */
+	private int limit;
+	/**
+	 * A low surrogate decoded but not read yet. (0 if none)
+	 */
+	private char low;
+	/**
+	 * The index of the mark on the {@link #bytes}. (-1 if there is no mark)
+	 */
+	private int mark = -1;
+	/**
+	 * The maximum count of bytes to be read after the mark. Before the mark get invalidated.
+	 */
+	private int markLimit;
+	/**
+	 * The {@link #low} surrogate at the time of marking.
+	 */
+	private char markLow;
+	/**
+	 * The index of the next byte on the {@link #bytes}.
+	 */
+	private int position;
+
+	/**
+	 * Construct a new source that reads ahead from the given stream into a buffer with the given capacity.
+	 *
+	 * @param stream   the stream to read from
+	 * @param capacity the capacity of the buffer
+	 * @throws NullPointerException     if the given 'stream' is null
+	 * @throws IllegalArgumentException if the given 'capacity' is less than 4
+	 */
+	public ByteSource(InputStream stream, int capacity) {
+		Objects.requireNonNull(stream, "stream");
+		if (capacity < 4)
+			//the longest character
+			throw new IllegalArgumentException("capacity < 4");
+
+		this.stream = stream;
+		this.channel = null;
+		this.window = 0;
+		this.buffer = null;
+		this.bytes = new byte[capacity];
+	}
+
+	/**
+	 * Construct a new source that reads ahead from the given stream. With the {@link #DEFAULT_CAPACITY}.
+	 *
+	 * @param stream the stream to read from
+	 * @throws NullPointerException if the given 'stream' is null
+	 */
+	public ByteSource(InputStream stream) {
+		this(stream, ByteSource.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Construct a new source of the remaining bytes of the given buffer. The position of the given buffer is not changed.
+	 *
+	 * @param buffer the buffer to read from
+	 * @throws NullPointerException if the given 'buffer' is null
+	 */
+	public ByteSource(ByteBuffer buffer) {
+		Objects.requireNonNull(buffer, "buffer");
+		this.stream = null;
+		this.channel = null;
+		this.window = 0;
+
+		if (buffer.hasArray()) {
+			this.buffer = null;
+			this.bytes = buffer.array();
+			this.position = buffer.arrayOffset() + buffer.position();
+			this.limit = buffer.arrayOffset() + buffer.limit();
+		} else {
+			this.buffer = buffer.duplicate();
+			this.bytes = new byte[Math.max(4, Math.min(buffer.remaining(), ByteSource.DEFAULT_CAPACITY))];
+		}
+	}
+
+	/**
+	 * Construct a new source of the bytes of a slice of the given array.
+	 *
+	 * @param array  the array to read from
+	 * @param offset the index of the first byte of the slice
+	 * @param length the count of bytes in the slice
+	 * @throws NullPointerException      if the given 'array' is null
+	 * @throws IndexOutOfBoundsException if the given 'offset' or 'length' are out of the bounds of the given 'array'
+	 */
+	public ByteSource(byte[] array, int offset, int length) {
+		Objects.requireNonNull(array, "array");
+		if (offset < 0 || length < 0 || length > array.length - offset)
+			throw new IndexOutOfBoundsException("offset=" + offset + " length=" + length + " array.length=" + array.length);
+
+		this.stream = null;
+		this.channel = null;
+		this.window = 0;
+		this.buffer = null;
+		this.bytes = array;
+		this.position = offset;
+		this.limit = offset + length;
+	}
+
+	/**
+	 * Construct a new source of the bytes of the given array.
+	 *
+	 * @param array the array to read from
+	 * @throws NullPointerException if the given 'array' is null
+	 */
+	public ByteSource(byte[] array) {
+		this(array, 0, array.length);
+	}
+
+	/**
+	 * Construct a new source of the bytes of the given channel. From its current position to its size. That maps the channel to memory (read-only)
+	 * a window with the given size at a time. So the bytes are read straight from the page cache. And the read ahead is left to the os.
+	 *
+	 * @param channel the channel to read from
+	 * @param window  the size of the windows to map the channel by
+	 * @throws NullPointerException     if the given 'channel' is null
+	 * @throws IllegalArgumentException if the given 'window' is less than 4
+	 * @throws IOException              if any I/O exception occurs
+	 * @apiNote the position of the given channel is not changed. And the given channel is not closed when this source get closed
+	 */
+	public ByteSource(FileChannel channel, int window) throws IOException {
+		Objects.requireNonNull(channel, "channel");
+		if (window < 4)
+			//the longest character
+			throw new IllegalArgumentException("window < 4");
+
+		this.stream = null;
+		this.channel = channel;
+		this.window = window;
+		this.channelPosition = channel.position();
+		this.channelLimit = channel.size();
+		this.buffer = ByteSource.EMPTY;
+		this.bytes = new byte[(int) Math.max(4, Math.min(this.channelLimit - this.channelPosition, Math.min(window, ByteSource.DEFAULT_CAPACITY)))];
+	}
+
+	/**
+	 * Construct a new source of the bytes of the given channel. From its current position to its size. That maps the channel to memory (read-only)
+	 * a window with the {@link #DEFAULT_WINDOW} size at a time.
+	 *
+	 * @param channel the channel to read from
+	 * @throws NullPointerException if the given 'channel' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @apiNote the position of the given channel is not changed. And the given channel is not closed when this source get closed
+	 */
+	public ByteSource(FileChannel channel) throws IOException {
+		this(channel, ByteSource.DEFAULT_WINDOW);
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!this.closed) {
+			this.closed = true;
+
+			if (this.stream != null)
+				this.stream.close();
+			if (this.channel != null)
+				//the window. So it can be unmapped
+				this.buffer = ByteSource.EMPTY;
+		}
+	}
+
+	@Override
+	public void mark(int readAheadLimit) throws IOException {
+		if (readAheadLimit < 0)
+			throw new IllegalArgumentException("readAheadLimit < 0");
+		this.ensureOpen();
+
+		//three bytes at most for each character. (and four bytes for each two characters)
+		long bytes = 3L * readAheadLimit;
+
+		if (this.isSequential() && bytes > this.bytes.length)
+			throw new IOException("readAheadLimit > capacity / 3");
+
+		this.mark = this.position;
+		this.markLimit = (int) Math.min(bytes, Integer.MAX_VALUE);
+		this.markLow = this.low;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return true;
+	}
+
+	/**
+	 * Get the next byte. Without consuming it.
+	 *
+	 * @return the next byte (0-255). Or -1 if the end of the stream has been reached
+	 * @throws IOException if any I/O exception occurs
+	 */
+	public int peekByte() throws IOException {
+		this.ensureOpen();
+
+		ByteBuffer direct = this.direct();
+
+		if (direct != null)
+			return direct.get(direct.position()) & 0xFF;
+		if (this.position == this.limit && !this.fill(1))
+			return -1;
+
+		return this.bytes[this.position] & 0xFF;
+	}
+
+	/**
+	 * Get the byte at the given offset from the next byte. Without consuming any byte.
+	 *
+	 * @param offset the offset of the byte to be peeked. (0 for the next byte)
+	 * @return the byte (0-255) at the given offset. Or -1 if the end of the stream will be reached before it
+	 * @throws IOException               if any I/O exception occurs
+	 * @throws IndexOutOfBoundsException if the given 'offset' is negative. Or if reading from a stream or a direct buffer and the given offset is
+	 *                                   not less than the capacity of the buffer
+	 */
+	public int peekByte(int offset) throws IOException {
+		if (offset < 0 || this.isSequential() && offset >= this.bytes.length)
+			throw new IndexOutOfBoundsException("offset=" + offset);
+		this.ensureOpen();
+
+		if (offset >= this.limit - this.position && !this.fill(offset + 1))
+			return -1;
+
+		return this.bytes[this.position + offset] & 0xFF;
+	}
+
+	@Override
+	public int read() throws IOException {
+		this.ensureOpen();
+
+		if (this.low != 0) {
+			char low = this.low;
+			this.low = 0;
+			return low;
+		}
+		if (this.position == this.limit && !this.fill(1))
+			return -1;
+
+		byte b = this.bytes[this.position];
+
+		if (b >= 0) {
+			this.position++;
+			return b;
+		}
+
+		return this.decode();
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		Objects.requireNonNull(cbuf, "cbuf");
+		if (off < 0 || len < 0 || len > cbuf.length - off)
+			throw new IndexOutOfBoundsException("off=" + off + " len=" + len + " length=" + cbuf.length);
+		this.ensureOpen();
+
+		if (len == 0)
+			return 0;
+
+		int end = off + len;
+		int i = off;
+
+		if (this.low != 0) {
+			cbuf[i++] = this.low;
+			this.low = 0;
+		}
+
+		while (i < end) {
+			if (this.position == this.limit && (i > off && !this.ready() || !this.fill(1)))
+				//don't block if some characters have been read
+				break;
+
+			//ascii fast path
+			byte[] bytes = this.bytes;
+			int position = this.position;
+			int n = Math.min(end - i, this.limit - position);
+			int j = 0;
+
+			for (byte b; j < n && (b = bytes[position + j]) >= 0; j++)
+				cbuf[i + j] = (char) b;
+
+			this.position = position + j;
+			i += j;
+
+			if (i < end && this.position < this.limit) {
+				cbuf[i++] = (char) this.decode();
+
+				if (this.low != 0 && i < end) {
+					cbuf[i++] = this.low;
+					this.low = 0;
+				}
+			}
+		}
+
+		return i == off ? -1 : i - off;
+	}
+
+	/**
+	 * Read the next byte.
+	 *
+	 * @return the next byte (0-255). Or -1 if the end of the stream has been reached
+	 * @throws IOException if any I/O exception occurs
+	 */
+	public int readByte() throws IOException {
+		this.ensureOpen();
+
+		ByteBuffer direct = this.direct();
+
+		if (direct != null)
+			return direct.get() & 0xFF;
+		if (this.position == this.limit && !this.fill(1))
+			return -1;
+
+		return this.bytes[this.position++] & 0xFF;
+	}
+
+	@Override
+	public boolean ready() throws IOException {
+		this.ensureOpen();
+
+		return this.low != 0 || this.position < this.limit ||
+			   this.stream != null && this.stream.available() > 0 ||
+			   this.buffer != null && this.buffer.hasRemaining() ||
+			   this.channelPosition < this.channelLimit;
+	}
+
+	@Override
+	public void reset() throws IOException {
+		this.ensureOpen();
+		if (this.mark < 0)
+			throw new IOException("Stream not marked");
+
+		this.position = this.mark;
+		this.low = this.markLow;
+	}
+
+	/**
+	 * Consume the whitespace bytes at the position. Using the {@link TextScanner#global} scanner. (a word at a time on the buffered bytes)
+	 *
+	 * @return the next byte (0-255) after the whitespace. (not consumed) Or -1 if the end of the stream has been reached
+	 * @throws IOException if any I/O exception occurs
+	 */
+	public int skipWhitespace() throws IOException {
+		this.ensureOpen();
+
+		while (true) {
+			ByteBuffer direct = this.direct();
+
+			if (direct != null) {
+				//straight from the buffer
+				int i = direct.position();
+				int n = direct.limit();
+
+				while (i < n && TextScanner.isWhitespace(direct.get(i)))
+					i++;
+
+				//through Buffer. (ByteBuffer.position(int) is java 9+)
+				((Buffer) direct).position(i);
+
+				if (i < n)
+					return direct.get(i) & 0xFF;
+
+				continue;
+			}
+			if (this.position == this.limit && !this.fill(1))
+				return -1;
+
+			this.position = TextScanner.global.skipWhitespace(this.bytes, this.position, this.limit);
+
+			if (this.position < this.limit)
+				return this.bytes[this.position] & 0xFF;
+		}
+	}
+
+	/**
+	 * Decode the multi-byte character at the position. (a pair of surrogates if it is a supplementary character. The low surrogate is stored to be
+	 * read next)
+	 *
+	 * @return the decoded character. Or {@link #REPLACEMENT} if the sequence is malformed
+	 * @throws IOException if any I/O exception occurs
+	 */
+	private int decode() throws IOException {
+		int b0 = this.bytes[this.position] & 0xFF;
+		int n = b0 >= 0xF0 ? 4 : b0 >= 0xE0 ? 3 : 2;
+
+		if (b0 < 0xC2 || b0 > 0xF4) {
+			//a continuation byte, an overlong lead or out of the unicode range
+			this.position++;
+			return REPLACEMENT;
+		}
+
+		if (this.limit - this.position < n)
+			this.fill(n);
+
+		int code = b0 & (0x7F >> n);
+
+		for (int i = 1; i < n; i++) {
+			if (this.position + i == this.limit) {
+				//truncated by the end of the stream
+				this.position += i;
+				return REPLACEMENT;
+			}
+
+			int b = this.bytes[this.position + i] & 0xFF;
+			boolean valid = (b & 0xC0) == 0x80;
+
+			if (i == 1)
+				//overlong, surrogates or beyond the unicode range
+				valid &= b0 == 0xE0 ? b >= 0xA0 :
+						 b0 == 0xED ? b < 0xA0 :
+						 b0 == 0xF0 ? b >= 0x90 :
+						 b0 != 0xF4 || b < 0x90;
+
+			if (!valid) {
+				//the maximal valid prefix is replaced
+				this.position += i;
+				return REPLACEMENT;
+			}
+
+			code = code << 6 | b & 0x3F;
+		}
+
+		this.position += n;
+
+		if (n == 4) {
+			this.low = Character.lowSurrogate(code);
+			return Character.highSurrogate(code);
+		}
+
+		return code;
+	}
+
+	/**
+	 * Get the direct buffer (or the mapped window) to read the next byte from straight. Without reading it ahead into the {@link #bytes}. Only if no
+	 * byte is read ahead and there is no mark. (mapping the next window if the current one is finished)
+	 *
+	 * @return the buffer to read the next byte from. Or null if the next byte should be read from the {@link #bytes} (or the end has been reached)
+	 * @throws IOException if any I/O exception occurs
+	 */
+	private ByteBuffer direct() throws IOException {
+		if (this.buffer == null || this.position < this.limit || this.mark >= 0)
+			return null;
+
+		if (!this.buffer.hasRemaining()) {
+			this.next();
+
+			if (!this.buffer.hasRemaining())
+				return null;
+		}
+
+		return this.buffer;
+	}
+
+	/**
+	 * Throw an exception if this source is closed.
+	 *
+	 * @throws IOException if this source is closed
+	 */
+	private void ensureOpen() throws IOException {
+		if (this.closed)
+			throw new IOException("Stream closed");
+	}
+
+	/**
+	 * Read ahead until there is at least the given count of bytes available after the {@link #position}. Or the end of the stream is reached. The
+	 * bytes before the {@link #position} are dropped (or kept if still marked) to make room.
+	 *
+	 * @param count the count of bytes to be available after the position. (not more than the capacity)
+	 * @return false if the end of the stream has been reached before the given count of bytes get available
+	 * @throws IOException if any I/O exception occurs
+	 */
+	private boolean fill(int count) throws IOException {
+		if (!this.isSequential())
+			return this.limit - this.position >= count;
+
+		if (this.mark >= 0 && (this.position - this.mark > this.markLimit || this.position - this.mark + count > this.bytes.length))
+			//read beyond the limit of the mark. Or the mark can't be kept while reading that far ahead
+			this.mark = -1;
+
+		int keep = this.mark < 0 ? this.position : this.mark;
+
+		if (keep > 0 && this.bytes.length - this.limit < count - (this.limit - this.position)) {
+			//slide the kept bytes to the start of the buffer
+			System.arraycopy(this.bytes, keep, this.bytes, 0, this.limit - keep);
+			this.limit -= keep;
+			this.position -= keep;
+			if (this.mark >= 0)
+				this.mark -= keep;
+		}
+
+		while (this.limit - this.position < count) {
+			int n;
+
+			if (this.stream != null) {
+				n = this.stream.read(this.bytes, this.limit, this.bytes.length - this.limit);
+			} else {
+				if (!this.buffer.hasRemaining())
+					this.next();
+
+				n = Math.min(this.buffer.remaining(), this.bytes.length - this.limit);
+				if (n == 0)
+					n = -1;
+				else this.buffer.get(this.bytes, this.limit, n);
+			}
+
+			if (n < 0)
+				return false;
+
+			this.limit += n;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Map the next window of the {@link #channel}. Replacing the finished window. (with {@link #EMPTY} if there is no next window) Does nothing if
+	 * not reading from a channel.
+	 *
+	 * @throws IOException if any I/O exception occurs
+	 */
+	private void next() throws IOException {
+		if (this.channel == null)
+			return;
+
+		//the finished window is dropped. Even if mapping the next one fails
+		this.buffer = ByteSource.EMPTY;
+
+		if (this.channelPosition < this.channelLimit) {
+			long size = Math.min(this.window, this.channelLimit - this.channelPosition);
+			this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, this.channelPosition, size);
+			this.channelPosition += size;
+		}
+	}
+
+	/**
+	 * Determine if this source reads ahead into a bounded buffer. (from a stream, a direct buffer or a channel)
+	 *
+	 * @return true, if this source reads ahead into a bounded buffer
+	 */
+	private boolean isSequential() {
+		return this.stream != null || this.buffer != null;
+	}
+}
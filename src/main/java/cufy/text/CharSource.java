@@ -0,0 +1,363 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * A random-access source of characters. Over a {@link CharSequence}, a slice of a {@code char[]} or a {@link CharBuffer}. Without copying them.
+ * <br/>
+ * It is a {@link Reader}. So it can be passed anywhere a reader is expected. But parsing methods can check if {@link ParseArguments#source} is
+ * available. Then use the index-based methods ({@link #position()}, {@link #charAt(int)}, {@link #peek(int)}...) instead of reading the characters
+ * one by one.
+ * <br/>
+ * The indexes of {@link #charAt(int)} and {@link #slice(int, int)} are from the start of the source. Not from the current position.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @implNote not synchronized. A source should only be used by one thread at a time. Marking is always supported (with no limit). Not a {@link
+ * 		CharSequence}. To not be ambiguous with the reader overloads of the {@link Parser} and {@link Classifier}
+ * @since 19-Oct-2026
+ */
+public class CharSource extends Reader {
+	/**
+	 * The array backing this source. (null if backed by a {@link #sequence})
+	 */
+	final private char[] array;
+	/**
+	 * The count of characters in this source.
+	 */
+	final private int length;
+	/**
+	 * The index of the first character of this source on its backing array or sequence.
+	 */
+	final private int offset;
+	/**
+	 * The sequence backing this source. (null if backed by an {@link #array})
+	 */
+	final private CharSequence sequence;
+	/**
+	 * The position of the mark. (from the start of this source)
+	 */
+	private int mark;
+	/**
+	 * The position of the next character to be read. (from the start of this source)
+	 */
+	private int position;
+
+	/**
+	 * Construct a new source of the characters of the given sequence. If the given sequence is a {@link CharBuffer}, then its remaining characters
+	 * are the characters of the new source. (changing the position of the buffer later will not affect the source)
+	 *
+	 * @param sequence the sequence of the characters of the new source
+	 * @throws NullPointerException if the given 'sequence' is null
+	 */
+	public CharSource(CharSequence sequence) {
+		Objects.requireNonNull(sequence, "sequence");
+
+		if (sequence instanceof CharBuffer && ((CharBuffer) sequence).hasArray()) {
+			CharBuffer buffer = (CharBuffer) sequence;
+			this.array = buffer.array();
+			this.sequence = null;
+			this.offset = buffer.arrayOffset() + buffer.position();
+			this.length = buffer.remaining();
+		} else {
+			//a snapshot of the position of a buffer
+			this.array = null;
+			this.sequence = sequence instanceof CharBuffer ? ((CharBuffer) sequence).duplicate() : sequence;
+			this.offset = 0;
+			this.length = sequence.length();
+		}
+	}
+
+	/**
+	 * Construct a new source of the characters of the given array.
+	 *
+	 * @param array the array of the characters of the new source
+	 * @throws NullPointerException if the given 'array' is null
+	 */
+	public CharSource(char[] array) {
+		this(array, 0, array.length);
+	}
+
+	/**
+	 * Construct a new source of the characters of a slice of the given array.
+	 *
+	 * @param array  the array of the characters of the new source
+	 * @param offset the index of the first character of the slice
+	 * @param length the count of characters in the slice
+	 * @throws NullPointerException      if the given 'array' is null
+	 * @throws IndexOutOfBoundsException if the given 'offset' or 'length' are out of the bounds of the given 'array'
+	 */
+	public CharSource(char[] array, int offset, int length) {
+		Objects.requireNonNull(array, "array");
+		if (offset < 0 || length < 0 || length > array.length - offset)
+			throw new IndexOutOfBoundsException("offset=" + offset + " length=" + length + " array.length=" + array.length);
+
+		this.array = array;
+		this.sequence = null;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Construct a new source of the characters of a slice of the given source.
+	 *
+	 * @param source the source to be sliced
+	 * @param start  the index of the first character of the slice. (from the start of the given source)
+	 * @param end    the index after the last character of the slice. (from the start of the given source)
+	 */
+	private CharSource(CharSource source, int start, int end) {
+		this.array = source.array;
+		this.sequence = source.sequence;
+		this.offset = source.offset + start;
+		this.length = end - start;
+	}
+
+	/**
+	 * Get the character at the given index. (from the start of this source)
+	 *
+	 * @param index the index of the character
+	 * @return the character at the given index
+	 * @throws IndexOutOfBoundsException if the given 'index' is negative or not less than the {@link #length()}
+	 */
+	public char charAt(int index) {
+		if (index < 0 || index >= this.length)
+			throw new IndexOutOfBoundsException("index=" + index + " length=" + this.length);
+
+		return this.array == null ?
+			   this.sequence.charAt(this.offset + index) :
+			   this.array[this.offset + index];
+	}
+
+	@Override
+	public void close() {
+		//nothing to release
+	}
+
+	/**
+	 * Get the count of characters in this source. (regardless of the position)
+	 *
+	 * @return the count of characters in this source
+	 */
+	public int length() {
+		return this.length;
+	}
+
+	@Override
+	public void mark(int readAheadLimit) {
+		if (readAheadLimit < 0)
+			throw new IllegalArgumentException("readAheadLimit < 0");
+
+		this.mark = this.position;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return true;
+	}
+
+	@Override
+	public int read() {
+		if (this.position == this.length)
+			return -1;
+
+		return this.charAt(this.position++);
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) {
+		Objects.requireNonNull(cbuf, "cbuf");
+		if (off < 0 || len < 0 || len > cbuf.length - off)
+			throw new IndexOutOfBoundsException("off=" + off + " len=" + len + " length=" + cbuf.length);
+
+		if (len == 0)
+			return 0;
+		if (this.position == this.length)
+			return -1;
+
+		int n = Math.min(len, this.length - this.position);
+		int start = this.offset + this.position;
+
+		if (this.array != null)
+			System.arraycopy(this.array, start, cbuf, off, n);
+		else if (this.sequence instanceof String)
+			((String) this.sequence).getChars(start, start + n, cbuf, off);
+		else for (int i = 0; i < n; i++)
+				cbuf[off + i] = this.sequence.charAt(start + i);
+
+		this.position += n;
+		return n;
+	}
+
+	@Override
+	public boolean ready() {
+		return true;
+	}
+
+	@Override
+	public void reset() {
+		this.position = this.mark;
+	}
+
+	@Override
+	public long skip(long n) {
+		if (n < 0)
+			throw new IllegalArgumentException("n < 0");
+
+		int skipped = (int) Math.min(n, this.length - this.position);
+		this.position += skipped;
+		return skipped;
+	}
+
+	/**
+	 * Get a new source of a slice of the characters of this source. Sharing the same backing characters.
+	 *
+	 * @param start the index of the first character of the slice. (from the start of this source)
+	 * @param end   the index after the last character of the slice. (from the start of this source)
+	 * @return a new source of the given slice of this source. (positioned at its start)
+	 * @throws IndexOutOfBoundsException if the given 'start' or 'end' are out of the bounds of this source. Or if 'start' is more than 'end'
+	 */
+	public CharSource slice(int start, int end) {
+		if (start < 0 || end > this.length || start > end)
+			throw new IndexOutOfBoundsException("start=" + start + " end=" + end + " length=" + this.length);
+
+		return new CharSource(this, start, end);
+	}
+
+	@Override
+	public String toString() {
+		return this.array == null ?
+			   this.sequence.subSequence(this.offset, this.offset + this.length).toString() :
+			   new String(this.array, this.offset, this.length);
+	}
+
+	/**
+	 * Get the character at the given offset from the next character. Without consuming any character.
+	 *
+	 * @param offset the offset of the character to be peeked. (0 for the next character)
+	 * @return the character at the given offset. Or -1 if it is beyond the end of this source
+	 * @throws IndexOutOfBoundsException if the given 'offset' is negative
+	 */
+	public int peek(int offset) {
+		if (offset < 0)
+			throw new IndexOutOfBoundsException("offset=" + offset);
+
+		return offset < this.length - this.position ? this.charAt(this.position + offset) : -1;
+	}
+
+	/**
+	 * Get the next character. Without consuming it.
+	 *
+	 * @return the next character. Or -1 if the end of this source has been reached
+	 */
+	public int peek() {
+		return this.position == this.length ? -1 : this.charAt(this.position);
+	}
+
+	/**
+	 * Get the position of the next character to be read. (from the start of this source)
+	 *
+	 * @return the position of the next character to be read
+	 */
+	public int position() {
+		return this.position;
+	}
+
+	/**
+	 * Set the position of the next character to be read. (from the start of this source) Used to consume the characters scanned using the
+	 * index-based methods.
+	 *
+	 * @param position the position of the next character to be read
+	 * @throws IndexOutOfBoundsException if the given 'position' is negative or more than the {@link #length()}
+	 */
+	public void position(int position) {
+		if (position < 0 || position > this.length)
+			throw new IndexOutOfBoundsException("position=" + position + " length=" + this.length);
+
+		this.position = position;
+	}
+
+	/**
+	 * Get the count of characters remaining after the position.
+	 *
+	 * @return the count of characters remaining after the position
+	 */
+	public int remaining() {
+		return this.length - this.position;
+	}
+
+	/**
+	 * Get the index of the first character (at or after the position) that is one of the given delimiters. Using the {@link TextScanner#global}
+	 * scanner. Without consuming any character.
+	 *
+	 * @param delimiters the delimiters to be found
+	 * @return the index of the first delimiter. (from the start of this source) Or -1 if none
+	 * @throws NullPointerException if the given 'delimiters' is null
+	 */
+	public int indexOfAny(String delimiters) {
+		return this.indexOfAny(new TextScanner.Delimiters(delimiters));
+	}
+
+	/**
+	 * Get the index of the first character (at or after the position) that is one of the given delimiters. Using the {@link TextScanner#global}
+	 * scanner. Without consuming any character.
+	 *
+	 * @param delimiters the delimiters to be found
+	 * @return the index of the first delimiter. (from the start of this source) Or -1 if none
+	 * @throws NullPointerException if the given 'delimiters' is null
+	 */
+	public int indexOfAny(TextScanner.Delimiters delimiters) {
+		int from = this.offset + this.position, to = this.offset + this.length;
+		int index = this.array == null ?
+					TextScanner.global.indexOfAny(this.sequence, from, to, delimiters) :
+					TextScanner.global.indexOfAny(this.array, from, to, delimiters);
+
+		return index < 0 ? -1 : index - this.offset;
+	}
+
+	/**
+	 * Get the index of the first quote ({@code "}) or backslash ({@code \}) character at or after the position. (the end of the plain part of a
+	 * string literal) Using the {@link TextScanner#global} scanner. Without consuming any character.
+	 *
+	 * @return the index of the first quote or backslash. (from the start of this source) Or -1 if none
+	 */
+	public int indexOfQuoteOrBackslash() {
+		int from = this.offset + this.position, to = this.offset + this.length;
+		int index = this.array == null ?
+					TextScanner.global.indexOfQuoteOrBackslash(this.sequence, from, to) :
+					TextScanner.global.indexOfQuoteOrBackslash(this.array, from, to);
+
+		return index < 0 ? -1 : index - this.offset;
+	}
+
+	/**
+	 * Consume the whitespace characters at the position. Using the {@link TextScanner#global} scanner.
+	 *
+	 * @return the next character after the whitespace. (not consumed) Or -1 if the end of this source has been reached
+	 */
+	public int skipWhitespace() {
+		int from = this.offset + this.position, to = this.offset + this.length;
+		int index = this.array == null ?
+					TextScanner.global.skipWhitespace(this.sequence, from, to) :
+					TextScanner.global.skipWhitespace(this.array, from, to);
+
+		this.position = index - this.offset;
+		return this.peek();
+	}
+}
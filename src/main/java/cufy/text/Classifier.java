@@ -19,12 +19,15 @@ import cufy.lang.Clazz;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * A class that can classify sequences from a reader. With just a simple gate method (for the caller).
  *
  * @author LSaferSE
- * @version 1 release (31-Mar-2020)
+ * @version 2 release (19-Oct-2026)
  * @since 31-Mar-2020
  */
 public interface Classifier {
@@ -43,6 +46,36 @@ public interface Classifier {
 		return this.classify(new ClassifyArguments<>(input, output));
 	}
 
+	/**
+	 * Return the proper clazz for the given text. Through a {@link CharSource}. So the text is not copied.
+	 *
+	 * @param input the text to be classified
+	 * @param <O>   the component-type of the clazz returned
+	 * @return the proper clazz for the given text
+	 * @throws NullPointerException if the given 'input' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ClassifyException    if any classifying exception occurs
+	 */
+	default <O> Clazz<O> classify(CharSequence input) throws IOException {
+		return this.classify(new ClassifyArguments<>(new CharSource(input)));
+	}
+
+	/**
+	 * Return the proper clazz for the UTF-8 text of the file at the given path. Through a {@link ByteSource} that maps the file to memory.
+	 *
+	 * @param input the path of the file to be classified
+	 * @param <O>   the component-type of the clazz returned
+	 * @return the proper clazz for the text of the given file
+	 * @throws NullPointerException if the given 'input' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ClassifyException    if any classifying exception occurs
+	 */
+	default <O> Clazz<O> classify(Path input) throws IOException {
+		try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+			return this.classify(new ClassifyArguments<>(new ByteSource(channel)));
+		}
+	}
+
 	/**
 	 * Return the proper clazz for the text in the given 'input'.
 	 *
@@ -33,9 +33,18 @@ public class ClassifyArguments<I, O> {
 	/**
 	 * The reader to read input from.
 	 *
-	 * @apiNote return it to it's original position after using it
+	 * @apiNote return it to it's original position after using it. (it is a {@link LookaheadReader} when classifying for a cparse. So it can always be
+	 * 		marked)
 	 */
 	final public Reader input;
+	/**
+	 * The input as a byte source. (null if the {@link #input} is not a {@link ByteSource})
+	 */
+	final public ByteSource bytes;
+	/**
+	 * The input as a random-access source. (null if the {@link #input} is not a {@link CharSource})
+	 */
+	final public CharSource source;
 	/**
 	 * The output of the classification. (could be changed several times!)
 	 */
@@ -51,6 +60,8 @@ public class ClassifyArguments<I, O> {
 	public ClassifyArguments(Reader input, Clazz output) {
 		Objects.requireNonNull(input, "input");
 		this.input = input;
+		this.source = input instanceof CharSource ? (CharSource) input : null;
+		this.bytes = input instanceof ByteSource ? (ByteSource) input : null;
 		this.output = output;
 	}
 
@@ -0,0 +1,156 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An index of the {@link ClassifyMethod}s of a format. By the first characters they accept. So the classification of an input only invokes the
+ * methods accepting its first character.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+final class ClassifyIndex {
+	/**
+	 * The methods accepting each ASCII character. (in their original order)
+	 */
+	final private Method[][] ascii = new Method[128][];
+	/**
+	 * The methods accepting any character. (in their original order)
+	 */
+	final private Method[] fallback;
+	/**
+	 * All the indexed methods. (in their original order. But the methods accepting any character last)
+	 */
+	final private Method[] methods;
+	/**
+	 * If any of the indexed methods declared a non-ASCII character. (so they need to be tested for each non-ASCII character)
+	 */
+	final private boolean nonAscii;
+
+	/**
+	 * Construct a new index of the given methods.
+	 *
+	 * @param methods the {@link ClassifyMethod}s to be indexed. (in the order they should be invoked)
+	 * @throws NullPointerException     if the given 'methods' is null
+	 * @throws IllegalArgumentException if any of the given methods have an illegal {@link ClassifyMethod#range()}
+	 */
+	ClassifyIndex(Iterable<Method> methods) {
+		Objects.requireNonNull(methods, "methods");
+
+		List<Method> list = new ArrayList<>();
+		List<Method> fallback = new ArrayList<>();
+		boolean nonAscii = false;
+
+		for (Method method : methods) {
+			ClassifyMethod annotation = method.getAnnotation(ClassifyMethod.class);
+
+			if (annotation.start().isEmpty() && annotation.range().length == 0)
+				fallback.add(method);
+			else list.add(method);
+
+			for (char c : annotation.start().toCharArray())
+				nonAscii |= c >= this.ascii.length;
+
+			for (String range : annotation.range())
+				if (range.length() != 3 || range.charAt(1) != '-' || range.charAt(0) > range.charAt(2))
+					throw new IllegalArgumentException(method + " have an illegal range \"" + range + "\"");
+				else nonAscii |= range.charAt(2) >= this.ascii.length;
+		}
+
+		//the methods accepting anything are the last resort
+		list.addAll(fallback);
+
+		this.methods = list.toArray(new Method[0]);
+		this.fallback = fallback.toArray(new Method[0]);
+		this.nonAscii = nonAscii;
+
+		for (char c = 0; c < this.ascii.length; c++)
+			this.ascii[c] = this.candidates0(c);
+	}
+
+	/**
+	 * Determine if the given method accepts the inputs starting with the given character.
+	 *
+	 * @param method the method to be tested
+	 * @param c      the first character of the input. (or -1 if the input is empty)
+	 * @return true, if the given method accepts the inputs starting with the given character
+	 */
+	private static boolean accepts(Method method, int c) {
+		ClassifyMethod annotation = method.getAnnotation(ClassifyMethod.class);
+		String start = annotation.start();
+		String[] ranges = annotation.range();
+
+		if (start.isEmpty() && ranges.length == 0)
+			//accepts anything
+			return true;
+		if (c >= 0 && start.indexOf(c) >= 0)
+			return true;
+
+		for (String range : ranges)
+			if (c >= range.charAt(0) && c <= range.charAt(2))
+				return true;
+
+		return false;
+	}
+
+	/**
+	 * Get the methods accepting the inputs starting with the given character.
+	 *
+	 * @param c the first character of the input. (or -1 if the input is empty)
+	 * @return the methods accepting the inputs starting with the given character. (the methods declared it first. Each in their original order)
+	 * @apiNote the returned array should not be modified
+	 */
+	Method[] candidates(int c) {
+		if (c >= 0 && c < this.ascii.length)
+			return this.ascii[c];
+		if (c < 0 || !this.nonAscii)
+			//an empty input, or a character that no method declared
+			return this.fallback;
+
+		return this.candidates0(c);
+	}
+
+	/**
+	 * Find the methods accepting the inputs starting with the given character. By testing each method.
+	 *
+	 * @param c the first character of the input. (or -1 if the input is empty)
+	 * @return the methods accepting the inputs starting with the given character. (the methods declared it first. Each in their original order)
+	 */
+	private Method[] candidates0(int c) {
+		List<Method> candidates = new ArrayList<>(this.methods.length);
+		for (Method method : this.methods)
+			if (ClassifyIndex.accepts(method, c))
+				candidates.add(method);
+
+		return candidates.toArray(new Method[0]);
+	}
+
+	/**
+	 * Get all the indexed methods. (for the inputs that can't be peeked)
+	 *
+	 * @return all the indexed methods. (in their original order. But the methods accepting any character last)
+	 * @apiNote the returned array should not be modified
+	 */
+	Method[] methods() {
+		return this.methods;
+	}
+}
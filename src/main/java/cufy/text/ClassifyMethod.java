@@ -22,13 +22,30 @@ import java.lang.annotation.Target;
 
 /**
  * Navigate the {@link AbstractFormat} class that the annotated method is a string-type-detecting method.
+ * <br/>
+ * The annotated method can declare the first characters it accepts. Then it will only be invoked for the inputs starting with one of them. A method
+ * that declares no characters will be invoked for any input. (after the methods that declared the first character of that input)
  *
  * @author LSaferSE
- * @version 1 release (30-Mar-2020)
+ * @version 2 release (19-Oct-2026)
  * @apiNote the annotated method SHOULD match the {@link AbstractFormat#classify0} rules
  * @since 30-Mar-2020
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface ClassifyMethod {
+	/**
+	 * Ranges of the first characters the annotated method accepts. Each range is a string of three characters. The first character, a dash, then
+	 * the last character. (inclusive, like "0-9")
+	 *
+	 * @return ranges of the first characters the annotated method accepts
+	 */
+	String[] range() default {};
+
+	/**
+	 * The first characters the annotated method accepts. (each character in the string)
+	 *
+	 * @return the first characters the annotated method accepts
+	 */
+	String start() default "";
 }
@@ -18,13 +18,21 @@ package cufy.text;
 import cufy.lang.Clazz;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * A class that is a {@link Formatter} and {@link Parser} and {@link Classifier} at the same time.
+ * <br/>
+ * The cparse methods classify then parse in a single pass. The classification peeks the given reader (through {@link Reader#mark(int)} and
+ * {@link Reader#reset()}) and the parsing continues from the same reader. (or through a {@link LookaheadReader} of it if it does not support
+ * marking)
  *
  * @author LSaferSE
- * @version 1 release (31-Mar-2020)
+ * @version 2 release (19-Oct-2026)
  * @since 31-Mar-2020
  */
 public interface Format extends Formatter, Parser, Classifier {
@@ -39,9 +47,11 @@ public interface Format extends Formatter, Parser, Classifier {
 	 * @throws NullPointerException if the given 'outputClass' or 'input' is null
 	 * @throws IOException          if any I/O exception occurs
 	 * @throws ParseException       if any parsing exception occurs
+	 * @apiNote the characters read ahead from the given 'input' (if it does not support marking) are consumed
 	 */
 	default <O> O cparse(Reader input, O output, Clazz outputClazz) throws IOException {
-		return this.parse(input, output, this.classify(input), outputClazz);
+		Reader reader = input instanceof CharSource || input instanceof ByteSource || input.markSupported() ? input : LookaheadReader.of(input);
+		return this.parse(reader, output, this.classify(reader), outputClazz);
 	}
 
 	/**
@@ -54,9 +64,11 @@ public interface Format extends Formatter, Parser, Classifier {
 	 * @throws NullPointerException if the given 'outputClass' or 'input' is null
 	 * @throws IOException          if any I/O exception occurs
 	 * @throws ParseException       if any parsing exception occurs
+	 * @apiNote the characters read ahead from the given 'input' (if it does not support marking) are consumed
 	 */
 	default <O> O cparse(Reader input, O output) throws IOException {
-		return this.parse(input, output, this.classify(input));
+		Reader reader = input instanceof CharSource || input instanceof ByteSource || input.markSupported() ? input : LookaheadReader.of(input);
+		return this.parse(reader, output, this.classify(reader));
 	}
 
 	/**
@@ -69,9 +81,11 @@ public interface Format extends Formatter, Parser, Classifier {
 	 * @throws NullPointerException if the given 'outputClass' or 'input' is null
 	 * @throws IOException          if any I/O exception occurs
 	 * @throws ParseException       if any parsing exception occurs
+	 * @apiNote the characters read ahead from the given 'input' (if it does not support marking) are consumed
 	 */
 	default <O> O cparse(Reader input, Clazz outputClazz) throws IOException {
-		return this.parse(input, this.classify(input), outputClazz);
+		Reader reader = input instanceof CharSource || input instanceof ByteSource || input.markSupported() ? input : LookaheadReader.of(input);
+		return this.parse(reader, this.classify(reader), outputClazz);
 	}
 
 	/**
@@ -83,8 +97,132 @@ public interface Format extends Formatter, Parser, Classifier {
 	 * @throws NullPointerException if the given 'outputClass' or 'input' is null
 	 * @throws IOException          if any I/O exception occurs
 	 * @throws ParseException       if any parsing exception occurs
+	 * @apiNote the characters read ahead from the given 'input' (if it does not support marking) are consumed
 	 */
 	default <O> O cparse(Reader input) throws IOException {
-		return this.parse(input, this.classify(input));
+		Reader reader = input instanceof CharSource || input instanceof ByteSource || input.markSupported() ? input : LookaheadReader.of(input);
+		return this.parse(reader, this.classify(reader));
+	}
+
+	/**
+	 * Classify then parse the given text to an object with the type of the 'outputClazz' and then return it. Through a {@link CharSource}. So the
+	 * text is not copied.
+	 *
+	 * @param input       the text to be parsed
+	 * @param outputClazz the clazz to be for the output
+	 * @param <O>         the type of the parsed object
+	 * @return the parsed object
+	 * @throws NullPointerException if the given 'outputClass' or 'input' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if any parsing exception occurs
+	 */
+	default <O> O cparse(CharSequence input, Clazz outputClazz) throws IOException {
+		CharSource source = new CharSource(input);
+		return this.parse(source, this.classify(source), outputClazz);
+	}
+
+	/**
+	 * Classify then parse the given text to an object and then return it. Through a {@link CharSource}. So the text is not copied.
+	 *
+	 * @param input the text to be parsed
+	 * @param <O>   the type of the parsed object
+	 * @return the parsed object
+	 * @throws NullPointerException if the given 'input' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if any parsing exception occurs
+	 */
+	default <O> O cparse(CharSequence input) throws IOException {
+		CharSource source = new CharSource(input);
+		return this.parse(source, this.classify(source));
+	}
+
+	/**
+	 * Classify then parse the UTF-8 bytes read from the given stream to an object with the type of the 'outputClazz' and then return it. Through a
+	 * {@link ByteSource}. So the bytes are only decoded where needed.
+	 *
+	 * @param input       the stream to read from
+	 * @param outputClazz the clazz to be for the output
+	 * @param <O>         the type of the parsed object
+	 * @return the parsed object
+	 * @throws NullPointerException if the given 'outputClass' or 'input' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if any parsing exception occurs
+	 * @apiNote the bytes read ahead from the given 'input' are consumed
+	 */
+	default <O> O cparse(InputStream input, Clazz outputClazz) throws IOException {
+		ByteSource source = new ByteSource(input);
+		return this.parse(source, this.classify(source), outputClazz);
+	}
+
+	/**
+	 * Classify then parse the remaining UTF-8 bytes of the given buffer to an object with the type of the 'outputClazz' and then return it. Through a
+	 * {@link ByteSource}. So the bytes are only decoded where needed.
+	 *
+	 * @param input       the buffer to read from. (its position is not changed)
+	 * @param outputClazz the clazz to be for the output
+	 * @param <O>         the type of the parsed object
+	 * @return the parsed object
+	 * @throws NullPointerException if the given 'outputClass' or 'input' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if any parsing exception occurs
+	 */
+	default <O> O cparse(ByteBuffer input, Clazz outputClazz) throws IOException {
+		ByteSource source = new ByteSource(input);
+		return this.parse(source, this.classify(source), outputClazz);
+	}
+
+	/**
+	 * Get a pull-style reader of the tokens of the text read from the given 'input'. So the text can be streamed through with constant memory.
+	 *
+	 * @param input the input to read from
+	 * @return a tokenizer of the text read from the given 'input'
+	 * @throws NullPointerException          if the given 'input' is null
+	 * @throws IOException                   if any I/O exception occurs
+	 * @throws UnsupportedOperationException if this format doesn't support tokenizing
+	 */
+	default Tokenizer tokenize(Reader input) throws IOException {
+		Objects.requireNonNull(input, "input");
+		throw new UnsupportedOperationException(this.getClass() + " doesn't support tokenizing");
+	}
+
+	/**
+	 * Get a new incremental scanner that finds where a value of this format ends. Used by {@link PushParser}s.
+	 *
+	 * @return a new incremental scanner for this format
+	 * @throws UnsupportedOperationException if this format doesn't support push parsing
+	 */
+	default PushScanner newPushScanner() {
+		throw new UnsupportedOperationException(this.getClass() + " doesn't support push parsing");
+	}
+
+	/**
+	 * Parse the elements of the top-level collection at the start of the remaining UTF-8 bytes of the given buffer to a list of objects with the type
+	 * of the given 'elementClazz'. In parallel. Using the {@link #structuralIndex()} of this format to find the elements. Then parsing each element
+	 * on the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+	 *
+	 * @param input        the buffer to parse from. (its position is not changed)
+	 * @param elementClazz the clazz of the elements
+	 * @param <O>          the type of the elements
+	 * @return a list of the parsed elements. In order
+	 * @throws NullPointerException          if the given 'input' or 'elementClazz' is null
+	 * @throws IOException                   if any I/O exception occurs
+	 * @throws ParseException                if any parsing exception occurs
+	 * @throws UnsupportedOperationException if this format doesn't support structural indexing
+	 */
+	default <O> List<O> parseElements(ByteBuffer input, Clazz elementClazz) throws IOException {
+		Objects.requireNonNull(input, "input");
+		Objects.requireNonNull(elementClazz, "elementClazz");
+		return this.structuralIndex().parse(this, input, elementClazz);
+	}
+
+	/**
+	 * Get the structural indexer of this format. That finds the elements of a container without parsing them. Used by {@link
+	 * #parseElements(ByteBuffer, Clazz)}.
+	 *
+	 * @return the structural indexer of this format
+	 * @throws UnsupportedOperationException if this format doesn't support structural indexing
+	 */
+	default StructuralIndex structuralIndex() {
+		throw new UnsupportedOperationException(this.getClass() + " doesn't support structural indexing");
 	}
 }
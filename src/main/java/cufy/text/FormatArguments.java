@@ -55,6 +55,10 @@ public class FormatArguments<I, O> {
 	 * The formatting-arguments for the formatting that required initializing this arguments.
 	 */
 	final public FormatArguments parent;
+	/**
+	 * The count of the elements of this formatting that have been formatted. (only counted if the format is counting)
+	 */
+	int elements;
 
 	/**
 	 * Construct a new formatting arguments instance.
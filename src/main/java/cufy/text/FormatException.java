@@ -58,6 +58,17 @@ public class FormatException extends RuntimeException {
 		super(msg, cause);
 	}
 
+	/**
+	 * Constructs a new exception with the specified arguments. With suppression disabled, and writable stack trace enabled or disabled. A stackless
+	 * exception (writableStackTrace=false) is cheap to construct. And can be preallocated and thrown many times.
+	 *
+	 * @param msg                the message
+	 * @param writableStackTrace whether or not the stack trace should be writable
+	 */
+	public FormatException(String msg, boolean writableStackTrace) {
+		super(msg, null, false, writableStackTrace);
+	}
+
 	/**
 	 * Constructs a new exception with the specified detail message, cause, suppression enabled or disabled, and writable stack trace enabled or
 	 * disabled.
@@ -18,13 +18,20 @@ package cufy.text;
 import cufy.lang.Clazz;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
 
 /**
  * A class that can format objects and write it. With just a simple gate method (for the caller).
+ * <br/>
+ * Any {@link Appendable} can be formatted to. Through an unsynchronized {@link AppendableWriter}. And streams, channels and byte buffers can be
+ * formatted to as UTF-8. Through a {@link ByteSink}.
  *
  * @author LSaferSE
- * @version 1 release (31-Mar-2020)
+ * @version 2 release (19-Oct-2026)
  * @since 31-Mar-2020
  */
 public interface Formatter {
@@ -73,6 +80,222 @@ public interface Formatter {
 		return this.format(new FormatArguments<>(input, output));
 	}
 
+	/**
+	 * Append the text outputted from formatting the given 'input' to the 'output'.
+	 *
+	 * @param input       the input instance (source of inputClazz)
+	 * @param output      the output to append to
+	 * @param outputClazz the clazz to be for the output
+	 * @param <A>         the type of the output
+	 * @return the given output
+	 * @throws NullPointerException if the given 'outputClass' or 'output' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws FormatException      if any formatting exception occurs
+	 */
+	default <A extends Appendable> A format(Object input, A output, Clazz outputClazz) throws IOException {
+		Objects.requireNonNull(output, "output");
+		Writer writer = output instanceof Writer ? (Writer) output : new AppendableWriter(output);
+		this.format(new FormatArguments<>(input, writer, outputClazz));
+		return output;
+	}
+
+	/**
+	 * Append the text outputted from formatting the given 'input' to the 'output'.
+	 *
+	 * @param input  the input instance (source of inputClazz and outputClazz)
+	 * @param output the output to append to
+	 * @param <A>    the type of the output
+	 * @return the given output
+	 * @throws NullPointerException if the given 'output' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws FormatException      if any formatting exception occurs
+	 */
+	default <A extends Appendable> A format(Object input, A output) throws IOException {
+		Objects.requireNonNull(output, "output");
+		Writer writer = output instanceof Writer ? (Writer) output : new AppendableWriter(output);
+		this.format(new FormatArguments<>(input, writer));
+		return output;
+	}
+
+	/**
+	 * Write the text outputted from formatting the given 'input' to the given stream. As UTF-8 bytes. Then flush them.
+	 *
+	 * @param input       the input instance (source of inputClazz)
+	 * @param output      the stream to write to
+	 * @param outputClazz the clazz to be for the output
+	 * @return the given output
+	 * @throws NullPointerException if the given 'outputClass' or 'output' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws FormatException      if any formatting exception occurs
+	 * @apiNote a {@link java.io.PrintStream} is also an {@link Appendable}. Cast it to the wanted type
+	 */
+	default OutputStream format(Object input, OutputStream output, Clazz outputClazz) throws IOException {
+		Objects.requireNonNull(output, "output");
+		ByteSink sink = ByteSink.acquire(output);
+
+		try {
+			this.format(new FormatArguments<>(input, sink, outputClazz));
+			sink.finish();
+		} finally {
+			ByteSink.release(sink);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Write the text outputted from formatting the given 'input' to the given stream. As UTF-8 bytes. Then flush them.
+	 *
+	 * @param input  the input instance (source of inputClazz and outputClazz)
+	 * @param output the stream to write to
+	 * @return the given output
+	 * @throws NullPointerException if the given 'output' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws FormatException      if any formatting exception occurs
+	 * @apiNote a {@link java.io.PrintStream} is also an {@link Appendable}. Cast it to the wanted type
+	 */
+	default OutputStream format(Object input, OutputStream output) throws IOException {
+		Objects.requireNonNull(output, "output");
+		ByteSink sink = ByteSink.acquire(output);
+
+		try {
+			this.format(new FormatArguments<>(input, sink));
+			sink.finish();
+		} finally {
+			ByteSink.release(sink);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Write the text outputted from formatting the given 'input' to the given channel. As UTF-8 bytes. Then flush them.
+	 *
+	 * @param input       the input instance (source of inputClazz)
+	 * @param output      the channel to write to
+	 * @param outputClazz the clazz to be for the output
+	 * @return the given output
+	 * @throws NullPointerException if the given 'outputClass' or 'output' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws FormatException      if any formatting exception occurs
+	 */
+	default WritableByteChannel format(Object input, WritableByteChannel output, Clazz outputClazz) throws IOException {
+		Objects.requireNonNull(output, "output");
+		ByteSink sink = ByteSink.acquire(output);
+
+		try {
+			this.format(new FormatArguments<>(input, sink, outputClazz));
+			sink.finish();
+		} finally {
+			ByteSink.release(sink);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Write the text outputted from formatting the given 'input' to the given channel. As UTF-8 bytes. Then flush them.
+	 *
+	 * @param input  the input instance (source of inputClazz and outputClazz)
+	 * @param output the channel to write to
+	 * @return the given output
+	 * @throws NullPointerException if the given 'output' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws FormatException      if any formatting exception occurs
+	 */
+	default WritableByteChannel format(Object input, WritableByteChannel output) throws IOException {
+		Objects.requireNonNull(output, "output");
+		ByteSink sink = ByteSink.acquire(output);
+
+		try {
+			this.format(new FormatArguments<>(input, sink));
+			sink.finish();
+		} finally {
+			ByteSink.release(sink);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Write the text outputted from formatting the given 'input' to the given buffer. As UTF-8 bytes. (the position of the buffer is moved after the written bytes)
+	 *
+	 * @param input       the input instance (source of inputClazz)
+	 * @param output      the buffer to write to
+	 * @param outputClazz the clazz to be for the output
+	 * @return the given output
+	 * @throws NullPointerException if the given 'outputClass' or 'output' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws FormatException      if any formatting exception occurs
+	 * @throws java.nio.BufferOverflowException if the given buffer has no room for the written bytes
+	 */
+	default ByteBuffer format(Object input, ByteBuffer output, Clazz outputClazz) throws IOException {
+		Objects.requireNonNull(output, "output");
+		ByteSink sink = new ByteSink(output);
+		this.format(new FormatArguments<>(input, sink, outputClazz));
+		sink.finish();
+		return output;
+	}
+
+	/**
+	 * Write the text outputted from formatting the given 'input' to the given buffer. As UTF-8 bytes. (the position of the buffer is moved after the written bytes)
+	 *
+	 * @param input  the input instance (source of inputClazz and outputClazz)
+	 * @param output the buffer to write to
+	 * @return the given output
+	 * @throws NullPointerException if the given 'output' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws FormatException      if any formatting exception occurs
+	 * @throws java.nio.BufferOverflowException if the given buffer has no room for the written bytes
+	 */
+	default ByteBuffer format(Object input, ByteBuffer output) throws IOException {
+		Objects.requireNonNull(output, "output");
+		ByteSink sink = new ByteSink(output);
+		this.format(new FormatArguments<>(input, sink));
+		sink.finish();
+		return output;
+	}
+
+	/**
+	 * Return the text outputted from formatting the given 'input'. Formatted to a {@link StringBuilder} reused by the current thread.
+	 *
+	 * @param input       the input instance (source of inputClazz)
+	 * @param outputClazz the clazz to be for the output
+	 * @return the text outputted from formatting the given 'input'
+	 * @throws NullPointerException if the given 'outputClass' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws FormatException      if any formatting exception occurs
+	 */
+	default String formatToString(Object input, Clazz outputClazz) throws IOException {
+		AppendableWriter writer = AppendableWriter.acquire();
+
+		try {
+			this.format(new FormatArguments<>(input, writer, outputClazz));
+			return writer.toString();
+		} finally {
+			AppendableWriter.release(writer);
+		}
+	}
+
+	/**
+	 * Return the text outputted from formatting the given 'input'. Formatted to a {@link StringBuilder} reused by the current thread.
+	 *
+	 * @param input the input instance (source of inputClazz and outputClazz)
+	 * @return the text outputted from formatting the given 'input'
+	 * @throws IOException     if any I/O exception occurs
+	 * @throws FormatException if any formatting exception occurs
+	 */
+	default String formatToString(Object input) throws IOException {
+		AppendableWriter writer = AppendableWriter.acquire();
+
+		try {
+			this.format(new FormatArguments<>(input, writer));
+			return writer.toString();
+		} finally {
+			AppendableWriter.release(writer);
+		}
+	}
+
 	/**
 	 * Write the text outputted from formatting {@link FormatArguments#input} to the {@link FormatArguments#output}.
 	 *
@@ -0,0 +1,293 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * A reader that reads ahead from another reader into a bounded char buffer. So the characters can be peeked (or marked then reset) without being
+ * consumed. Used to classify then parse the same input. The classifiers peek into the buffer and the parsers continue from the same buffer. Without
+ * copying or re-reading the input.
+ * <br/>
+ * The buffer never grows. So a mark is only guaranteed for up to {@link #capacity()} characters. And {@link #peek(int)} can only look up to {@link
+ * #capacity()} characters ahead.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @implNote not synchronized. A reader should only be used by one thread at a time
+ * @since 19-Oct-2026
+ */
+public class LookaheadReader extends Reader {
+	/**
+	 * The default capacity of the buffer.
+	 */
+	final public static int DEFAULT_CAPACITY = 8192;
+
+	/**
+	 * The buffer of the characters read ahead.
+	 */
+	final private char[] buffer;
+	/**
+	 * The reader to read ahead from.
+	 */
+	private Reader in;
+	/**
+	 * The index of the end of the characters read ahead on the {@link #buffer}.
+	 */
+	private int limit;
+	/**
+	 * The maximum count of characters to be read after the mark. Before the mark get invalidated.
+	 */
+	private int markLimit;
+	/**
+	 * The index of the mark on the {@link #buffer}. (-1 if there is no mark)
+	 */
+	private int mark = -1;
+	/**
+	 * The index of the next character to be read on the {@link #buffer}.
+	 */
+	private int position;
+
+	/**
+	 * Construct a new lookahead reader that reads ahead from the given reader.
+	 *
+	 * @param in       the reader to read ahead from
+	 * @param capacity the capacity of the buffer. (the maximum count of characters that can be looked ahead)
+	 * @throws NullPointerException     if the given 'in' is null
+	 * @throws IllegalArgumentException if the given 'capacity' is less than 1
+	 */
+	public LookaheadReader(Reader in, int capacity) {
+		Objects.requireNonNull(in, "in");
+		if (capacity < 1)
+			throw new IllegalArgumentException("capacity < 1");
+
+		this.in = in;
+		this.buffer = new char[capacity];
+	}
+
+	/**
+	 * Construct a new lookahead reader that reads ahead from the given reader. With the {@link #DEFAULT_CAPACITY}.
+	 *
+	 * @param in the reader to read ahead from
+	 * @throws NullPointerException if the given 'in' is null
+	 */
+	public LookaheadReader(Reader in) {
+		this(in, LookaheadReader.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Get a lookahead reader for the given reader. The given reader itself if it is already a lookahead reader.
+	 *
+	 * @param in the reader to get a lookahead reader for
+	 * @return a lookahead reader for the given reader
+	 * @throws NullPointerException if the given 'in' is null
+	 * @apiNote the characters read ahead by a new lookahead reader are no longer available on the given reader
+	 */
+	public static LookaheadReader of(Reader in) {
+		Objects.requireNonNull(in, "in");
+		return in instanceof LookaheadReader ? (LookaheadReader) in : new LookaheadReader(in);
+	}
+
+	/**
+	 * Get the capacity of the buffer of this reader. (the maximum count of characters that can be looked ahead)
+	 *
+	 * @return the capacity of the buffer of this reader
+	 */
+	public int capacity() {
+		return this.buffer.length;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.in != null) {
+			this.in.close();
+			this.in = null;
+		}
+	}
+
+	@Override
+	public void mark(int readAheadLimit) throws IOException {
+		if (readAheadLimit < 0)
+			throw new IllegalArgumentException("readAheadLimit < 0");
+		if (readAheadLimit > this.buffer.length)
+			throw new IOException("readAheadLimit > capacity");
+		this.ensureOpen();
+
+		this.mark = this.position;
+		this.markLimit = readAheadLimit;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return true;
+	}
+
+	/**
+	 * Get the next character without consuming it.
+	 *
+	 * @return the next character. Or -1 if the end of the stream has been reached
+	 * @throws IOException if any I/O exception occurs
+	 */
+	public int peek() throws IOException {
+		this.ensureOpen();
+
+		if (this.position == this.limit && !this.fill(1))
+			return -1;
+
+		return this.buffer[this.position];
+	}
+
+	/**
+	 * Get the character at the given offset from the next character. Without consuming any character.
+	 *
+	 * @param offset the offset of the character to be peeked. (0 for the next character)
+	 * @return the character at the given offset. Or -1 if the end of the stream will be reached before it
+	 * @throws IOException               if any I/O exception occurs
+	 * @throws IndexOutOfBoundsException if the given 'offset' is negative or not less than the {@link #capacity()}
+	 */
+	public int peek(int offset) throws IOException {
+		if (offset < 0 || offset >= this.buffer.length)
+			throw new IndexOutOfBoundsException("offset=" + offset + " capacity=" + this.buffer.length);
+		this.ensureOpen();
+
+		if (this.position + offset >= this.limit && !this.fill(offset + 1))
+			return -1;
+
+		return this.buffer[this.position + offset];
+	}
+
+	@Override
+	public int read() throws IOException {
+		this.ensureOpen();
+
+		if (this.position == this.limit && !this.fill(1))
+			return -1;
+
+		return this.buffer[this.position++];
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		Objects.requireNonNull(cbuf, "cbuf");
+		if (off < 0 || len < 0 || len > cbuf.length - off)
+			throw new IndexOutOfBoundsException("off=" + off + " len=" + len + " length=" + cbuf.length);
+		this.ensureOpen();
+
+		if (len == 0)
+			return 0;
+
+		if (this.position == this.limit) {
+			if (len >= this.buffer.length && this.mark < 0)
+				//nothing to keep. Read directly without copying
+				return this.in.read(cbuf, off, len);
+			if (!this.fill(1))
+				return -1;
+		}
+
+		int n = Math.min(len, this.limit - this.position);
+		System.arraycopy(this.buffer, this.position, cbuf, off, n);
+		this.position += n;
+		return n;
+	}
+
+	@Override
+	public boolean ready() throws IOException {
+		this.ensureOpen();
+		return this.position < this.limit || this.in.ready();
+	}
+
+	@Override
+	public void reset() throws IOException {
+		this.ensureOpen();
+		if (this.mark < 0)
+			throw new IOException("Stream not marked");
+
+		this.position = this.mark;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if (n < 0)
+			throw new IllegalArgumentException("n < 0");
+		this.ensureOpen();
+
+		long skipped = 0;
+
+		while (skipped < n) {
+			if (this.position == this.limit && !this.fill(1))
+				break;
+
+			int k = (int) Math.min(n - skipped, this.limit - this.position);
+			this.position += k;
+			skipped += k;
+		}
+
+		return skipped;
+	}
+
+	/**
+	 * Throw an exception if this reader is closed.
+	 *
+	 * @throws IOException if this reader is closed
+	 */
+	private void ensureOpen() throws IOException {
+		if (this.in == null)
+			throw new IOException("Stream closed");
+	}
+
+	/**
+	 * Read ahead until there is at least the given count of characters available after the {@link #position}. Or the end of the stream is reached.
+	 * The characters before the {@link #position} are dropped (or kept if still marked) to make room.
+	 *
+	 * @param count the count of characters to be available after the position. (not more than the capacity)
+	 * @return false if the end of the stream has been reached before the given count of characters get available
+	 * @throws IOException if any I/O exception occurs
+	 */
+	private boolean fill(int count) throws IOException {
+		if (this.mark >= 0 && this.position - this.mark > this.markLimit)
+			//read beyond the limit of the mark
+			this.mark = -1;
+
+		int keep = this.mark < 0 ? this.position : this.mark;
+
+		if (this.mark >= 0 && this.position - this.mark + count > this.buffer.length) {
+			//the mark can't be kept while looking that far ahead
+			this.mark = -1;
+			keep = this.position;
+		}
+		if (keep > 0 && this.buffer.length - this.limit < count - (this.limit - this.position)) {
+			//slide the kept characters to the start of the buffer
+			System.arraycopy(this.buffer, keep, this.buffer, 0, this.limit - keep);
+			this.limit -= keep;
+			this.position -= keep;
+			if (this.mark >= 0)
+				this.mark -= keep;
+		}
+
+		while (this.limit - this.position < count) {
+			int n = this.in.read(this.buffer, this.limit, this.buffer.length - this.limit);
+
+			if (n < 0)
+				return false;
+
+			this.limit += n;
+		}
+
+		return true;
+	}
+}
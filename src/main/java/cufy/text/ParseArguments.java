@@ -34,6 +34,14 @@ public class ParseArguments<I, O> {
 	 * The reader to read the input from.
 	 */
 	final public Reader input;
+	/**
+	 * The input as a byte source. (null if the {@link #input} is not a {@link ByteSource})
+	 */
+	final public ByteSource bytes;
+	/**
+	 * The input as a random-access source. (null if the {@link #input} is not a {@link CharSource})
+	 */
+	final public CharSource source;
 	/**
 	 * The class that the input do have.
 	 */
@@ -54,6 +62,10 @@ public class ParseArguments<I, O> {
 	 * The output of the parsing. (could be changed several times!)
 	 */
 	public O output;
+	/**
+	 * The count of the elements of this parsing that have been parsed. (only counted if the format is counting)
+	 */
+	int elements;
 
 	/**
 	 * Construct a new parsing arguments instance.
@@ -77,6 +89,8 @@ public class ParseArguments<I, O> {
 
 		this.parent = parent;
 		this.input = input;
+		this.source = input instanceof CharSource ? (CharSource) input : null;
+		this.bytes = input instanceof ByteSource ? (ByteSource) input : null;
 		this.output = output;
 		this.inputClazz = inputClazz;
 		this.outputClazz = outputClazz;
@@ -189,6 +203,8 @@ public class ParseArguments<I, O> {
 
 		this.parent = parent;
 		this.input = input;
+		this.source = input instanceof CharSource ? (CharSource) input : null;
+		this.bytes = input instanceof ByteSource ? (ByteSource) input : null;
 		this.output = output;
 		this.inputClazz = inputClazz;
 		this.outputClazz = outputClazz;
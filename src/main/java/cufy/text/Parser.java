@@ -18,13 +18,18 @@ package cufy.text;
 import cufy.lang.Clazz;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * A class that can parse a text from a reader to an object. With just a simple gate method (for the caller).
  *
  * @author LSaferSE
- * @version 1 release (31-Mar-2020)
+ * @version 2 release (19-Oct-2026)
  * @since 31-Mar-2020
  */
 public interface Parser {
@@ -112,6 +117,72 @@ public interface Parser {
 		return this.parse(new ParseArguments<>(input, outputClazz));
 	}
 
+	/**
+	 * Parse the given text to an object with the type of the given 'outputClazz'. Through a {@link CharSource}. So the text is not copied.
+	 *
+	 * @param input       the text to be parsed
+	 * @param outputClazz the clazz to be for the output (also for inputClass)
+	 * @param <O>         the type of the parsed object
+	 * @return the parsed object
+	 * @throws NullPointerException if the given 'outputClass' or 'input' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if any parsing exception occurs
+	 */
+	default <O> O parse(CharSequence input, Clazz outputClazz) throws IOException {
+		return this.parse(new ParseArguments<>(new CharSource(input), outputClazz));
+	}
+
+	/**
+	 * Parse the UTF-8 bytes read from the given stream to an object with the type of the given 'outputClazz'. Through a {@link ByteSource}. So the
+	 * bytes are only decoded where needed.
+	 *
+	 * @param input       the stream to read from
+	 * @param outputClazz the clazz to be for the output (also for inputClass)
+	 * @param <O>         the type of the parsed object
+	 * @return the parsed object
+	 * @throws NullPointerException if the given 'outputClass' or 'input' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if any parsing exception occurs
+	 * @apiNote the bytes read ahead from the given 'input' are consumed
+	 */
+	default <O> O parse(InputStream input, Clazz outputClazz) throws IOException {
+		return this.parse(new ParseArguments<>(new ByteSource(input), outputClazz));
+	}
+
+	/**
+	 * Parse the remaining UTF-8 bytes of the given buffer to an object with the type of the given 'outputClazz'. Through a {@link ByteSource}. So the
+	 * bytes are only decoded where needed.
+	 *
+	 * @param input       the buffer to read from. (its position is not changed)
+	 * @param outputClazz the clazz to be for the output (also for inputClass)
+	 * @param <O>         the type of the parsed object
+	 * @return the parsed object
+	 * @throws NullPointerException if the given 'outputClass' or 'input' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if any parsing exception occurs
+	 */
+	default <O> O parse(ByteBuffer input, Clazz outputClazz) throws IOException {
+		return this.parse(new ParseArguments<>(new ByteSource(input), outputClazz));
+	}
+
+	/**
+	 * Parse the UTF-8 bytes of the file at the given path to an object with the type of the given 'outputClazz'. Through a {@link ByteSource} that
+	 * maps the file to memory. (window by window for files bigger than 2 GB) So the bytes are not copied through a stream and a decoder.
+	 *
+	 * @param input       the path of the file to read from
+	 * @param outputClazz the clazz to be for the output (also for inputClass)
+	 * @param <O>         the type of the parsed object
+	 * @return the parsed object
+	 * @throws NullPointerException if the given 'outputClass' or 'input' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if any parsing exception occurs
+	 */
+	default <O> O parse(Path input, Clazz outputClazz) throws IOException {
+		try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+			return this.parse(new ParseArguments<>(new ByteSource(channel), outputClazz));
+		}
+	}
+
 	/**
 	 * Parse the text read from the {@link ParseArguments#input} to an object with the type of {@link ParseArguments#outputClazz} and store it at
 	 * {@link ParseArguments#output}.
@@ -0,0 +1,304 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import cufy.lang.Clazz;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A non-blocking parser that get pushed the input chunk by chunk. Each pushed chunk is scanned (once) by the {@link PushScanner} of the format.
+ * Then the scanner suspends until the next chunk. When a value is complete, it gets parsed using the parsing dispatch of the format. So no thread
+ * is blocked waiting for the input. And one thread can parse many inputs at the same time.
+ * <br/>
+ * The characters of the current value are kept until it is complete. (they are needed to parse it)
+ *
+ * @param <O> the type of the parsed values
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @implNote not synchronized. A parser should only be pushed to by one thread at a time
+ * @since 19-Oct-2026
+ */
+public class PushParser<O> {
+	/**
+	 * Returned by the feeding methods when more input is needed to complete the current value.
+	 */
+	final public static Object NEED_INPUT = new Object() {
+		@Override
+		public String toString() {
+			return "NEED_INPUT";
+		}
+	};
+
+	/**
+	 * The format to parse the values using.
+	 */
+	final protected Format format;
+	/**
+	 * The clazz of the parsed values. (null to classify each value)
+	 */
+	final protected Clazz<O> outputClazz;
+	/**
+	 * The scanner that finds where the current value ends.
+	 */
+	final protected PushScanner scanner;
+	/**
+	 * The bytes of an incomplete character at the end of the last pushed byte chunk.
+	 */
+	final private ByteBuffer carry = ByteBuffer.allocate(8);
+	/**
+	 * The characters pushed and not parsed yet.
+	 */
+	private char[] chars = new char[256];
+	/**
+	 * The decoder of the pushed bytes. (allocated on the first pushed byte chunk)
+	 */
+	private CharsetDecoder decoder;
+	/**
+	 * The index after the last character on the {@link #chars}.
+	 */
+	private int length;
+	/**
+	 * The index after the last character on the {@link #chars} that have been scanned.
+	 */
+	private int scanned;
+	/**
+	 * The index of the first character on the {@link #chars} that have not been parsed. (the characters before it are dropped when room is needed)
+	 */
+	private int start;
+
+	/**
+	 * Construct a new push parser that parses the values as the given clazz.
+	 *
+	 * @param format      the format to parse the values using
+	 * @param outputClazz the clazz of the parsed values. (null to classify each value)
+	 * @throws NullPointerException          if the given 'format' is null
+	 * @throws UnsupportedOperationException if the given format doesn't support push parsing
+	 */
+	public PushParser(Format format, Clazz<O> outputClazz) {
+		Objects.requireNonNull(format, "format");
+		this.format = format;
+		this.outputClazz = outputClazz;
+		this.scanner = format.newPushScanner();
+	}
+
+	/**
+	 * Construct a new push parser that classifies then parses each value.
+	 *
+	 * @param format the format to parse the values using
+	 * @throws NullPointerException          if the given 'format' is null
+	 * @throws UnsupportedOperationException if the given format doesn't support push parsing
+	 */
+	public PushParser(Format format) {
+		this(format, null);
+	}
+
+	/**
+	 * Push the remaining characters of the given chunk. The chunk gets consumed (its position is moved to its limit).
+	 *
+	 * @param chunk the chunk to be pushed
+	 * @return the first completed value. Or {@link #NEED_INPUT} if no value got completed
+	 * @throws NullPointerException if the given 'chunk' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if any parsing exception occurs
+	 * @apiNote if more than one value got completed. Then the rest can be got using {@link #poll()}
+	 */
+	public Object feed(CharBuffer chunk) throws IOException {
+		Objects.requireNonNull(chunk, "chunk");
+
+		int n = chunk.remaining();
+		this.ensureCapacity(n);
+		chunk.get(this.chars, this.length, n);
+		this.length += n;
+
+		return this.poll();
+	}
+
+	/**
+	 * Push the remaining UTF-8 bytes of the given chunk. The chunk gets consumed (its position is moved to its limit). A character split between two
+	 * chunks is decoded when its last byte gets pushed.
+	 *
+	 * @param chunk the chunk to be pushed
+	 * @return the first completed value. Or {@link #NEED_INPUT} if no value got completed
+	 * @throws NullPointerException if the given 'chunk' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if any parsing exception occurs
+	 * @apiNote if more than one value got completed. Then the rest can be got using {@link #poll()}
+	 */
+	public Object feed(ByteBuffer chunk) throws IOException {
+		Objects.requireNonNull(chunk, "chunk");
+
+		if (this.decoder == null)
+			this.decoder = StandardCharsets.UTF_8.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+		//complete the character split from the last chunk
+		while (this.carry.position() > 0 && chunk.hasRemaining()) {
+			this.carry.put(chunk.get());
+			//through Buffer. (ByteBuffer.flip() and clear() are java 9+)
+			((Buffer) this.carry).flip();
+			this.decode(this.carry, false);
+			this.carry.compact();
+		}
+
+		this.decode(chunk, false);
+		//an incomplete character. (at most 3 bytes)
+		this.carry.put(chunk);
+
+		return this.poll();
+	}
+
+	/**
+	 * Signal the end of the input. Then complete the current value (if the scanned characters are a complete value).
+	 *
+	 * @return the last completed value. Or {@link #NEED_INPUT} if nothing (or only {@link PushScanner#blank()} characters) have been pushed after the
+	 * 		last completed value
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the input ended in the middle of a value. Or if any parsing exception occurs
+	 */
+	public Object finish() throws IOException {
+		if (this.decoder != null) {
+			((Buffer) this.carry).flip();
+			this.decode(this.carry, true);
+			((Buffer) this.carry).clear();
+		}
+
+		Object value = this.poll();
+		if (value != NEED_INPUT)
+			return value;
+		if (this.length == this.start)
+			return NEED_INPUT;
+		if (this.scanner.blank()) {
+			//trailing whitespace
+			this.start = 0;
+			this.length = 0;
+			this.scanned = 0;
+			this.scanner.reset();
+			return NEED_INPUT;
+		}
+		if (!this.scanner.end())
+			throw new ParseException("Unexpected end of input");
+
+		return this.complete(this.length);
+	}
+
+	/**
+	 * Continue scanning the pushed characters. Without pushing new characters. To get the next completed value. (if more than one value got completed
+	 * by the last pushed chunk)
+	 *
+	 * @return the next completed value. Or {@link #NEED_INPUT} if no value got completed
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if any parsing exception occurs
+	 */
+	public Object poll() throws IOException {
+		if (this.scanned == this.length)
+			return NEED_INPUT;
+
+		int end = this.scanner.scan(this.chars, this.scanned, this.length);
+
+		if (end < 0) {
+			this.scanned = this.length;
+			return NEED_INPUT;
+		}
+
+		return this.complete(end);
+	}
+
+	/**
+	 * Parse the characters before the given index (and after the {@link #start}) as a value. Then forget them.
+	 *
+	 * @param end the index after the last character of the value
+	 * @return the parsed value
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if any parsing exception occurs
+	 */
+	private Object complete(int end) throws IOException {
+		CharSource source = new CharSource(this.chars, this.start, end - this.start);
+		Object value = this.outputClazz == null ?
+					   this.format.parse(source, this.format.classify(source)) :
+					   this.format.parse(source, this.outputClazz);
+
+		//the characters after the value are the start of the next value. (not moved until room is needed)
+		if (end == this.length) {
+			this.start = 0;
+			this.length = 0;
+		} else {
+			this.start = end;
+		}
+
+		this.scanned = this.start;
+		this.scanner.reset();
+
+		return value;
+	}
+
+	/**
+	 * Decode the remaining bytes of the given buffer. Into the {@link #chars}.
+	 *
+	 * @param bytes      the bytes to be decoded
+	 * @param endOfInput if no more bytes will be pushed
+	 */
+	private void decode(ByteBuffer bytes, boolean endOfInput) {
+		while (true) {
+			this.ensureCapacity(Math.max(1, bytes.remaining()));
+			CharBuffer chars = CharBuffer.wrap(this.chars, this.length, this.chars.length - this.length);
+			CoderResult result = this.decoder.decode(bytes, chars, endOfInput);
+			this.length = chars.position();
+
+			if (!result.isOverflow())
+				break;
+		}
+
+		if (endOfInput) {
+			CharBuffer chars = CharBuffer.wrap(this.chars, this.length, this.chars.length - this.length);
+			this.decoder.flush(chars);
+			this.length = chars.position();
+			this.decoder.reset();
+		}
+	}
+
+	/**
+	 * Make sure there is room for the given count of characters after the {@link #length} on the {@link #chars}. Dropping the parsed characters
+	 * first. Then growing the array if still needed.
+	 *
+	 * @param count the count of characters to make room for
+	 */
+	private void ensureCapacity(int count) {
+		if (this.chars.length - this.length >= count)
+			return;
+
+		if (this.start > 0) {
+			//slide the unparsed characters to the start of the array
+			System.arraycopy(this.chars, this.start, this.chars, 0, this.length - this.start);
+			this.length -= this.start;
+			this.scanned -= this.start;
+			this.start = 0;
+		}
+
+		if (this.chars.length - this.length < count)
+			this.chars = Arrays.copyOf(this.chars, Math.max(this.chars.length * 2, this.length + count));
+	}
+}
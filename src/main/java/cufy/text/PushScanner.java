@@ -0,0 +1,62 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+/**
+ * An incremental scanner that finds where a value ends. Used by a {@link PushParser} to know when enough input has been pushed to parse a value.
+ * The scanner keeps its state (like the nesting depth or if inside a string literal) between the calls of {@link #scan(char[], int, int)}. So each
+ * character is only scanned once. However the input got split.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @implNote a scanner is stateful. A new scanner is needed for each push parser
+ * @since 19-Oct-2026
+ */
+public interface PushScanner {
+	/**
+	 * Determine if only insignificant characters (like whitespace between values) have been scanned since the last {@link #reset()}. Invoked when
+	 * the input ends. So the trailing insignificant characters get dropped. Instead of being parsed as a value.
+	 *
+	 * @return true, if only insignificant characters have been scanned since the last reset
+	 */
+	default boolean blank() {
+		return false;
+	}
+
+	/**
+	 * Determine if the characters scanned since the last {@link #reset()} are a complete value. Invoked when the input ends. (for the values that only
+	 * end by what comes after them. Like numbers)
+	 *
+	 * @return true, if the characters scanned since the last reset are a complete value
+	 */
+	boolean end();
+
+	/**
+	 * Forget the state of the current value. Invoked after a value gets completed. To scan the next value.
+	 */
+	void reset();
+
+	/**
+	 * Continue scanning the current value. From the given characters.
+	 *
+	 * @param chars the characters to be scanned
+	 * @param from  the index of the first character to be scanned
+	 * @param to    the index after the last character to be scanned
+	 * @return the index after the last character of the current value. Or -1 if the value didn't end yet
+	 * @throws ParseException if the scanned characters are malformed
+	 */
+	int scan(char[] chars, int from, int to);
+}
@@ -0,0 +1,422 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import cufy.lang.Clazz;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A structural indexer of UTF-8 texts. That finds the boundaries of the elements of a top-level container. In one pass. Eight bytes at a time. (the
+ * structural characters are found in a whole word using bit tricks. And the words without any are skipped at once) So the elements can be parsed in
+ * parallel. Using {@link #parse(Format, ByteBuffer, Clazz, ForkJoinPool)}.
+ * <br/>
+ * The structural characters are ASCII. So they never match a byte of a multi-byte character.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+public class StructuralIndex {
+	/**
+	 * The maximum count of bytes (of elements) to be parsed by one task. (bigger tasks are split. Unless they have only one element)
+	 */
+	final public static int TASK_SIZE = 64 * 1024;
+	/**
+	 * A word with 0x01 on each byte. (multiply a byte by it to fill a word with it)
+	 */
+	final private static long ONES = 0x0101010101010101L;
+	/**
+	 * A word with 0x7F on each byte.
+	 */
+	final private static long LOWS = 0x7F7F7F7F7F7F7F7FL;
+
+	/**
+	 * The characters that end a nested container. (each at the index of the character that starts it on {@link #opens})
+	 */
+	final private byte[] closes;
+	/**
+	 * The escape character inside strings.
+	 */
+	final private byte escape;
+	/**
+	 * The characters that start a nested container.
+	 */
+	final private byte[] opens;
+	/**
+	 * The character that starts and ends strings.
+	 */
+	final private byte quote;
+	/**
+	 * The character between the elements of a container.
+	 */
+	final private byte separator;
+
+	/**
+	 * Construct a new structural indexer with the given structural characters.
+	 *
+	 * @param opens     the characters that start a nested container
+	 * @param closes    the characters that end a nested container. (each at the index of the character that starts it on the given 'opens')
+	 * @param separator the character between the elements of a container
+	 * @param quote     the character that starts and ends strings
+	 * @param escape    the escape character inside strings
+	 * @throws NullPointerException     if the given 'opens' or 'closes' is null
+	 * @throws IllegalArgumentException if the given 'opens' and 'closes' have different lengths. Or if any of the given characters is not ASCII
+	 */
+	public StructuralIndex(String opens, String closes, char separator, char quote, char escape) {
+		Objects.requireNonNull(opens, "opens");
+		Objects.requireNonNull(closes, "closes");
+		if (opens.length() != closes.length())
+			throw new IllegalArgumentException("opens.length() != closes.length()");
+		if ((opens + closes + separator + quote + escape).chars().anyMatch(c -> c >= 0x80))
+			throw new IllegalArgumentException("Not ASCII");
+
+		this.opens = opens.getBytes(StandardCharsets.US_ASCII);
+		this.closes = closes.getBytes(StandardCharsets.US_ASCII);
+		this.separator = (byte) separator;
+		this.quote = (byte) quote;
+		this.escape = (byte) escape;
+	}
+
+	/**
+	 * Get a mask with the high bit of each byte on the given word that equals the given byte.
+	 *
+	 * @param word  the word to be checked
+	 * @param value the byte to be found. (ASCII)
+	 * @return the high bits of the bytes of the given word that equals the given byte
+	 */
+	private static long match(long word, byte value) {
+		long x = word ^ value * ONES;
+		//no carry between the bytes. So the mask is exact
+		return ~((x & LOWS) + LOWS | x | LOWS);
+	}
+
+	/**
+	 * Find the elements of the container at the start of the remaining bytes of the given buffer. (leading whitespace is skipped) The position of the
+	 * given buffer is not changed.
+	 *
+	 * @param buffer the buffer to be indexed
+	 * @return the start (inclusive) and the end (exclusive) of each element. One after the other. (absolute indexes on the given buffer with the
+	 * 		whitespace around the elements trimmed)
+	 * @throws NullPointerException if the given 'buffer' is null
+	 * @throws ParseException       if the remaining bytes don't start with a container. Or if the container is not ended
+	 */
+	public int[] index(ByteBuffer buffer) {
+		Objects.requireNonNull(buffer, "buffer");
+		ByteBuffer bytes = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		int limit = bytes.limit();
+		int start = StructuralIndex.skipWhitespace(bytes, bytes.position(), limit);
+
+		if (start == limit || this.indexOf(this.opens, bytes.get(start)) < 0)
+			throw new ParseException("Expected a container");
+
+		//the stack of the expected closing characters
+		byte[] expected = new byte[16];
+		expected[0] = this.closes[this.indexOf(this.opens, bytes.get(start))];
+		int depth = 1;
+
+		int[] elements = new int[64];
+		int count = 0;
+		int element = start + 1;
+		boolean string = false;
+		//the index of the next byte to be checked. (an escaped byte is never checked)
+		int next = start + 1;
+
+		loop:
+		for (int word = next; word < limit; word += 8) {
+			long mask;
+
+			if (limit - word >= 8) {
+				long w = bytes.getLong(word);
+				mask = match(w, this.quote) | match(w, this.escape) | match(w, this.separator);
+
+				for (byte b : this.opens)
+					mask |= match(w, b);
+				for (byte b : this.closes)
+					mask |= match(w, b);
+			} else {
+				//the tail. Each byte is checked
+				mask = 0x8080808080808080L >>> (8 - (limit - word) << 3);
+			}
+
+			for (; mask != 0; mask &= mask - 1) {
+				int i = word + (Long.numberOfTrailingZeros(mask) >>> 3);
+
+				if (i < next)
+					continue;
+
+				next = i + 1;
+				byte b = bytes.get(i);
+
+				if (string) {
+					if (b == this.escape)
+						next = i + 2;
+					else if (b == this.quote)
+						string = false;
+				} else if (b == this.quote) {
+					string = true;
+				} else if (b == this.separator) {
+					if (depth == 1) {
+						elements = StructuralIndex.add(elements, count, StructuralIndex.trim(bytes, element, i));
+						count += 2;
+						element = i + 1;
+					}
+				} else if (this.indexOf(this.opens, b) >= 0) {
+					if (depth == expected.length)
+						expected = Arrays.copyOf(expected, depth << 1);
+
+					expected[depth++] = this.closes[this.indexOf(this.opens, b)];
+				} else if (this.indexOf(this.closes, b) >= 0) {
+					if (expected[--depth] != b)
+						throw new ParseException("Unexpected '" + (char) b + "' at " + i);
+
+					if (depth == 0) {
+						long range = StructuralIndex.trim(bytes, element, i);
+
+						if (count != 0 || (int) range != (int) (range >>> 32)) {
+							//not an empty container
+							elements = StructuralIndex.add(elements, count, range);
+							count += 2;
+						}
+
+						break loop;
+					}
+				}
+			}
+		}
+
+		if (depth > 0)
+			throw new ParseException("Unexpected end of input");
+
+		return Arrays.copyOf(elements, count);
+	}
+
+	/**
+	 * Parse the elements of the container at the start of the remaining bytes of the given buffer to a list of objects with the type of the given
+	 * 'elementClazz'. In parallel. On the given pool. Each element is parsed by the given 'format' from a slice of the given buffer. And the results
+	 * are stitched back in order.
+	 *
+	 * @param format       the format to parse the elements using
+	 * @param buffer       the buffer to parse from. (its position is not changed)
+	 * @param elementClazz the clazz of the elements
+	 * @param pool         the pool to parse the elements on
+	 * @param <O>          the type of the elements
+	 * @return a list of the parsed elements. In order
+	 * @throws NullPointerException if any of the given parameters is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if the container is malformed. Or if any parsing exception occurs
+	 */
+	public <O> List<O> parse(Format format, ByteBuffer buffer, Clazz elementClazz, ForkJoinPool pool) throws IOException {
+		Objects.requireNonNull(format, "format");
+		Objects.requireNonNull(elementClazz, "elementClazz");
+		Objects.requireNonNull(pool, "pool");
+
+		int[] elements = this.index(buffer);
+		Object[] output = new Object[elements.length >>> 1];
+
+		try {
+			pool.invoke(new ParseTask(format, buffer, elementClazz, elements, output, 0, output.length));
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		//noinspection unchecked
+		return (List<O>) new ArrayList<>(Arrays.asList(output));
+	}
+
+	/**
+	 * Parse the elements of the container at the start of the remaining bytes of the given buffer to a list of objects with the type of the given
+	 * 'elementClazz'. In parallel. On the {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param format       the format to parse the elements using
+	 * @param buffer       the buffer to parse from. (its position is not changed)
+	 * @param elementClazz the clazz of the elements
+	 * @param <O>          the type of the elements
+	 * @return a list of the parsed elements. In order
+	 * @throws NullPointerException if any of the given parameters is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if the container is malformed. Or if any parsing exception occurs
+	 */
+	public <O> List<O> parse(Format format, ByteBuffer buffer, Clazz elementClazz) throws IOException {
+		return this.parse(format, buffer, elementClazz, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Store the given range at the given index on the given array. Growing it if needed.
+	 *
+	 * @param array the array to store at
+	 * @param index the index to store the start of the range at
+	 * @param range the range. (the start on the low half and the end on the high half)
+	 * @return the given array. Or a bigger copy of it
+	 */
+	private static int[] add(int[] array, int index, long range) {
+		if (index + 2 > array.length)
+			array = Arrays.copyOf(array, array.length << 1);
+
+		array[index] = (int) range;
+		array[index + 1] = (int) (range >>> 32);
+		return array;
+	}
+
+	/**
+	 * Get the index of the first non-whitespace byte at or after the given index.
+	 *
+	 * @param bytes the bytes to be checked
+	 * @param from  the index to start from
+	 * @param to    the index to stop at
+	 * @return the index of the first non-whitespace byte. Or the given 'to' if none
+	 */
+	private static int skipWhitespace(ByteBuffer bytes, int from, int to) {
+		while (from < to && StructuralIndex.isWhitespace(bytes.get(from)))
+			from++;
+
+		return from;
+	}
+
+	/**
+	 * Determine if the given byte is an ASCII whitespace.
+	 *
+	 * @param b the byte to be checked
+	 * @return true, if the given byte is a space, a tab, a line feed or a carriage return
+	 */
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+	}
+
+	/**
+	 * Trim the whitespace around the given range.
+	 *
+	 * @param bytes the bytes of the range
+	 * @param start the start of the range (inclusive)
+	 * @param end   the end of the range (exclusive)
+	 * @return the trimmed range. (the start on the low half and the end on the high half)
+	 */
+	private static long trim(ByteBuffer bytes, int start, int end) {
+		start = StructuralIndex.skipWhitespace(bytes, start, end);
+
+		while (end > start && StructuralIndex.isWhitespace(bytes.get(end - 1)))
+			end--;
+
+		return start & 0xFFFFFFFFL | (long) end << 32;
+	}
+
+	/**
+	 * Get the index of the given byte on the given array.
+	 *
+	 * @param array the array to search in
+	 * @param b     the byte to be found
+	 * @return the index of the given byte. Or -1 if not found
+	 */
+	private int indexOf(byte[] array, byte b) {
+		for (int i = 0; i < array.length; i++)
+			if (array[i] == b)
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * A task that parses a range of elements. Splitting it if it is bigger than the {@link #TASK_SIZE}.
+	 */
+	final private static class ParseTask extends RecursiveAction {
+		/**
+		 * The buffer to parse from.
+		 */
+		final private ByteBuffer buffer;
+		/**
+		 * The clazz of the elements.
+		 */
+		final private Clazz elementClazz;
+		/**
+		 * The ranges of the elements.
+		 */
+		final private int[] elements;
+		/**
+		 * The format to parse the elements using.
+		 */
+		final private Format format;
+		/**
+		 * The index of the first element to be parsed by this task.
+		 */
+		final private int from;
+		/**
+		 * The array to store the parsed elements at.
+		 */
+		final private Object[] output;
+		/**
+		 * The index after the last element to be parsed by this task.
+		 */
+		final private int to;
+
+		/**
+		 * Construct a new task.
+		 *
+		 * @param format       the format to parse the elements using
+		 * @param buffer       the buffer to parse from
+		 * @param elementClazz the clazz of the elements
+		 * @param elements     the ranges of the elements
+		 * @param output       the array to store the parsed elements at
+		 * @param from         the index of the first element to be parsed by this task
+		 * @param to           the index after the last element to be parsed by this task
+		 */
+		private ParseTask(Format format, ByteBuffer buffer, Clazz elementClazz, int[] elements, Object[] output, int from, int to) {
+			this.format = format;
+			this.buffer = buffer;
+			this.elementClazz = elementClazz;
+			this.elements = elements;
+			this.output = output;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from > 1 && this.elements[(this.to << 1) - 1] - this.elements[this.from << 1] > TASK_SIZE) {
+				int middle = this.from + this.to >>> 1;
+				ForkJoinTask.invokeAll(
+						new ParseTask(this.format, this.buffer, this.elementClazz, this.elements, this.output, this.from, middle),
+						new ParseTask(this.format, this.buffer, this.elementClazz, this.elements, this.output, middle, this.to)
+				);
+				return;
+			}
+
+			for (int i = this.from; i < this.to; i++) {
+				ByteBuffer slice = this.buffer.duplicate();
+				//through Buffer. (ByteBuffer.limit(int) and position(int) are java 9+)
+				((Buffer) slice).limit(this.elements[(i << 1) + 1]);
+				((Buffer) slice).position(this.elements[i << 1]);
+
+				try {
+					this.output[i] = this.format.parse(slice, this.elementClazz);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		}
+	}
+}
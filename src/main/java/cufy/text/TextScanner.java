@@ -0,0 +1,427 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * The scanning loops of the parsing methods. Skipping whitespace and finding quotes, escapes and delimiters. Over arrays of UTF-8 bytes, arrays of
+ * characters and character sequences. So formats get fast scanning without writing it themselves.
+ * <br/>
+ * This implementation is scalar. (one byte or character at a time) Faster implementations (like ones using the vector api of newer jdks) can be
+ * provided as a service of this class. (in {@code META-INF/services/cufy.text.TextScanner}) Then the first provider that loads on the running jvm
+ * gets used as the {@link #global} scanner.
+ * <br/>
+ * The whitespace characters are the space, the tab, the line feed and the carriage return.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @implNote the indexes are absolute. And the methods don't change any state. So a scanner can be shared between threads
+ * @since 19-Oct-2026
+ */
+public class TextScanner {
+	/**
+	 * The scanner used by the sources. (the first provided scanner. Or an instance of this class if none)
+	 */
+	final public static TextScanner global = TextScanner.load();
+
+	/**
+	 * Construct a new scanner. (for the providers of faster scanners)
+	 */
+	protected TextScanner() {
+	}
+
+	/**
+	 * Determine if the given character is a whitespace.
+	 *
+	 * @param c the character to be checked
+	 * @return true, if the given character is a space, a tab, a line feed or a carriage return
+	 */
+	static boolean isWhitespace(int c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+	}
+
+	/**
+	 * Throw an exception if the given range is out of the given bounds.
+	 *
+	 * @param length the length of the scanned array or sequence
+	 * @param from   the start of the range
+	 * @param to     the end of the range
+	 * @throws IndexOutOfBoundsException if the given 'from' is negative. Or 'to' is more than 'length'. Or 'from' is more than 'to'
+	 */
+	private static void checkRange(int length, int from, int to) {
+		if (from < 0 || to > length || from > to)
+			throw new IndexOutOfBoundsException("from=" + from + " to=" + to + " length=" + length);
+	}
+
+	/**
+	 * Get the first provided scanner. Or an instance of this class if none.
+	 *
+	 * @return the scanner to be the {@link #global} scanner
+	 */
+	private static TextScanner load() {
+		Iterator<TextScanner> iterator = ServiceLoader.load(TextScanner.class, TextScanner.class.getClassLoader()).iterator();
+
+		while (true) {
+			try {
+				if (!iterator.hasNext())
+					break;
+			} catch (ServiceConfigurationError ignored) {
+				//a malformed configuration
+				break;
+			}
+
+			try {
+				return iterator.next();
+			} catch (ServiceConfigurationError | LinkageError ignored) {
+				//not supported on this jvm. (like a scanner using a module that is not added) Try the next provider
+			}
+		}
+
+		return new TextScanner();
+	}
+
+	/**
+	 * Get the index of the first byte in the given range that is one of the given delimiters.
+	 *
+	 * @param bytes      the bytes to be scanned
+	 * @param from       the index of the first byte to be scanned
+	 * @param to         the index after the last byte to be scanned
+	 * @param delimiters the delimiters to be found. (ASCII)
+	 * @return the index of the first delimiter. Or -1 if none
+	 * @throws NullPointerException      if the given 'bytes' or 'delimiters' is null
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the given 'bytes'
+	 * @throws IllegalArgumentException  if the given 'delimiters' has a character that is not ASCII
+	 */
+	public int indexOfAny(byte[] bytes, int from, int to, String delimiters) {
+		return this.indexOfAny(bytes, from, to, new Delimiters(delimiters));
+	}
+
+	/**
+	 * Get the index of the first byte in the given range that is one of the given delimiters.
+	 *
+	 * @param bytes      the bytes to be scanned
+	 * @param from       the index of the first byte to be scanned
+	 * @param to         the index after the last byte to be scanned
+	 * @param delimiters the delimiters to be found. (ASCII)
+	 * @return the index of the first delimiter. Or -1 if none
+	 * @throws NullPointerException      if the given 'bytes' or 'delimiters' is null
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the given 'bytes'
+	 * @throws IllegalArgumentException  if the given 'delimiters' has a character that is not ASCII
+	 */
+	public int indexOfAny(byte[] bytes, int from, int to, Delimiters delimiters) {
+		Objects.requireNonNull(bytes, "bytes");
+		Objects.requireNonNull(delimiters, "delimiters");
+		TextScanner.checkRange(bytes.length, from, to);
+		if (!delimiters.nonAscii.isEmpty())
+			throw new IllegalArgumentException("Not ASCII: " + delimiters);
+
+		long low = delimiters.low, high = delimiters.high;
+
+		for (int i = from; i < to; i++) {
+			byte b = bytes[i];
+
+			//the shift distance of a long is taken modulo 64
+			if (b >= 0 && ((b < 64 ? low : high) >>> b & 1) != 0)
+				return i;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Get the index of the first character in the given range that is one of the given delimiters.
+	 *
+	 * @param chars      the characters to be scanned
+	 * @param from       the index of the first character to be scanned
+	 * @param to         the index after the last character to be scanned
+	 * @param delimiters the delimiters to be found
+	 * @return the index of the first delimiter. Or -1 if none
+	 * @throws NullPointerException      if the given 'chars' or 'delimiters' is null
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the given 'chars'
+	 */
+	public int indexOfAny(char[] chars, int from, int to, String delimiters) {
+		return this.indexOfAny(chars, from, to, new Delimiters(delimiters));
+	}
+
+	/**
+	 * Get the index of the first character in the given range that is one of the given delimiters.
+	 *
+	 * @param chars      the characters to be scanned
+	 * @param from       the index of the first character to be scanned
+	 * @param to         the index after the last character to be scanned
+	 * @param delimiters the delimiters to be found
+	 * @return the index of the first delimiter. Or -1 if none
+	 * @throws NullPointerException      if the given 'chars' or 'delimiters' is null
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the given 'chars'
+	 */
+	public int indexOfAny(char[] chars, int from, int to, Delimiters delimiters) {
+		Objects.requireNonNull(chars, "chars");
+		Objects.requireNonNull(delimiters, "delimiters");
+		TextScanner.checkRange(chars.length, from, to);
+
+		for (int i = from; i < to; i++)
+			if (delimiters.contains(chars[i]))
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Get the index of the first character in the given range that is one of the given delimiters.
+	 *
+	 * @param sequence   the characters to be scanned
+	 * @param from       the index of the first character to be scanned
+	 * @param to         the index after the last character to be scanned
+	 * @param delimiters the delimiters to be found
+	 * @return the index of the first delimiter. Or -1 if none
+	 * @throws NullPointerException      if the given 'sequence' or 'delimiters' is null
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the given 'sequence'
+	 */
+	public int indexOfAny(CharSequence sequence, int from, int to, String delimiters) {
+		return this.indexOfAny(sequence, from, to, new Delimiters(delimiters));
+	}
+
+	/**
+	 * Get the index of the first character in the given range that is one of the given delimiters.
+	 *
+	 * @param sequence   the characters to be scanned
+	 * @param from       the index of the first character to be scanned
+	 * @param to         the index after the last character to be scanned
+	 * @param delimiters the delimiters to be found
+	 * @return the index of the first delimiter. Or -1 if none
+	 * @throws NullPointerException      if the given 'sequence' or 'delimiters' is null
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the given 'sequence'
+	 */
+	public int indexOfAny(CharSequence sequence, int from, int to, Delimiters delimiters) {
+		Objects.requireNonNull(sequence, "sequence");
+		Objects.requireNonNull(delimiters, "delimiters");
+		TextScanner.checkRange(sequence.length(), from, to);
+
+		for (int i = from; i < to; i++)
+			if (delimiters.contains(sequence.charAt(i)))
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Get the index of the first quote ({@code "}) or backslash ({@code \}) byte in the given range. (the end of the plain part of a string literal)
+	 *
+	 * @param bytes the bytes to be scanned
+	 * @param from  the index of the first byte to be scanned
+	 * @param to    the index after the last byte to be scanned
+	 * @return the index of the first quote or backslash. Or -1 if none
+	 * @throws NullPointerException      if the given 'bytes' is null
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the given 'bytes'
+	 */
+	public int indexOfQuoteOrBackslash(byte[] bytes, int from, int to) {
+		Objects.requireNonNull(bytes, "bytes");
+		TextScanner.checkRange(bytes.length, from, to);
+
+		for (int i = from; i < to; i++)
+			if (bytes[i] == '"' || bytes[i] == '\\')
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Get the index of the first quote ({@code "}) or backslash ({@code \}) character in the given range. (the end of the plain part of a string
+	 * literal)
+	 *
+	 * @param chars the characters to be scanned
+	 * @param from  the index of the first character to be scanned
+	 * @param to    the index after the last character to be scanned
+	 * @return the index of the first quote or backslash. Or -1 if none
+	 * @throws NullPointerException      if the given 'chars' is null
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the given 'chars'
+	 */
+	public int indexOfQuoteOrBackslash(char[] chars, int from, int to) {
+		Objects.requireNonNull(chars, "chars");
+		TextScanner.checkRange(chars.length, from, to);
+
+		for (int i = from; i < to; i++)
+			if (chars[i] == '"' || chars[i] == '\\')
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Get the index of the first quote ({@code "}) or backslash ({@code \}) character in the given range. (the end of the plain part of a string
+	 * literal)
+	 *
+	 * @param sequence the characters to be scanned
+	 * @param from     the index of the first character to be scanned
+	 * @param to       the index after the last character to be scanned
+	 * @return the index of the first quote or backslash. Or -1 if none
+	 * @throws NullPointerException      if the given 'sequence' is null
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the given 'sequence'
+	 */
+	public int indexOfQuoteOrBackslash(CharSequence sequence, int from, int to) {
+		Objects.requireNonNull(sequence, "sequence");
+		TextScanner.checkRange(sequence.length(), from, to);
+
+		for (int i = from; i < to; i++) {
+			char c = sequence.charAt(i);
+			if (c == '"' || c == '\\')
+				return i;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Get the index of the first non-whitespace byte in the given range.
+	 *
+	 * @param bytes the bytes to be scanned
+	 * @param from  the index of the first byte to be scanned
+	 * @param to    the index after the last byte to be scanned
+	 * @return the index of the first non-whitespace byte. Or the given 'to' if all the bytes are whitespace
+	 * @throws NullPointerException      if the given 'bytes' is null
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the given 'bytes'
+	 */
+	public int skipWhitespace(byte[] bytes, int from, int to) {
+		Objects.requireNonNull(bytes, "bytes");
+		TextScanner.checkRange(bytes.length, from, to);
+
+		int i = from;
+
+		while (i < to && TextScanner.isWhitespace(bytes[i]))
+			i++;
+
+		return i;
+	}
+
+	/**
+	 * Get the index of the first non-whitespace character in the given range.
+	 *
+	 * @param chars the characters to be scanned
+	 * @param from  the index of the first character to be scanned
+	 * @param to    the index after the last character to be scanned
+	 * @return the index of the first non-whitespace character. Or the given 'to' if all the characters are whitespace
+	 * @throws NullPointerException      if the given 'chars' is null
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the given 'chars'
+	 */
+	public int skipWhitespace(char[] chars, int from, int to) {
+		Objects.requireNonNull(chars, "chars");
+		TextScanner.checkRange(chars.length, from, to);
+
+		int i = from;
+
+		while (i < to && TextScanner.isWhitespace(chars[i]))
+			i++;
+
+		return i;
+	}
+
+	/**
+	 * Get the index of the first non-whitespace character in the given range.
+	 *
+	 * @param sequence the characters to be scanned
+	 * @param from     the index of the first character to be scanned
+	 * @param to       the index after the last character to be scanned
+	 * @return the index of the first non-whitespace character. Or the given 'to' if all the characters are whitespace
+	 * @throws NullPointerException      if the given 'sequence' is null
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the given 'sequence'
+	 */
+	public int skipWhitespace(CharSequence sequence, int from, int to) {
+		Objects.requireNonNull(sequence, "sequence");
+		TextScanner.checkRange(sequence.length(), from, to);
+
+		int i = from;
+
+		while (i < to && TextScanner.isWhitespace(sequence.charAt(i)))
+			i++;
+
+		return i;
+	}
+
+	/**
+	 * A set of delimiters to be found by the scanners. Computed once. So each scanned character is tested in constant time. (a bit mask of the ASCII
+	 * delimiters)
+	 *
+	 * @implNote immutable. So it can be shared between threads (and kept in a constant)
+	 */
+	final public static class Delimiters {
+		/**
+		 * The ASCII delimiters from 64 to 127. (the bit (c - 64) for the character c)
+		 */
+		final long high;
+		/**
+		 * The ASCII delimiters from 0 to 63. (the bit (c) for the character c)
+		 */
+		final long low;
+		/**
+		 * The delimiters that are not ASCII.
+		 */
+		final String nonAscii;
+		/**
+		 * The delimiters.
+		 */
+		final private String delimiters;
+
+		/**
+		 * Construct a new set of the given delimiters.
+		 *
+		 * @param delimiters the delimiters to be found
+		 * @throws NullPointerException if the given 'delimiters' is null
+		 */
+		public Delimiters(String delimiters) {
+			Objects.requireNonNull(delimiters, "delimiters");
+			StringBuilder nonAscii = new StringBuilder();
+			long low = 0, high = 0;
+
+			for (int i = 0, n = delimiters.length(); i < n; i++) {
+				char c = delimiters.charAt(i);
+
+				if (c < 64)
+					low |= 1L << c;
+				else if (c < 128)
+					high |= 1L << c - 64;
+				else nonAscii.append(c);
+			}
+
+			this.low = low;
+			this.high = high;
+			this.nonAscii = nonAscii.toString();
+			this.delimiters = delimiters;
+		}
+
+		@Override
+		public String toString() {
+			return this.delimiters;
+		}
+
+		/**
+		 * Determine if the given character is one of these delimiters.
+		 *
+		 * @param c the character to be tested
+		 * @return true, if the given character is one of these delimiters
+		 */
+		boolean contains(char c) {
+			if (c < 128)
+				//the shift distance of a long is taken modulo 64
+				return ((c < 64 ? this.low : this.high) >>> c & 1) != 0;
+
+			return this.nonAscii.indexOf(c) >= 0;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+/**
+ * The kinds of tokens a {@link Tokenizer} can pull.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+public enum Token {
+	/**
+	 * The end of a collection (its elements have been pulled).
+	 */
+	END_COLLECTION,
+	/**
+	 * The end of a map (its keys and values have been pulled).
+	 */
+	END_MAP,
+	/**
+	 * A key of a map. (the key is the {@link Tokenizer#currentValue()})
+	 */
+	KEY,
+	/**
+	 * The start of a collection. (its elements are the next tokens, until the matching {@link #END_COLLECTION})
+	 */
+	START_COLLECTION,
+	/**
+	 * The start of a map. (its keys and values are the next tokens, until the matching {@link #END_MAP})
+	 */
+	START_MAP,
+	/**
+	 * A scalar value. (the value is the {@link Tokenizer#currentValue()})
+	 */
+	VALUE;
+
+	/**
+	 * Determine if this token is the start of a container.
+	 *
+	 * @return true, if this token is the start of a container
+	 */
+	public boolean isStart() {
+		return this == START_COLLECTION || this == START_MAP;
+	}
+
+	/**
+	 * Determine if this token is the end of a container.
+	 *
+	 * @return true, if this token is the end of a container
+	 */
+	public boolean isEnd() {
+		return this == END_COLLECTION || this == END_MAP;
+	}
+}
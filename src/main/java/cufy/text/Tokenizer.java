@@ -0,0 +1,203 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text;
+
+import cufy.lang.Clazz;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * A pull-style reader of the tokens of a text. So huge texts can be streamed through with constant memory. And only the needed values get
+ * materialized. Using {@link #parseValue(Clazz)}. Through the parsing dispatch of the {@link #format}.
+ * <br/>
+ * Formats implement it using the same grammar as their {@link ParseMethod}s. By implementing {@link #advance()} (to read the next token) and {@link
+ * #beforeValue()} (to skip what comes before a value). Then return it from {@link Format#tokenize(Reader)}.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @implNote not synchronized. A tokenizer should only be used by one thread at a time
+ * @since 19-Oct-2026
+ */
+public abstract class Tokenizer implements Closeable {
+	/**
+	 * The format to parse the values using.
+	 */
+	final protected Format format;
+	/**
+	 * The reader to read the tokens from.
+	 */
+	final protected Reader input;
+	/**
+	 * The value of the current token. (set by {@link #advance()} for {@link Token#KEY} and {@link Token#VALUE} tokens)
+	 */
+	protected Object value;
+	/**
+	 * The count of containers started and not ended yet.
+	 */
+	private int depth;
+	/**
+	 * The current token. (null before the first token and after the last token)
+	 */
+	private Token token;
+
+	/**
+	 * Construct a new tokenizer.
+	 *
+	 * @param format the format to parse the values using
+	 * @param input  the reader to read the tokens from
+	 * @throws NullPointerException if the given 'format' or 'input' is null
+	 */
+	protected Tokenizer(Format format, Reader input) {
+		Objects.requireNonNull(format, "format");
+		Objects.requireNonNull(input, "input");
+		this.format = format;
+		this.input = input;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.input.close();
+	}
+
+	/**
+	 * Get the current token.
+	 *
+	 * @return the current token. Or null before the first token and after the last token
+	 */
+	public Token currentToken() {
+		return this.token;
+	}
+
+	/**
+	 * Get the value of the current token.
+	 *
+	 * @return the value of the current token. Or null if the current token is not a {@link Token#KEY} or a {@link Token#VALUE}
+	 */
+	public Object currentValue() {
+		return this.value;
+	}
+
+	/**
+	 * Get the count of containers started and not ended yet.
+	 *
+	 * @return the count of containers started and not ended yet
+	 */
+	public int depth() {
+		return this.depth;
+	}
+
+	/**
+	 * Pull the next token.
+	 *
+	 * @return the next token. Or null if the end of the text has been reached
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the text is malformed
+	 */
+	public Token nextToken() throws IOException {
+		this.value = null;
+		Token token = this.advance();
+
+		if (token != null)
+			if (token.isStart())
+				this.depth++;
+			else if (token.isEnd())
+				this.depth--;
+
+		this.token = token;
+		return token;
+	}
+
+	/**
+	 * Parse the next value (a whole sub-tree if it is a container) to an object with the type of the given 'outputClazz'. Using the parsing dispatch
+	 * of the {@link #format}. Instead of pulling its tokens. The parsed value becomes the value of the current token ({@link Token#VALUE}).
+	 *
+	 * @param outputClazz the clazz to be for the output
+	 * @param <O>         the type of the parsed object
+	 * @return the parsed object
+	 * @throws NullPointerException if the given 'outputClazz' is null
+	 * @throws IOException          if any I/O exception occurs
+	 * @throws ParseException       if the next token is not the start of a value. Or if any parsing exception occurs
+	 */
+	public <O> O parseValue(Clazz outputClazz) throws IOException {
+		Objects.requireNonNull(outputClazz, "outputClazz");
+
+		if (!this.beforeValue())
+			throw new ParseException("Expected a value");
+
+		O value = this.format.parse(this.input, outputClazz);
+		this.token = Token.VALUE;
+		this.value = value;
+		return value;
+	}
+
+	/**
+	 * Classify then parse the next value (a whole sub-tree if it is a container). Using the classifying and parsing dispatch of the {@link #format}.
+	 * Instead of pulling its tokens. The parsed value becomes the value of the current token ({@link Token#VALUE}).
+	 *
+	 * @param <O> the type of the parsed object
+	 * @return the parsed object
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the next token is not the start of a value. Or if any parsing exception occurs
+	 */
+	public <O> O parseValue() throws IOException {
+		if (!this.beforeValue())
+			throw new ParseException("Expected a value");
+
+		O value = this.format.parse(this.input, this.format.classify(this.input));
+		this.token = Token.VALUE;
+		this.value = value;
+		return value;
+	}
+
+	/**
+	 * Skip the children of the current token if it is the start of a container. So the current token will be the end of that container.
+	 *
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the text is malformed. Or ended before the end of the container
+	 */
+	public void skipChildren() throws IOException {
+		if (this.token == null || !this.token.isStart())
+			return;
+
+		int depth = this.depth;
+
+		while (this.depth >= depth)
+			if (this.nextToken() == null)
+				throw new ParseException("Unexpected end of input");
+	}
+
+	/**
+	 * Read the next token from the {@link #input}. Then set the {@link #value} if it is a {@link Token#KEY} or a {@link Token#VALUE}.
+	 *
+	 * @return the next token. Or null if the end of the text has been reached
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the text is malformed
+	 */
+	protected abstract Token advance() throws IOException;
+
+	/**
+	 * Skip what comes before the next value on the {@link #input}. (like separators and whitespace) So the {@link #input} will be at the start of the
+	 * next value. And the next value can be parsed using the {@link ParseMethod}s.
+	 *
+	 * @return true, if a value is next. False, if the end of a container or the end of the text is next
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the text is malformed
+	 */
+	protected abstract boolean beforeValue() throws IOException;
+}
@@ -0,0 +1,1178 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text.json;
+
+import cufy.lang.Clazz;
+import cufy.lang.Recurse;
+import cufy.lang.Static;
+import cufy.meta.MetaFamily;
+import cufy.text.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A format for JSON texts. (RFC 8259) Objects are formatted from and parsed to {@link Map}s. Arrays from and to {@link Collection}s and arrays.
+ * Strings from and to {@link CharSequence}s and {@link Character}s. And numbers, booleans and null from and to {@link Number}s, {@link Boolean}s
+ * and null.
+ * <br/>
+ * The component types of the given clazzes are respected. (the element type of a collection at index 0. The value type of a map at index 1) So
+ * {@code Clazz.of(List.class, Clazz.of(Long.class))} parses to a list of longs. And the keys are always strings.
+ * <br/>
+ * Parsing stops at the end of the value. (the characters after it are left for the caller. Like the next value of a stream) And reads one character
+ * ahead at most. The structural characters are read as bytes from a {@link ByteSource}. The strings are sliced
+ * (without copying the characters one by one) from a {@link CharSource}. And the numbers are parsed without creating strings. (unless they are
+ * too long)
+ * <br/>
+ * Cycles (an object formatted inside itself) are detected through the {@link Recurse} family. And reported as {@link FormatException}s. (override
+ * {@link #recurse_string(FormatArguments)} to format them differently)
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @implNote the readers (that do not support marking) passed to this format get wrapped by a {@link LookaheadReader}. So the characters read
+ * 		ahead from them are consumed. The other readers are peeked through {@link Reader#mark(int)} and {@link Reader#reset()}
+ * @since 19-Oct-2026
+ */
+public class JSON extends AbstractFormat {
+	/**
+	 * The global instance to avoid unnecessary instancing.
+	 */
+	final public static JSON global = new JSON();
+
+	/**
+	 * The clazz the texts starting with a '[' are classified to.
+	 */
+	final private static Clazz<ArrayList> ARRAY_LIST = Clazz.of(ArrayList.class);
+	/**
+	 * The clazz the texts starting with a 't' or a 'f' are classified to.
+	 */
+	final private static Clazz<Boolean> BOOLEAN = Clazz.of(Boolean.class);
+	/**
+	 * The escape sequences of the characters that have to be escaped. (null for the characters that don't)
+	 */
+	final private static String[] ESCAPES = new String[128];
+	/**
+	 * The clazz the texts starting with a '{' are classified to.
+	 */
+	final private static Clazz<LinkedHashMap> LINKED_HASH_MAP = Clazz.of(LinkedHashMap.class);
+	/**
+	 * The maximum count of digits of a long that can't overflow.
+	 */
+	final private static int LONG_DIGITS = 18;
+	/**
+	 * The clazz the texts starting with a '-' or a digit are classified to.
+	 */
+	final private static Clazz<Number> NUMBER = Clazz.of(Number.class);
+	/**
+	 * The buffer of each thread to scan numbers into. (grown by the threads that scan longer numbers)
+	 */
+	final private static ThreadLocal<char[]> NUMBER_BUFFER = ThreadLocal.withInitial(() -> new char[32]);
+	/**
+	 * The clazz of the values with no specific type. (classified by their first character)
+	 */
+	final private static Clazz<Object> OBJECT = Clazz.of(Object.class);
+	/**
+	 * The exact powers of ten. (as doubles)
+	 */
+	final private static double[] POWERS = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+			1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	/**
+	 * The structural indexer of this format.
+	 */
+	final private static StructuralIndex STRUCTURAL_INDEX = new StructuralIndex("[{", "]}", ',', '"', '\\');
+	/**
+	 * The clazz the texts starting with a '"' are classified to.
+	 */
+	final private static Clazz<String> STRING = Clazz.of(String.class);
+
+	static {
+		for (int i = 0; i < 0x20; i++)
+			ESCAPES[i] = String.format("\\u%04x", i);
+
+		ESCAPES['"'] = "\\\"";
+		ESCAPES['\\'] = "\\\\";
+		ESCAPES['\b'] = "\\b";
+		ESCAPES['\f'] = "\\f";
+		ESCAPES['\n'] = "\\n";
+		ESCAPES['\r'] = "\\r";
+		ESCAPES['\t'] = "\\t";
+	}
+
+	/**
+	 * Get the given reader. Or a {@link LookaheadReader} of it if it can't peek. (does not support marking)
+	 *
+	 * @param input the reader to be able to peek
+	 * @return a reader that can peek the characters of the given reader
+	 */
+	static Reader peekable(Reader input) {
+		return input instanceof CharSource || input instanceof ByteSource || input.markSupported() ?
+			   input :
+			   LookaheadReader.of(input);
+	}
+
+	/**
+	 * Peek the next character on the given reader. (the next byte if it is a {@link ByteSource})
+	 *
+	 * @param input the reader to peek the next character on
+	 * @return the next character. Or -1 if the reader ended
+	 * @throws IOException if any I/O exception occurs
+	 */
+	static int peek(Reader input) throws IOException {
+		if (input instanceof CharSource)
+			return ((CharSource) input).peek();
+		if (input instanceof ByteSource)
+			//the structural characters are ascii. So the byte is enough
+			return ((ByteSource) input).peekByte();
+		if (input instanceof LookaheadReader)
+			return ((LookaheadReader) input).peek();
+
+		input.mark(1);
+		int c = input.read();
+		input.reset();
+		return c;
+	}
+
+	/**
+	 * Read a string literal from the given reader. Starting from its opening quote.
+	 *
+	 * @param input the reader to read from
+	 * @return the value of the string literal
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the next characters are not a string literal
+	 */
+	static String readString(Reader input) throws IOException {
+		if (input.read() != '"')
+			throw new ParseException("Expected a string");
+
+		StringBuilder builder;
+
+		if (input instanceof CharSource) {
+			CharSource source = (CharSource) input;
+			int start = source.position();
+			int end = source.indexOfQuoteOrBackslash();
+
+			if (end < 0)
+				throw new ParseException("Unterminated string");
+
+			if (source.charAt(end) == '"') {
+				//no escapes. Sliced at once
+				source.position(end + 1);
+				return JSON.checkControl(source.slice(start, end).toString());
+			}
+
+			builder = new StringBuilder(end - start + 16);
+			for (int i = start; i < end; i++) {
+				char c = source.charAt(i);
+
+				if (c < 0x20)
+					throw new ParseException("Unescaped control character in a string");
+
+				builder.append(c);
+			}
+			source.position(end);
+		} else {
+			builder = new StringBuilder();
+		}
+
+		while (true) {
+			int c = input.read();
+
+			switch (c) {
+				case -1:
+					throw new ParseException("Unterminated string");
+				case '"':
+					return builder.toString();
+				case '\\':
+					builder.append(JSON.readEscape(input));
+					break;
+				default:
+					if (c < 0x20)
+						throw new ParseException("Unescaped control character in a string");
+
+					builder.append((char) c);
+			}
+		}
+	}
+
+	/**
+	 * Skip the whitespace on the given reader.
+	 *
+	 * @param input the reader to skip the whitespace of
+	 * @return the next character after the whitespace. (not consumed) Or -1 if the reader ended
+	 * @throws IOException if any I/O exception occurs
+	 */
+	static int skipWhitespace(Reader input) throws IOException {
+		if (input instanceof CharSource)
+			return ((CharSource) input).skipWhitespace();
+		if (input instanceof ByteSource)
+			return ((ByteSource) input).skipWhitespace();
+
+		int c = JSON.peek(input);
+
+		while (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+			input.read();
+			c = JSON.peek(input);
+		}
+
+		return c;
+	}
+
+	/**
+	 * Throw an exception if the given string has a control character. (they have to be escaped inside string literals)
+	 *
+	 * @param string the string to be checked
+	 * @return the given string
+	 * @throws ParseException if the given string has a control character
+	 */
+	private static String checkControl(String string) {
+		for (int i = 0, n = string.length(); i < n; i++)
+			if (string.charAt(i) < 0x20)
+				throw new ParseException("Unescaped control character in a string");
+
+		return string;
+	}
+
+	/**
+	 * Read the given literal from the given reader.
+	 *
+	 * @param input   the reader to read from
+	 * @param literal the literal to be read
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the next characters are not the given literal
+	 */
+	private static void expect(Reader input, String literal) throws IOException {
+		for (int i = 0, n = literal.length(); i < n; i++)
+			if (input.read() != literal.charAt(i))
+				throw new ParseException("Expected '" + literal + "'");
+	}
+
+	/**
+	 * Get a new map instance of the given class. Or of a standard implementation of it if it is abstract.
+	 *
+	 * @param klass the class of the map
+	 * @return a new map instance of the given class
+	 * @throws ParseException if the given class can't be instantiated
+	 */
+	private static Map newMap(Class<?> klass) {
+		if (klass == LinkedHashMap.class || klass.isAssignableFrom(LinkedHashMap.class))
+			return new LinkedHashMap();
+		if (klass == HashMap.class)
+			return new HashMap();
+		if (klass.isAssignableFrom(TreeMap.class))
+			return new TreeMap();
+
+		return (Map) JSON.newInstance(klass);
+	}
+
+	/**
+	 * Get a new collection instance of the given class. Or of a standard implementation of it if it is abstract.
+	 *
+	 * @param klass the class of the collection
+	 * @return a new collection instance of the given class
+	 * @throws ParseException if the given class can't be instantiated
+	 */
+	private static Collection newCollection(Class<?> klass) {
+		if (klass == ArrayList.class || klass.isAssignableFrom(ArrayList.class))
+			return new ArrayList();
+		if (klass.isAssignableFrom(LinkedHashSet.class))
+			return new LinkedHashSet();
+		if (klass.isAssignableFrom(TreeSet.class))
+			return new TreeSet();
+		if (klass.isAssignableFrom(ArrayDeque.class))
+			return new ArrayDeque();
+
+		return (Collection) JSON.newInstance(klass);
+	}
+
+	/**
+	 * Get a new instance of the given class. Using its public no-arguments constructor.
+	 *
+	 * @param klass the class to be instantiated
+	 * @return a new instance of the given class
+	 * @throws ParseException if the given class can't be instantiated
+	 */
+	private static Object newInstance(Class<?> klass) {
+		try {
+			return klass.getConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new ParseException("Can't instantiate " + klass, e);
+		}
+	}
+
+	/**
+	 * Parse the given number characters to a double.
+	 *
+	 * @param chars    the characters of the number
+	 * @param length   the count of characters of the number
+	 * @param integral true, if the number has no fraction and no exponent
+	 * @return the number as a double
+	 */
+	private static double parseDouble(char[] chars, int length, boolean integral) {
+		if (integral && length <= LONG_DIGITS) {
+			long value = JSON.parseLong(chars, length);
+			//a long has no negative zero
+			return value == 0 && chars[0] == '-' ? -0.0 : value;
+		}
+
+		//the exact path. (a mantissa of up to 15 digits and a power of ten of up to 22 are exact doubles)
+		boolean negative = chars[0] == '-';
+		long mantissa = 0;
+		int digits = 0, scale = 0, exponent = 0, i = negative ? 1 : 0;
+
+		for (; i < length && chars[i] != 'e' && chars[i] != 'E'; i++) {
+			char c = chars[i];
+
+			if (c == '.') {
+				scale = -1;
+			} else {
+				if (mantissa != 0 || c != '0')
+					digits++;
+
+				mantissa = mantissa * 10 + c - '0';
+
+				if (scale < 0)
+					scale--;
+			}
+		}
+
+		if (i < length) {
+			boolean negativeExponent = chars[++i] == '-';
+			if (chars[i] == '-' || chars[i] == '+')
+				i++;
+
+			for (; i < length && exponent < 1000; i++)
+				exponent = exponent * 10 + chars[i] - '0';
+
+			if (negativeExponent)
+				exponent = -exponent;
+		}
+
+		int power = exponent + (scale < 0 ? scale + 1 : 0);
+
+		if (digits <= 15 && power >= -22 && power <= 22) {
+			double value = power < 0 ? mantissa / POWERS[-power] : mantissa * POWERS[power];
+			return negative ? -value : value;
+		}
+
+		return Double.parseDouble(new String(chars, 0, length));
+	}
+
+	/**
+	 * Parse the given integral number characters to a long. Without creating a string if it has {@link #LONG_DIGITS} digits or less.
+	 *
+	 * @param chars  the characters of the number
+	 * @param length the count of characters of the number
+	 * @return the number as a long
+	 * @throws ParseException if the number is out of the range of a long
+	 */
+	private static long parseLong(char[] chars, int length) {
+		boolean negative = chars[0] == '-';
+
+		if (length - (negative ? 1 : 0) > LONG_DIGITS)
+			try {
+				return Long.parseLong(new String(chars, 0, length));
+			} catch (NumberFormatException e) {
+				throw new ParseException("Out of range: " + new String(chars, 0, length), e);
+			}
+
+		long value = 0;
+
+		for (int i = negative ? 1 : 0; i < length; i++)
+			value = value * 10 + chars[i] - '0';
+
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Read an escape sequence (after its backslash) from the given reader.
+	 *
+	 * @param input the reader to read from
+	 * @return the escaped character
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the next characters are not a valid escape sequence
+	 */
+	private static char readEscape(Reader input) throws IOException {
+		int c = input.read();
+
+		switch (c) {
+			case '"':
+			case '\\':
+			case '/':
+				return (char) c;
+			case 'b':
+				return '\b';
+			case 'f':
+				return '\f';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 't':
+				return '\t';
+			case 'u':
+				int value = 0;
+
+				for (int i = 0; i < 4; i++) {
+					int digit = Character.digit(input.read(), 16);
+
+					if (digit < 0)
+						throw new ParseException("Invalid unicode escape");
+
+					value = value << 4 | digit;
+				}
+
+				return (char) value;
+			default:
+				throw new ParseException("Invalid escape: \\" + (c < 0 ? "" : String.valueOf((char) c)));
+		}
+	}
+
+	/**
+	 * Scan the number at the given reader into the number buffer of the current thread.
+	 *
+	 * @param input the reader to read from
+	 * @return the count of characters of the number. Negative (the bitwise complement of the count) if the number has a fraction or an exponent
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the next characters are not a valid number
+	 */
+	private static int scanNumber(Reader input) throws IOException {
+		char[] chars = NUMBER_BUFFER.get();
+		int length = 0;
+		boolean integral = true;
+		//0 sign, 1 first digit, 2 digits, 3 after a zero, 4 after a dot, 5 fraction digits, 6 after an e, 7 after an exponent sign, 8 exponent digits
+		int state = 0;
+
+		for (int c = JSON.peek(input); ; c = JSON.peek(input)) {
+			int next;
+
+			if (c >= '0' && c <= '9')
+				next = state == 0 || state == 1 ? c == '0' ? 3 : 2 :
+					   state == 2 ? 2 :
+					   state == 4 || state == 5 ? 5 :
+					   state >= 6 ? 8 : -1;
+			else if (c == '-')
+				next = state == 0 ? 1 : state == 6 ? 7 : -1;
+			else if (c == '+')
+				next = state == 6 ? 7 : -1;
+			else if (c == '.')
+				next = state == 2 || state == 3 ? 4 : -1;
+			else if (c == 'e' || c == 'E')
+				next = state == 2 || state == 3 || state == 5 ? 6 : -1;
+			else next = -1;
+
+			if (next < 0) {
+				if (state == 3 && c >= '0' && c <= '9')
+					throw new ParseException("Leading zero");
+				if (state != 2 && state != 3 && state != 5 && state != 8)
+					throw new ParseException("Invalid number");
+
+				break;
+			}
+
+			if (length == chars.length) {
+				chars = Arrays.copyOf(chars, length << 1);
+				NUMBER_BUFFER.set(chars);
+			}
+
+			chars[length++] = (char) input.read();
+			integral &= next < 4;
+			state = next;
+		}
+
+		return integral ? length : ~length;
+	}
+
+	/**
+	 * Write the given number to the given writer. Without creating a string.
+	 *
+	 * @param output the writer to write to
+	 * @param value  the number to be written
+	 * @throws IOException if any I/O exception occurs
+	 */
+	private static void writeLong(Writer output, long value) throws IOException {
+		if (value == Long.MIN_VALUE) {
+			output.write("-9223372036854775808");
+			return;
+		}
+
+		char[] chars = NUMBER_BUFFER.get();
+		int i = 20;
+		boolean negative = value < 0;
+		long rest = negative ? -value : value;
+
+		do {
+			chars[i--] = (char) ('0' + rest % 10);
+			rest /= 10;
+		} while (rest != 0);
+
+		if (negative)
+			chars[i--] = '-';
+
+		output.write(chars, i + 1, 20 - i);
+	}
+
+	/**
+	 * Write the given characters as a string literal to the given writer. Escaping the characters that have to be escaped.
+	 *
+	 * @param output the writer to write to
+	 * @param string the characters to be written
+	 * @throws IOException if any I/O exception occurs
+	 */
+	private static void writeString(Writer output, CharSequence string) throws IOException {
+		output.write('"');
+
+		int start = 0;
+		int length = string.length();
+
+		for (int i = 0; i < length; i++) {
+			char c = string.charAt(i);
+
+			if (c < 128 && ESCAPES[c] != null) {
+				if (start < i)
+					if (string instanceof String)
+						output.write((String) string, start, i - start);
+					else output.append(string, start, i);
+
+				output.write(ESCAPES[c]);
+				start = i + 1;
+			}
+		}
+
+		if (start < length)
+			if (string instanceof String)
+				output.write((String) string, start, length - start);
+			else output.append(string, start, length);
+
+		output.write('"');
+	}
+
+	@Override
+	@Static
+	public <O> Clazz<O> classify(ClassifyArguments<?, O> arguments) throws IOException {
+		Objects.requireNonNull(arguments, "arguments");
+
+		Reader input = JSON.peekable(arguments.input);
+
+		if (input != arguments.input)
+			//the first character have to be peeked
+			arguments = new ClassifyArguments<>(input, arguments.output);
+
+		JSON.skipWhitespace(arguments.input);
+		return super.classify(arguments);
+	}
+
+	@Override
+	@Static
+	public PushScanner newPushScanner() {
+		return new JSONPushScanner();
+	}
+
+	@Override
+	@Static
+	public <O> O parse(ParseArguments<?, O> arguments) throws IOException {
+		Objects.requireNonNull(arguments, "arguments");
+
+		Reader input = JSON.peekable(arguments.input);
+
+		if (input != arguments.input) {
+			//a character have to be peeked. Any time
+			ParseArguments<?, O> peekable = new ParseArguments<>(arguments.parent, input, arguments.output,
+					arguments.inputClazz, arguments.outputClazz);
+			return arguments.output = this.parse(peekable);
+		}
+
+		if (JSON.skipWhitespace(arguments.input) == 'n') {
+			JSON.expect(arguments.input, "null");
+			return arguments.output = null;
+		}
+
+		return super.parse(arguments);
+	}
+
+	@Override
+	@Static
+	public StructuralIndex structuralIndex() {
+		return STRUCTURAL_INDEX;
+	}
+
+	@Override
+	@Static
+	public Tokenizer tokenize(Reader input) {
+		Objects.requireNonNull(input, "input");
+		return new JSONTokenizer(this, JSON.peekable(input));
+	}
+
+	/**
+	 * Array => String
+	 *
+	 * @param arguments the formatting instance that holds the variables of this formatting
+	 * @throws IOException if any I/O exception occurs
+	 */
+	@FormatMethod(@MetaFamily(
+			subin = Object[].class,
+			in = {boolean[].class,
+				  byte[].class,
+				  char[].class,
+				  double[].class,
+				  float[].class,
+				  int[].class,
+				  long[].class,
+				  short[].class
+			}))
+	protected void array_string(FormatArguments<Object, ?> arguments) throws IOException {
+		Writer output = arguments.output;
+		Object array = arguments.input;
+		int length = Array.getLength(array);
+
+		output.write('[');
+
+		for (int i = 0; i < length; i++) {
+			if (i != 0)
+				output.write(',');
+
+			Object element = Array.get(array, i);
+
+			if (element == null)
+				output.write("null");
+			else this.format(new FormatArguments<>(arguments, element, output, 0));
+		}
+
+		output.write(']');
+	}
+
+	/**
+	 * Boolean => String
+	 *
+	 * @param arguments the formatting instance that holds the variables of this formatting
+	 * @throws IOException if any I/O exception occurs
+	 */
+	@FormatMethod(@MetaFamily(subin = Boolean.class, in = boolean.class))
+	protected void boolean_string(FormatArguments<Boolean, ?> arguments) throws IOException {
+		arguments.output.write(arguments.input ? "true" : "false");
+	}
+
+	/**
+	 * Character => String
+	 *
+	 * @param arguments the formatting instance that holds the variables of this formatting
+	 * @throws IOException if any I/O exception occurs
+	 */
+	@FormatMethod(@MetaFamily(subin = Character.class, in = char.class))
+	protected void character_string(FormatArguments<Character, ?> arguments) throws IOException {
+		JSON.writeString(arguments.output, String.valueOf(arguments.input.charValue()));
+	}
+
+	/**
+	 * CharSequence => String
+	 *
+	 * @param arguments the formatting instance that holds the variables of this formatting
+	 * @throws IOException if any I/O exception occurs
+	 */
+	@FormatMethod(@MetaFamily(subin = CharSequence.class))
+	protected void charsequence_string(FormatArguments<CharSequence, ?> arguments) throws IOException {
+		JSON.writeString(arguments.output, arguments.input);
+	}
+
+	/**
+	 * Collection => String
+	 *
+	 * @param arguments the formatting instance that holds the variables of this formatting
+	 * @throws IOException if any I/O exception occurs
+	 */
+	@FormatMethod(@MetaFamily(subin = Collection.class))
+	protected void collection_string(FormatArguments<Collection, ?> arguments) throws IOException {
+		Writer output = arguments.output;
+		boolean first = true;
+
+		output.write('[');
+
+		for (Object element : arguments.input) {
+			if (first)
+				first = false;
+			else output.write(',');
+
+			if (element == null)
+				output.write("null");
+			else this.format(new FormatArguments<>(arguments, element, output, 0));
+		}
+
+		output.write(']');
+	}
+
+	/**
+	 * Map => String
+	 *
+	 * @param arguments the formatting instance that holds the variables of this formatting
+	 * @throws IOException if any I/O exception occurs
+	 */
+	@FormatMethod(@MetaFamily(subin = Map.class))
+	protected void map_string(FormatArguments<Map, ?> arguments) throws IOException {
+		Writer output = arguments.output;
+		boolean first = true;
+
+		output.write('{');
+
+		for (Map.Entry entry : (Set<Map.Entry>) arguments.input.entrySet()) {
+			if (first)
+				first = false;
+			else output.write(',');
+
+			Object key = entry.getKey();
+			Object value = entry.getValue();
+
+			JSON.writeString(output, key instanceof CharSequence ? (CharSequence) key : String.valueOf(key));
+			output.write(':');
+
+			if (value == null)
+				output.write("null");
+			else this.format(new FormatArguments<>(arguments, value, output, 1));
+		}
+
+		output.write('}');
+	}
+
+	/**
+	 * Null => String
+	 *
+	 * @param arguments the formatting instance that holds the variables of this formatting
+	 * @throws IOException if any I/O exception occurs
+	 */
+	@FormatMethod(@MetaFamily(in = Void.class))
+	protected void null_string(FormatArguments<Void, ?> arguments) throws IOException {
+		arguments.output.write("null");
+	}
+
+	/**
+	 * Number => String
+	 *
+	 * @param arguments the formatting instance that holds the variables of this formatting
+	 * @throws IOException     if any I/O exception occurs
+	 * @throws FormatException if the number is not finite. (JSON has no NaN or Infinity)
+	 */
+	@FormatMethod(@MetaFamily(
+			subin = Number.class,
+			in = {byte.class,
+				  double.class,
+				  float.class,
+				  int.class,
+				  long.class,
+				  short.class
+			}))
+	protected void number_string(FormatArguments<Number, ?> arguments) throws IOException {
+		Number number = arguments.input;
+
+		if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte ||
+			number instanceof AtomicInteger || number instanceof AtomicLong) {
+			JSON.writeLong(arguments.output, number.longValue());
+		} else if (number instanceof Double || number instanceof Float) {
+			double value = number.doubleValue();
+
+			if (Double.isNaN(value) || Double.isInfinite(value))
+				throw new FormatException(value + " can't be formatted to JSON");
+
+			arguments.output.write(number.toString());
+		} else {
+			//BigInteger, BigDecimal and others (their string is a valid number)
+			arguments.output.write(number.toString());
+		}
+	}
+
+	/**
+	 * Object => String
+	 * <br/>
+	 * Format the given object by its runtime class. Like the elements of an {@code Object[]}. (their clazzes have the {@link Object} family)
+	 *
+	 * @param arguments the formatting instance that holds the variables of this formatting
+	 * @throws IOException     if any I/O exception occurs
+	 * @throws FormatException if the runtime class can't be formatted
+	 */
+	@FormatMethod(@MetaFamily(in = Object.class))
+	protected void object_string(FormatArguments<Object, ?> arguments) throws IOException {
+		Clazz clazz = Clazz.of(arguments.input);
+
+		if (clazz.getFamily() == Object.class)
+			//nothing more specific. (dispatching it again would come back here)
+			this.formatElse(arguments);
+		//the same parent. So it is not detected as formatted inside itself
+		else this.format(new FormatArguments<>(arguments.parent, arguments.input, arguments.output, clazz, arguments.outputClazz));
+	}
+
+	/**
+	 * Recurse => String
+	 * <br/>
+	 * Get invoked when an object is formatted inside itself. JSON can't reference an object. So it is an error.
+	 *
+	 * @param arguments the formatting instance that holds the variables of this formatting
+	 * @throws FormatException always. (the object would be formatted infinitely)
+	 */
+	@FormatMethod(@MetaFamily(subin = Recurse.class))
+	protected void recurse_string(FormatArguments<Object, ?> arguments) {
+		throw new FormatException("Cyclic reference: " + arguments.inputClazz.getKlass() + " is formatted inside itself");
+	}
+
+	/**
+	 * String => Array
+	 *
+	 * @param arguments the parsing instance that holds the variables of this parsing
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the text is not an array. Or if a null is an element of an array of primitives
+	 */
+	@ParseMethod(@MetaFamily(
+			subin = Object[].class,
+			in = {boolean[].class,
+				  byte[].class,
+				  char[].class,
+				  double[].class,
+				  float[].class,
+				  int[].class,
+				  long[].class,
+				  short[].class
+			}))
+	protected void string_array(ParseArguments<?, Object> arguments) throws IOException {
+		Reader input = arguments.input;
+		Class component = arguments.outputClazz.getKlass().getComponentType();
+		List elements = new ArrayList();
+
+		if (input.read() != '[')
+			throw new ParseException("Expected '['");
+
+		if (JSON.skipWhitespace(input) == ']') {
+			input.read();
+		} else {
+			while (true) {
+				elements.add(this.parse(new ParseArguments<>(arguments, input, null, Clazz.of(component), Clazz.of(component), 0)));
+
+				int c = JSON.skipWhitespace(input);
+				input.read();
+
+				if (c == ']')
+					break;
+				if (c != ',')
+					throw new ParseException("Expected ',' or ']'");
+			}
+		}
+
+		Object output = Array.newInstance(component, elements.size());
+
+		for (int i = 0; i < elements.size(); i++) {
+			Object element = elements.get(i);
+
+			if (element == null && component.isPrimitive())
+				throw new ParseException("null can't be an element of " + arguments.outputClazz.getKlass());
+
+			Array.set(output, i, element);
+		}
+
+		arguments.output = output;
+	}
+
+	/**
+	 * String => Boolean
+	 *
+	 * @param arguments the parsing instance that holds the variables of this parsing
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the text is not a boolean
+	 */
+	@ParseMethod(@MetaFamily(subin = Boolean.class, in = boolean.class))
+	protected void string_boolean(ParseArguments<?, Boolean> arguments) throws IOException {
+		if (JSON.peek(arguments.input) == 't') {
+			JSON.expect(arguments.input, "true");
+			arguments.output = true;
+		} else {
+			JSON.expect(arguments.input, "false");
+			arguments.output = false;
+		}
+	}
+
+	/**
+	 * String => Character
+	 *
+	 * @param arguments the parsing instance that holds the variables of this parsing
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the text is not a string of one character
+	 */
+	@ParseMethod(@MetaFamily(subin = Character.class, in = char.class))
+	protected void string_character(ParseArguments<?, Character> arguments) throws IOException {
+		String string = JSON.readString(arguments.input);
+
+		if (string.length() != 1)
+			throw new ParseException("Expected one character: \"" + string + "\"");
+
+		arguments.output = string.charAt(0);
+	}
+
+	/**
+	 * String => Collection
+	 *
+	 * @param arguments the parsing instance that holds the variables of this parsing
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the text is not an array
+	 */
+	@ParseMethod(@MetaFamily(subin = Collection.class))
+	protected void string_collection(ParseArguments<?, Collection> arguments) throws IOException {
+		Reader input = arguments.input;
+
+		if (input.read() != '[')
+			throw new ParseException("Expected '['");
+
+		Collection output = arguments.output;
+
+		if (output == null)
+			output = JSON.newCollection(arguments.outputClazz.getKlass());
+		else output.clear();
+
+		arguments.output = output;
+
+		if (JSON.skipWhitespace(input) == ']') {
+			input.read();
+			return;
+		}
+
+		while (true) {
+			output.add(this.parse(new ParseArguments<>(arguments, input, null, OBJECT, OBJECT, 0)));
+
+			int c = JSON.skipWhitespace(input);
+			input.read();
+
+			if (c == ']')
+				return;
+			if (c != ',')
+				throw new ParseException("Expected ',' or ']'");
+		}
+	}
+
+	/**
+	 * String => Map
+	 *
+	 * @param arguments the parsing instance that holds the variables of this parsing
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the text is not an object
+	 */
+	@ParseMethod(@MetaFamily(subin = Map.class))
+	protected void string_map(ParseArguments<?, Map> arguments) throws IOException {
+		Reader input = arguments.input;
+
+		if (input.read() != '{')
+			throw new ParseException("Expected '{'");
+
+		Map output = arguments.output;
+
+		if (output == null)
+			output = JSON.newMap(arguments.outputClazz.getKlass());
+		else output.clear();
+
+		arguments.output = output;
+
+		if (JSON.skipWhitespace(input) == '}') {
+			input.read();
+			return;
+		}
+
+		while (true) {
+			if (JSON.skipWhitespace(input) != '"')
+				throw new ParseException("Expected a key");
+
+			String key = JSON.readString(input);
+
+			if (JSON.skipWhitespace(input) != ':')
+				throw new ParseException("Expected ':'");
+
+			input.read();
+			output.put(key, this.parse(new ParseArguments<>(arguments, input, null, OBJECT, OBJECT, 1)));
+
+			int c = JSON.skipWhitespace(input);
+			input.read();
+
+			if (c == '}')
+				return;
+			if (c != ',')
+				throw new ParseException("Expected ',' or '}'");
+		}
+	}
+
+	/**
+	 * String => Number
+	 * <br/>
+	 * Parse to the type of the {@link ParseArguments#outputClazz}. Or to an Integer, a Long, a BigInteger or a Double (the first that fits) if it
+	 * is not a specific type.
+	 *
+	 * @param arguments the parsing instance that holds the variables of this parsing
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the text is not a number. Or out of the range of the output type
+	 */
+	@ParseMethod(@MetaFamily(
+			subin = Number.class,
+			in = {byte.class,
+				  double.class,
+				  float.class,
+				  int.class,
+				  long.class,
+				  short.class
+			}))
+	protected void string_number(ParseArguments<?, Number> arguments) throws IOException {
+		int scanned = JSON.scanNumber(arguments.input);
+		boolean integral = scanned >= 0;
+		int length = integral ? scanned : ~scanned;
+		char[] chars = NUMBER_BUFFER.get();
+		Class klass = arguments.outputClazz.getKlass();
+
+		if (klass == Double.class || klass == double.class) {
+			arguments.output = JSON.parseDouble(chars, length, integral);
+		} else if (klass == Float.class || klass == float.class) {
+			arguments.output = (float) JSON.parseDouble(chars, length, integral);
+		} else if (klass == BigDecimal.class) {
+			arguments.output = new BigDecimal(chars, 0, length);
+		} else if (klass == BigInteger.class) {
+			if (!integral)
+				throw new ParseException("Not an integer: " + new String(chars, 0, length));
+
+			arguments.output = new BigInteger(new String(chars, 0, length));
+		} else if (klass == Long.class || klass == long.class || klass == Integer.class || klass == int.class ||
+				   klass == Short.class || klass == short.class || klass == Byte.class || klass == byte.class) {
+			if (!integral)
+				throw new ParseException("Not an integer: " + new String(chars, 0, length));
+
+			long value = JSON.parseLong(chars, length);
+
+			if (klass == Long.class || klass == long.class)
+				arguments.output = value;
+			else if ((klass == Integer.class || klass == int.class) && (int) value == value)
+				arguments.output = (int) value;
+			else if ((klass == Short.class || klass == short.class) && (short) value == value)
+				arguments.output = (short) value;
+			else if ((klass == Byte.class || klass == byte.class) && (byte) value == value)
+				arguments.output = (byte) value;
+			else throw new ParseException("Out of the range of " + klass + ": " + value);
+		} else if (integral && length - (chars[0] == '-' ? 1 : 0) <= LONG_DIGITS) {
+			long value = JSON.parseLong(chars, length);
+			arguments.output = (int) value == value ? (Number) (int) value : (Number) value;
+		} else if (integral) {
+			BigInteger value = new BigInteger(new String(chars, 0, length));
+			arguments.output = value.bitLength() < 64 ? (Number) value.longValue() : value;
+		} else {
+			arguments.output = JSON.parseDouble(chars, length, false);
+		}
+	}
+
+	/**
+	 * String => Object
+	 * <br/>
+	 * Classify the text. Then parse it. To the classified type if the {@link ParseArguments#outputClazz} is not specific.
+	 *
+	 * @param arguments the parsing instance that holds the variables of this parsing
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if any parsing exception occurs
+	 */
+	@ParseMethod(@MetaFamily(in = Object.class))
+	protected void string_object(ParseArguments<?, Object> arguments) throws IOException {
+		Clazz clazz = this.classify(arguments.input);
+		Clazz outputClazz = arguments.outputClazz.getKlass() == Object.class ? clazz : arguments.outputClazz;
+		arguments.output = this.parse(new ParseArguments<>(arguments, arguments.input, null, clazz, outputClazz));
+	}
+
+	/**
+	 * String => String
+	 *
+	 * @param arguments the parsing instance that holds the variables of this parsing
+	 * @throws IOException    if any I/O exception occurs
+	 * @throws ParseException if the text is not a string
+	 */
+	@ParseMethod(@MetaFamily(in = {String.class, CharSequence.class}))
+	protected void string_string(ParseArguments<?, String> arguments) throws IOException {
+		arguments.output = JSON.readString(arguments.input);
+	}
+
+	/**
+	 * Classify a text starting with a 't' or an 'f'.
+	 *
+	 * @param arguments the classification instance that holds the variables of this classification
+	 * @return true
+	 */
+	@ClassifyMethod(start = "tf")
+	protected boolean string_boolean(ClassifyArguments arguments) {
+		arguments.output = BOOLEAN;
+		return true;
+	}
+
+	/**
+	 * Classify a text starting with a '['.
+	 *
+	 * @param arguments the classification instance that holds the variables of this classification
+	 * @return true
+	 */
+	@ClassifyMethod(start = "[")
+	protected boolean string_collection(ClassifyArguments arguments) {
+		arguments.output = ARRAY_LIST;
+		return true;
+	}
+
+	/**
+	 * Classify a text starting with a '{'.
+	 *
+	 * @param arguments the classification instance that holds the variables of this classification
+	 * @return true
+	 */
+	@ClassifyMethod(start = "{")
+	protected boolean string_map(ClassifyArguments arguments) {
+		arguments.output = LINKED_HASH_MAP;
+		return true;
+	}
+
+	/**
+	 * Classify a text starting with an 'n'. (null. That any clazz can hold)
+	 *
+	 * @param arguments the classification instance that holds the variables of this classification
+	 * @return true
+	 */
+	@ClassifyMethod(start = "n")
+	protected boolean string_null(ClassifyArguments arguments) {
+		arguments.output = OBJECT;
+		return true;
+	}
+
+	/**
+	 * Classify a text starting with a '-' or a digit.
+	 *
+	 * @param arguments the classification instance that holds the variables of this classification
+	 * @return true
+	 */
+	@ClassifyMethod(start = "-", range = "0-9")
+	protected boolean string_number(ClassifyArguments arguments) {
+		arguments.output = NUMBER;
+		return true;
+	}
+
+	/**
+	 * Classify a text starting with a '"'.
+	 *
+	 * @param arguments the classification instance that holds the variables of this classification
+	 * @return true
+	 */
+	@ClassifyMethod(start = "\"")
+	protected boolean string_string(ClassifyArguments arguments) {
+		arguments.output = STRING;
+		return true;
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text.json;
+
+import cufy.text.ParseException;
+import cufy.text.PushScanner;
+import cufy.text.TextScanner;
+
+/**
+ * The push scanner of the {@link JSON} format. A container ends at its matching bracket. A string at its closing quote. And a top-level number,
+ * boolean or null at the first whitespace or structural character after it. (or at the end of the input) The whitespace between the values is
+ * skipped. So whitespace separated values (like newline delimited json) can be pushed to the same parser.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+class JSONPushScanner implements PushScanner {
+	/**
+	 * The count of containers started and not ended yet.
+	 */
+	private int depth;
+	/**
+	 * If the last scanned character is a backslash inside a string.
+	 */
+	private boolean escape;
+	/**
+	 * If inside a top-level scalar (a number, a boolean or a null).
+	 */
+	private boolean scalar;
+	/**
+	 * If a non-whitespace character has been scanned.
+	 */
+	private boolean started;
+	/**
+	 * If inside a string.
+	 */
+	private boolean string;
+
+	@Override
+	public boolean blank() {
+		return !this.started;
+	}
+
+	@Override
+	public boolean end() {
+		return this.scalar;
+	}
+
+	@Override
+	public void reset() {
+		this.depth = 0;
+		this.escape = false;
+		this.scalar = false;
+		this.started = false;
+		this.string = false;
+	}
+
+	@Override
+	public int scan(char[] chars, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (this.string) {
+				if (this.escape) {
+					this.escape = false;
+					continue;
+				}
+
+				//jump over the plain part of the string
+				i = TextScanner.global.indexOfQuoteOrBackslash(chars, i, to);
+
+				if (i < 0)
+					return -1;
+				if (chars[i] == '\\') {
+					this.escape = true;
+					continue;
+				}
+
+				this.string = false;
+
+				if (this.depth == 0)
+					return i + 1;
+
+				continue;
+			}
+
+			char c = chars[i];
+
+			if (this.scalar) {
+				if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == ',' || c == ':' || c == '"' ||
+					c == '[' || c == ']' || c == '{' || c == '}')
+					return i;
+
+				continue;
+			}
+			if (c == ' ' || c == '\t' || c == '\n' || c == '\r')
+				continue;
+
+			this.started = true;
+
+			switch (c) {
+				case '"':
+					this.string = true;
+					break;
+				case '[':
+				case '{':
+					this.depth++;
+					break;
+				case ']':
+				case '}':
+					if (--this.depth < 0)
+						throw new ParseException("Unexpected '" + c + "'");
+					if (this.depth == 0)
+						return i + 1;
+					break;
+				default:
+					if (this.depth == 0)
+						this.scalar = true;
+			}
+		}
+
+		return -1;
+	}
+}
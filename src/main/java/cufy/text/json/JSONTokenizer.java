@@ -0,0 +1,138 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.text.json;
+
+import cufy.text.ParseException;
+import cufy.text.Token;
+import cufy.text.Tokenizer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * The tokenizer of the {@link JSON} format. The keys are read as strings. And the scalars (strings, numbers, booleans and nulls) are parsed using
+ * the parsing dispatch of the format.
+ *
+ * @author LSaferSE
+ * @version 1 release (19-Oct-2026)
+ * @since 19-Oct-2026
+ */
+class JSONTokenizer extends Tokenizer {
+	/**
+	 * If a value (or a key) has been read in the current container. (so a comma is needed before the next one)
+	 */
+	private boolean after;
+	/**
+	 * If the last token is a key. (so a colon then a value are next)
+	 */
+	private boolean keyed;
+	/**
+	 * If the container at each depth is a map. (false for collections)
+	 */
+	private boolean[] maps = new boolean[16];
+
+	/**
+	 * Construct a new json tokenizer.
+	 *
+	 * @param format the format to parse the values using
+	 * @param input  the reader to read the tokens from. (have to be able to peek. See {@link JSON#peekable(Reader)})
+	 * @throws NullPointerException if the given 'format' or 'input' is null
+	 */
+	JSONTokenizer(JSON format, Reader input) {
+		super(format, input);
+	}
+
+	@Override
+	protected Token advance() throws IOException {
+		int depth = this.depth();
+		boolean map = depth > 0 && this.maps[depth];
+		int c = JSON.skipWhitespace(this.input);
+
+		if (c == '}' || c == ']') {
+			if (depth == 0 || this.keyed || map != (c == '}'))
+				throw new ParseException("Unexpected '" + (char) c + "'");
+
+			this.input.read();
+			this.after = true;
+			return map ? Token.END_MAP : Token.END_COLLECTION;
+		}
+		if (map && !this.keyed) {
+			if (this.after) {
+				if (c != ',')
+					throw new ParseException("Expected ',' or '}'");
+
+				this.input.read();
+				c = JSON.skipWhitespace(this.input);
+			}
+			if (c != '"')
+				throw new ParseException("Expected a key");
+
+			this.value = JSON.readString(this.input);
+			this.after = true;
+			this.keyed = true;
+			return Token.KEY;
+		}
+		if (!this.beforeValue()) {
+			if (depth == 0 && JSON.peek(this.input) == -1)
+				return null;
+
+			throw new ParseException(JSON.peek(this.input) == -1 ? "Unexpected end of input" : "Expected a separator");
+		}
+
+		c = JSON.peek(this.input);
+
+		if (c == '{' || c == '[') {
+			this.input.read();
+
+			if (depth + 1 == this.maps.length)
+				this.maps = Arrays.copyOf(this.maps, this.maps.length << 1);
+
+			this.maps[depth + 1] = c == '{';
+			this.after = false;
+			return c == '{' ? Token.START_MAP : Token.START_COLLECTION;
+		}
+
+		this.value = this.format.parse(this.input, this.format.classify(this.input));
+		return Token.VALUE;
+	}
+
+	@Override
+	protected boolean beforeValue() throws IOException {
+		int c = JSON.skipWhitespace(this.input);
+
+		if (this.keyed) {
+			if (c != ':')
+				throw new ParseException("Expected ':'");
+
+			this.input.read();
+			c = JSON.skipWhitespace(this.input);
+			this.keyed = false;
+		} else if (this.depth() > 0 && this.maps[this.depth()]) {
+			//a key is next
+			return false;
+		} else if (this.after) {
+			if (c != ',')
+				return false;
+
+			this.input.read();
+			c = JSON.skipWhitespace(this.input);
+		}
+
+		this.after = true;
+		return c != -1 && c != '}' && c != ']';
+	}
+}
@@ -0,0 +1,42 @@
+package cufy.convert;
+
+import cufy.lang.Clazz;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@SuppressWarnings("JavaDoc")
+public class AsyncConverterTest {
+	@Test
+	public void convert() throws ExecutionException, InterruptedException {
+		AsyncConverter converter = new AsyncConverter(BaseConverter.global);
+
+		Assert.assertEquals("Not converted right", "12", converter.convert(12, Clazz.of(String.class)).get());
+	}
+
+	@Test
+	public void convertAll() throws ExecutionException, InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			AsyncConverter converter = new AsyncConverter(BaseConverter.global, executor, 3);
+
+			List<Integer> input = new ArrayList<>();
+			for (int i = 0; i < 1000; i++)
+				input.add(i);
+
+			List<String> output = converter.convertAll(input, Clazz.of(String.class)).get();
+
+			Assert.assertEquals("Not all converted", input.size(), output.size());
+			for (int i = 0; i < input.size(); i++)
+				Assert.assertEquals("Order not preserved", String.valueOf(i), output.get(i));
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
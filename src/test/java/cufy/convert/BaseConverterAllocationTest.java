@@ -0,0 +1,56 @@
+package cufy.convert;
+
+import cufy.lang.Allocation;
+import cufy.lang.Clazz;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The budgets are the allocations measured when they were set (java 8 and 17), plus about 50% headroom. Lower them after optimizing.
+ */
+@SuppressWarnings("JavaDoc")
+public class BaseConverterAllocationTest {
+	@Test
+	public void array_array() {
+		int[] input = new int[10_000];
+		for (int i = 0; i < input.length; i++)
+			input[i] = i;
+
+		Clazz<long[]> clazz = Clazz.of(long[].class);
+		//measured: 2_380_000 (80_016 of it is the output)
+		Allocation.assertBudget("int[10_000] => long[]", 3_600_000, () -> BaseConverter.global.convert(input, clazz), 200);
+	}
+
+	@Test
+	public void collection_array() {
+		List<String> input = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++)
+			input.add("s" + i);
+
+		Clazz<String[]> clazz = Clazz.of(String[].class);
+		//measured: 164_000
+		Allocation.assertBudget("List<String>(1_000) => String[]", 250_000, () -> BaseConverter.global.convert(input, clazz), 2_000);
+	}
+
+	@Test
+	public void dispatch() {
+		Clazz<String> clazz = Clazz.of(String.class);
+		//measured: 168
+		Allocation.assertBudget("Cached dispatch (12 => String)", 256, () -> BaseConverter.global.convert(12, clazz), 200_000);
+	}
+
+	@Test
+	public void map_map() {
+		Map<String, Integer> input = new HashMap<>();
+		for (int i = 0; i < 1_000; i++)
+			input.put("k" + i, i);
+
+		Clazz<HashMap> clazz = Clazz.of(HashMap.class, Clazz.of(String.class), Clazz.of(String.class));
+		//measured: 256_000
+		Allocation.assertBudget("Map(1_000) => HashMap<String, String>", 400_000, () -> BaseConverter.global.convert(input, clazz), 2_000);
+	}
+}
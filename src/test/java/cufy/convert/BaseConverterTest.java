@@ -1,10 +1,16 @@
 package cufy.convert;
 
 import cufy.lang.Clazz;
+import cufy.meta.MetaFamily;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.nio.*;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @SuppressWarnings("JavaDoc")
 public class BaseConverterTest {
@@ -38,6 +44,83 @@ public class BaseConverterTest {
 		}
 	}
 
+	@Test
+	public void array_buffer() {
+		//byte buffer view test
+		{
+			int[] input = {1, -2, Integer.MAX_VALUE};
+
+			ByteBuffer output = BaseConverter.global.convert(input, Clazz.of(ByteBuffer.class));
+
+			Assert.assertEquals("Wrong size", input.length * Integer.BYTES, output.remaining());
+			Assert.assertEquals("Wrong order", ByteOrder.BIG_ENDIAN, output.order());
+			for (int i = 0; i < input.length; i++)
+				Assert.assertEquals("Value not changed", input[i], output.getInt(i * Integer.BYTES));
+		}
+		//reuse the output test
+		{
+			long[] input = {7, 3};
+			LongBuffer output = ByteBuffer.allocateDirect(64).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+
+			LongBuffer converted = BaseConverter.global.convert(input, output, Clazz.of(LongBuffer.class));
+
+			Assert.assertSame("Output not reused", output, converted);
+			Assert.assertEquals("Not flipped", input.length, output.remaining());
+			Assert.assertEquals("Value not changed", 7, output.get(0));
+			Assert.assertEquals("Value not changed", 3, output.get(1));
+		}
+		//heap buffers test
+		{
+			int[] input = {4, 5};
+
+			IntBuffer output = BaseConverter.global.convert(input, Clazz.of(IntBuffer.class));
+
+			Assert.assertTrue("Not backed by an array", output.hasArray());
+			Assert.assertArrayEquals("Not converted right", input, output.array());
+		}
+		//different element types test
+		{
+			int[] input = {1, 2};
+
+			DoubleBuffer output = BaseConverter.global.convert(input, Clazz.of(DoubleBuffer.class));
+
+			Assert.assertEquals("Value not changed", 2, output.get(1), 0);
+		}
+		//elements converted test
+		{
+			BaseConverter converter = new BaseConverter() {
+				@ConvertMethod(
+						input = @MetaFamily(in = float.class),
+						output = @MetaFamily(in = int.class))
+				protected void float_int(ConvertArguments<Float, Integer> arguments) {
+					arguments.output = Math.round(arguments.input);
+				}
+			};
+
+			IntBuffer output = converter.convert(new float[]{1.7f, 2.5f}, Clazz.of(IntBuffer.class));
+
+			Assert.assertEquals("Not flipped", 2, output.remaining());
+			Assert.assertEquals("Element not converted", 2, output.get(0));
+			Assert.assertEquals("Element not converted", 3, output.get(1));
+		}
+		//aliased byte order test
+		{
+			BaseConverter converter = new BaseConverter() {
+				{
+					ALIASING = true;
+					BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+				}
+			};
+			byte[] input = {1, 0, 0, 0};
+
+			ByteBuffer output = converter.convert(input, Clazz.of(ByteBuffer.class));
+
+			Assert.assertSame("Not aliased", input, output.array());
+			Assert.assertEquals("Wrong order", ByteOrder.LITTLE_ENDIAN, output.order());
+			Assert.assertEquals("Wrong order", 1, output.getInt(0));
+		}
+	}
+
 	@Test
 	public void array_collection() {
 		//place then clear then place all components in the source
@@ -106,6 +189,39 @@ public class BaseConverterTest {
 		}
 	}
 
+	@Test
+	public void buffer_array() {
+		//byte buffer view test
+		{
+			ByteBuffer input = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+			input.putLong(5).putLong(-9).flip();
+
+			long[] output = BaseConverter.global.convert(input, Clazz.of(long[].class));
+
+			Assert.assertArrayEquals("Not converted right", new long[]{5, -9}, output);
+			Assert.assertEquals("Position of the input changed", 0, input.position());
+		}
+		//don't alias by default test
+		{
+			int[] array = {1, 2, 3};
+			IntBuffer input = IntBuffer.wrap(array);
+
+			int[] output = BaseConverter.global.convert(input, Clazz.of(int[].class));
+
+			Assert.assertNotSame("Copied by reference witch is illegal", array, output);
+			Assert.assertArrayEquals("Not converted right", array, output);
+		}
+		//different element types test
+		{
+			LongBuffer input = LongBuffer.wrap(new long[]{0, 4, 5});
+			input.position(1);
+
+			short[] output = BaseConverter.global.convert(input, Clazz.of(short[].class));
+
+			Assert.assertArrayEquals("Not converted right", new short[]{4, 5}, output);
+		}
+	}
+
 	@Test
 	public void collection_array() {
 		//TODO
@@ -118,7 +234,86 @@ public class BaseConverterTest {
 
 	@Test
 	public void collection_list() {
-		//TODO
+		//deep nesting test
+		{
+			List input = new ArrayList();
+			Clazz outputClazz = Clazz.of(ArrayList.class);
+
+			for (int i = 0; i < 10_000; i++) {
+				List parent = new ArrayList();
+				parent.add(input);
+				input = parent;
+				outputClazz = Clazz.of(ArrayList.class, outputClazz);
+			}
+
+			List output = BaseConverter.global.convert(input, outputClazz);
+
+			int depth = 0;
+			for (List list = output; !list.isEmpty(); list = (List) list.get(0), depth++)
+				Assert.assertNotSame("Copied by reference witch is illegal", input, list);
+
+			Assert.assertEquals("Not converted right", 10_000, depth);
+		}
+	}
+
+	@Test
+	public void concurrent() throws InterruptedException, ExecutionException {
+		//a fresh converter. So the threads race populating its dispatch cache
+		BaseConverter converter = new BaseConverter() {
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (int t = 0; t < 16; t++) {
+				int seed = t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 2_000; i++) {
+						int value = seed * 100_000 + i;
+
+						List<Integer> list = new ArrayList<>(Arrays.asList(value, value + 1));
+						Map<String, List<Integer>> map = new HashMap<>(Collections.singletonMap("k" + value, list));
+
+						Map<String, ArrayList<String>> output = converter.convert(map,
+								Clazz.of(HashMap.class, Clazz.of(String.class), Clazz.of(ArrayList.class, Clazz.of(String.class))));
+						long[] longs = converter.convert(new int[]{value, value + 1}, Clazz.of(long[].class));
+
+						Assert.assertEquals("Wrong output", Arrays.asList(String.valueOf(value), String.valueOf(value + 1)), output.get("k" + value));
+						Assert.assertArrayEquals("Wrong output", new long[]{value, value + 1}, longs);
+					}
+				}));
+			}
+
+			for (Future<?> future : futures)
+				future.get();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void graph() {
+		//shared reference test
+		{
+			int[] shared = {1, 2, 3};
+			List input = Arrays.asList(shared, shared, new int[]{1, 2, 3});
+
+			List output = BaseConverter.global.convertGraph(input, Clazz.of(ArrayList.class, Clazz.of(long[].class)));
+
+			Assert.assertSame("shared reference not preserved", output.get(0), output.get(1));
+			Assert.assertNotSame("different references merged", output.get(0), output.get(2));
+			Assert.assertArrayEquals("Not converted right", new long[]{1, 2, 3}, (long[]) output.get(0));
+		}
+		//not in graph mode
+		{
+			int[] shared = {1, 2, 3};
+			List input = Arrays.asList(shared, shared);
+
+			List output = BaseConverter.global.convert(input, Clazz.of(ArrayList.class, Clazz.of(long[].class)));
+
+			Assert.assertNotSame("shared reference preserved", output.get(0), output.get(1));
+		}
 	}
 
 	@Test
@@ -143,6 +338,25 @@ public class BaseConverterTest {
 
 	@Test
 	public void string_object() {
-		//TODO
+		Assert.assertEquals("Not converted right", 12, (int) BaseConverter.global.convert("12", Clazz.of(Integer.class)));
+		//String => String is object_string's. (not read as a null)
+		Assert.assertEquals("Not converted right", "null", BaseConverter.global.convert("null", Clazz.of(String.class)));
+	}
+
+	@Test
+	public void tryConvert() {
+		BaseConverter converter = new BaseConverter();
+		Integer fallback = -1;
+
+		Assert.assertEquals("Not converted right", "12", converter.tryConvert(12, Clazz.of(String.class), "fallback"));
+		Assert.assertSame("Fallback not returned", fallback, converter.tryConvert(new Object(), Clazz.of(Integer.class), fallback));
+		Assert.assertNull("Fallback not returned", converter.tryConvert(new Object[]{new Object()}, Clazz.of(Integer[].class), null));
+
+		try {
+			converter.convert(new Object(), Clazz.of(Integer.class));
+			Assert.fail("Failure not thrown");
+		} catch (ConvertException e) {
+			Assert.assertTrue("Failure thrown without a stack trace", e.getStackTrace().length > 0);
+		}
 	}
 }
@@ -0,0 +1,87 @@
+package cufy.convert;
+
+import cufy.lang.Clazz;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+@SuppressWarnings("JavaDoc")
+public class RegistryConverterTest {
+	@Test
+	public void register() {
+		RegistryConverter converter = new RegistryConverter();
+
+		Assert.assertEquals("Annotated method not used", "12", converter.convert(12, Clazz.of(String.class)));
+
+		converter.register(Integer.class, String.class, (Integer input, String output) -> "#" + input);
+		Assert.assertEquals("Registered function not used", "#12", converter.convert(12, Clazz.of(String.class)));
+
+		converter.register(Integer.class, String.class, (Integer input, String output) -> "$" + input);
+		Assert.assertEquals("Latest registration not used", "$12", converter.convert(12, Clazz.of(String.class)));
+
+		List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3));
+		List<String> strings = converter.convert(list, Clazz.of(ArrayList.class, Clazz.of(String.class)));
+		Assert.assertEquals("Registered function not used for the elements", Arrays.asList("$1", "$2", "$3"), strings);
+	}
+
+	@Test
+	public void register_throwing() {
+		RegistryConverter converter = new RegistryConverter();
+		converter.register(String.class, Integer.class, (String input, Integer output) -> Integer.parseInt(input));
+
+		Assert.assertEquals("Registered function not used", 12, (int) converter.convert("12", Clazz.of(Integer.class)));
+
+		try {
+			converter.convert("x", Clazz.of(Integer.class));
+			Assert.fail("Converted an invalid input");
+		} catch (ConvertException e) {
+			Assert.assertTrue("Wrong cause " + e.getCause(), e.getCause() instanceof NumberFormatException);
+		}
+
+		Assert.assertEquals("Fallback not returned", -1, (int) converter.tryConvert("x", Clazz.of(Integer.class), -1));
+		Assert.assertNull("Fallback not returned for an element",
+				converter.tryConvert(Arrays.asList("1", "x"), Clazz.of(ArrayList.class, Clazz.of(Integer.class)), null));
+	}
+
+	@Test
+	public void register_concurrent() throws InterruptedException {
+		RegistryConverter converter = new RegistryConverter();
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		//each registration invalidates the dispatch cache while the readers are converting
+		Thread writer = new Thread(() -> {
+			for (int i = 0; i < 2_000; i++)
+				converter.register(Integer.class, String.class, (Integer input, String output) -> "#" + input);
+			done.set(true);
+		});
+
+		List<Thread> readers = new ArrayList<>();
+		for (int t = 0; t < 8; t++)
+			readers.add(new Thread(() -> {
+				try {
+					while (!done.get()) {
+						String output = converter.convert(7, Clazz.of(String.class));
+						Assert.assertTrue("Wrong output " + output, output.equals("7") || output.equals("#7"));
+					}
+
+					Assert.assertEquals("Registration not visible", "#7", converter.convert(7, Clazz.of(String.class)));
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			}));
+
+		readers.forEach(Thread::start);
+		writer.start();
+		writer.join();
+		for (Thread reader : readers)
+			reader.join();
+
+		Assert.assertNull("Failed concurrently: " + failure.get(), failure.get());
+	}
+}
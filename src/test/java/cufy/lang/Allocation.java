@@ -0,0 +1,52 @@
+package cufy.lang;
+
+import org.junit.Assume;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the bytes allocated by the current thread. For the allocation-budget tests.
+ */
+@SuppressWarnings("JavaDoc")
+final public class Allocation {
+	private Allocation() {
+		throw new AssertionError("No instance for you!");
+	}
+
+	/**
+	 * Get the average bytes allocated by the current thread for each run of the given operation. After warming it up with the same count of runs.
+	 * Skips the calling test if the running java can't measure the allocations of a thread.
+	 */
+	public static long perOperation(Runnable operation, int runs) {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+		Assume.assumeTrue("Can't measure thread allocations", bean instanceof com.sun.management.ThreadMXBean &&
+															  ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported());
+
+		com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean) bean;
+		sun.setThreadAllocatedMemoryEnabled(true);
+
+		long id = Thread.currentThread().getId();
+
+		//warm up. So the measured runs are compiled
+		for (int i = 0; i < runs; i++)
+			operation.run();
+
+		long start = sun.getThreadAllocatedBytes(id);
+		for (int i = 0; i < runs; i++)
+			operation.run();
+
+		return (sun.getThreadAllocatedBytes(id) - start) / runs;
+	}
+
+	/**
+	 * Assert that the given operation allocates no more than the given budget of bytes on each run.
+	 */
+	public static void assertBudget(String name, long budget, Runnable operation, int runs) {
+		long bytes = Allocation.perOperation(operation, runs);
+
+		if (bytes > budget)
+			throw new AssertionError(name + " allocated " + bytes + " bytes per operation. Over its budget of " + budget + " bytes");
+	}
+}
@@ -0,0 +1,86 @@
+package cufy.lang;
+
+import cufy.convert.AbstractConverter;
+import cufy.convert.BaseConverter;
+import cufy.convert.ConvertArguments;
+import cufy.convert.ConvertException;
+import cufy.convert.ConvertMethod;
+import cufy.meta.MetaFamily;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@SuppressWarnings("JavaDoc")
+public class DispatchMetricsTest {
+	@Test
+	public void counters() {
+		BaseConverter converter = new BaseConverter() {
+		};
+		DispatchMetrics metrics = new DispatchMetrics();
+		converter.setDispatchMetrics(metrics);
+
+		List<Integer> input = new ArrayList<>(Arrays.asList(1, 2, 3));
+		converter.convert(input, Clazz.of(ArrayList.class, Clazz.of(String.class)));
+		converter.convert(input, Clazz.of(ArrayList.class, Clazz.of(String.class)));
+
+		Assert.assertEquals("Misses not counted", 2, metrics.getCacheMisses());
+		Assert.assertEquals("Hits not counted", 6, metrics.getCacheHits());
+		Assert.assertEquals("Instantiations not counted", 2, metrics.getInstantiations());
+		Assert.assertEquals("Container sizes not recorded", 2, metrics.getContainerSizeHistogram()[2]);
+		Assert.assertEquals("Root depths not recorded", 2, metrics.getDepthHistogram()[0]);
+		Assert.assertEquals("Element depths not recorded", 6, metrics.getDepthHistogram()[1]);
+
+		try {
+			converter.convert(new Object(), Clazz.of(Integer.class));
+			Assert.fail("Failure not thrown");
+		} catch (ConvertException ignored) {
+		}
+
+		Assert.assertEquals("Else fallback not counted", 1, metrics.getElseFallbacks());
+		Assert.assertEquals("Exception not counted", (Long) 1L, metrics.getExceptions().get(ConvertException.class.getName()));
+
+		metrics.reset();
+		Assert.assertEquals("Not reset", 0, metrics.getCacheHits());
+		Assert.assertTrue("Not reset", metrics.getExceptions().isEmpty());
+	}
+
+	@Test
+	public void nested_exception() {
+		AbstractConverter converter = new AbstractConverter() {
+			@ConvertMethod(input = @MetaFamily(in = Boolean.class), output = @MetaFamily(in = Integer.class))
+			protected void boolean_integer(ConvertArguments<Boolean, Integer> arguments) {
+				//a nested conversion that fails
+				arguments.output = this.convert(new ConvertArguments<>(arguments, new Object(), null, Clazz.of(Object.class), Clazz.of(Integer.class)));
+			}
+		};
+		DispatchMetrics metrics = new DispatchMetrics();
+		converter.setDispatchMetrics(metrics);
+
+		try {
+			converter.convert(true, Clazz.of(Integer.class));
+			Assert.fail("Failure not thrown");
+		} catch (ConvertException ignored) {
+		}
+
+		Assert.assertEquals("Exception counted more than once", (Long) 1L, metrics.getExceptions().get(ConvertException.class.getName()));
+	}
+
+	@Test
+	public void register() {
+		DispatchMetrics metrics = new DispatchMetrics();
+		ObjectName name = metrics.register(this);
+
+		try {
+			Assert.assertTrue("Not registered", ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+		} finally {
+			metrics.unregister();
+		}
+
+		Assert.assertFalse("Not unregistered", ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+	}
+}
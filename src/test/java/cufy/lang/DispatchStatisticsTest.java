@@ -0,0 +1,39 @@
+package cufy.lang;
+
+import cufy.convert.BaseConverter;
+import cufy.convert.ConvertArguments;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@SuppressWarnings("JavaDoc")
+public class DispatchStatisticsTest {
+	@Test
+	public void onExit() throws NoSuchMethodException {
+		BaseConverter converter = new BaseConverter() {
+		};
+		DispatchStatistics statistics = new DispatchStatistics();
+		converter.setDispatchListener(statistics);
+
+		List<Integer> input = new ArrayList<>(Arrays.asList(1, 2, 3));
+		converter.convert(input, Clazz.of(ArrayList.class, Clazz.of(String.class)));
+
+		Method collection_list = BaseConverter.class.getDeclaredMethod("collection_list", ConvertArguments.class);
+		Method object_string = BaseConverter.class.getDeclaredMethod("object_string", ConvertArguments.class);
+
+		Assert.assertEquals("Container not counted", 1, statistics.getCount(collection_list));
+		Assert.assertEquals("Elements not counted", 3, statistics.getCount(object_string));
+		Assert.assertEquals("Histogram not recorded", 3, Arrays.stream(statistics.getHistogram(object_string)).sum());
+		Assert.assertTrue("Container time does not include the elements",
+				statistics.getTotalNanos(collection_list) >= statistics.getTotalNanos(object_string));
+
+		statistics.reset();
+		converter.setDispatchListener(null);
+		converter.convert(input, Clazz.of(ArrayList.class, Clazz.of(String.class)));
+		Assert.assertEquals("Counted after removed", 0, statistics.getCount(object_string));
+	}
+}
@@ -0,0 +1,54 @@
+package cufy.lang;
+
+import cufy.convert.BaseConverter;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@SuppressWarnings("JavaDoc")
+public class JFRTest {
+	@Test
+	public void listener() throws IOException {
+		Assume.assumeTrue("JFR is not available", JFR.isAvailable());
+
+		BaseConverter converter = new BaseConverter() {
+		};
+		converter.setDispatchListener(JFR.listener());
+
+		Path file = Files.createTempFile("cufy", ".jfr");
+
+		try (Recording recording = new Recording()) {
+			recording.enable("cufy.Convert").withThreshold(Duration.ZERO);
+			recording.start();
+
+			List<Integer> input = new ArrayList<>(Arrays.asList(1, 2, 3));
+			converter.convert(input, Clazz.of(ArrayList.class, Clazz.of(String.class)));
+
+			recording.stop();
+			recording.dump(file);
+
+			int roots = 0, elements = 0;
+			for (RecordedEvent event : RecordingFile.readAllEvents(file))
+				if (event.getEventType().getName().equals("cufy.Convert"))
+					if (event.getInt("depth") == 0)
+						roots++;
+					else elements++;
+
+			Assert.assertEquals("Root not recorded", 1, roots);
+			Assert.assertEquals("Elements not recorded", 3, elements);
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package cufy.text;
+
+import cufy.lang.Allocation;
+import cufy.lang.Clazz;
+import cufy.meta.MetaFamily;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * The budgets are the allocations measured when they were set (java 8 and 17), plus about 50% headroom. Lower them after optimizing.
+ */
+@SuppressWarnings("JavaDoc")
+public class AbstractFormatAllocationTest {
+	final static Format format = new AbstractFormat() {
+		@FormatMethod(@MetaFamily(subin = Integer.class))
+		protected void integer_string(FormatArguments<Integer, ?> arguments) throws IOException {
+			arguments.output.write(arguments.input);
+		}
+
+		@ParseMethod(@MetaFamily(subin = Integer.class))
+		protected void string_integer(ParseArguments<?, Integer> arguments) throws IOException {
+			arguments.output = arguments.input.read();
+		}
+	};
+
+	final static Writer sink = new Writer() {
+		@Override
+		public void write(char[] buffer, int offset, int length) {
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	@Test
+	public void format() {
+		Clazz<Integer> clazz = Clazz.of(Integer.class);
+		//measured: 40
+		Allocation.assertBudget("Format dispatch (Integer)", 64, () -> {
+			try {
+				format.format(7, sink, clazz, clazz);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, 100_000);
+	}
+
+	@Test
+	public void formatToString() {
+		Clazz<Integer> clazz = Clazz.of(Integer.class);
+		//measured: 76 (java 8), 128 (java 17). The arguments and the string
+		Allocation.assertBudget("Format to string (Integer)", 192, () -> {
+			try {
+				format.formatToString(7, clazz);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, 100_000);
+	}
+
+	@Test
+	public void parse() {
+		Clazz<Integer> clazz = Clazz.of(Integer.class);
+		StringReader reader = new StringReader("\u0007");
+		//measured: 64 (the reader is reused)
+		Allocation.assertBudget("Parse dispatch (Integer)", 96, () -> {
+			try {
+				reader.reset();
+				format.parse(reader, clazz, clazz);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, 100_000);
+	}
+}
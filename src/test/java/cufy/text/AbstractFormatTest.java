@@ -1,26 +1,250 @@
 package cufy.text;
 
+import cufy.lang.Clazz;
+import cufy.meta.MetaFamily;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @SuppressWarnings("JavaDoc")
 public class AbstractFormatTest {
 	@Test
-	public void classify() {
-		//TODO
+	public void classify() throws IOException, NoSuchMethodException {
+		List<String> invoked = new ArrayList<>();
+		AbstractFormat format = new AbstractFormat() {
+			@ClassifyMethod(start = "-", range = "0-9")
+			protected boolean string_integer(ClassifyArguments arguments) {
+				invoked.add("integer");
+				arguments.output = Clazz.of(Integer.class);
+				return true;
+			}
+
+			@ClassifyMethod(start = "[")
+			protected boolean string_list(ClassifyArguments arguments) {
+				invoked.add("list");
+				arguments.output = Clazz.of(List.class);
+				return true;
+			}
+
+			@ClassifyMethod
+			protected boolean string_string(ClassifyArguments arguments) {
+				invoked.add("string");
+				arguments.output = Clazz.of(String.class);
+				return true;
+			}
+		};
+
+		Assert.assertSame("Wrong classification", List.class, format.classify(new StringReader("[1]")).getKlass());
+		Assert.assertSame("Wrong classification", Integer.class, format.classify(new StringReader("-1")).getKlass());
+		Assert.assertSame("Wrong classification", Integer.class, format.classify(new StringReader("5")).getKlass());
+		Assert.assertSame("Wrong classification", String.class, format.classify(new StringReader("abc")).getKlass());
+		Assert.assertSame("Wrong classification", String.class, format.classify(new StringReader("")).getKlass());
+		Assert.assertEquals("Classifiers not skipped", Arrays.asList("list", "integer", "integer", "string", "string"), invoked);
+
+		StringReader reader = new StringReader("[1]");
+		format.classify(reader);
+		Assert.assertEquals("Input consumed", '[', reader.read());
+
+		//a reader that can't be peeked tries the classifiers accepting anything last
+		Reader unmarkable = new FilterReader(new StringReader("[1]")) {
+			@Override
+			public boolean markSupported() {
+				return false;
+			}
+		};
+		Assert.assertNotSame("Catch-all classifier tried first", String.class, format.classify(unmarkable).getKlass());
+
+		Method any = format.getClass().getDeclaredMethod("string_string", ClassifyArguments.class);
+		Method list = format.getClass().getDeclaredMethod("string_list", ClassifyArguments.class);
+		Assert.assertArrayEquals("Catch-all classifier not last", new Method[]{list, any}, new ClassifyIndex(Arrays.asList(any, list)).methods());
 	}
 
 	@Test
-	public void cparse() {
-		//TODO
+	public void cparse() throws IOException {
+		AbstractFormat format = new AbstractFormat() {
+			@ClassifyMethod(start = "-", range = "0-9")
+			protected boolean string_integer(ClassifyArguments arguments) {
+				arguments.output = Clazz.of(Integer.class);
+				return true;
+			}
+
+			@ClassifyMethod
+			protected boolean string_string(ClassifyArguments arguments) throws IOException {
+				//looks ahead more than one character
+				arguments.input.mark(3);
+				boolean integer = arguments.input.read() == '"' && arguments.input.read() == '"' && arguments.input.read() == '"';
+				arguments.input.reset();
+
+				if (integer)
+					arguments.output = Clazz.of(Integer.class);
+				else arguments.output = Clazz.of(String.class);
+				return true;
+			}
+
+			@ParseMethod(@MetaFamily(subin = Integer.class))
+			protected void string_integer(ParseArguments<?, Integer> arguments) throws IOException {
+				StringBuilder builder = new StringBuilder();
+				for (int c = arguments.input.read(); c != -1; c = arguments.input.read())
+					if (c != '"')
+						builder.append((char) c);
+
+				arguments.output = Integer.valueOf(builder.toString());
+			}
+
+			@ParseMethod(@MetaFamily(subin = String.class))
+			protected void string_string(ParseArguments<?, String> arguments) throws IOException {
+				StringBuilder builder = new StringBuilder();
+				for (int c = arguments.input.read(); c != -1; c = arguments.input.read())
+					builder.append((char) c);
+
+				arguments.output = builder.toString();
+			}
+		};
+
+		//a reader that can't be marked
+		Reader input = new FilterReader(new StringReader("\"\"\"123")) {
+			@Override
+			public boolean markSupported() {
+				return false;
+			}
+		};
+
+		Assert.assertEquals("Wrong output", 123, (int) format.cparse(input));
+		Assert.assertEquals("Wrong output", -7, (int) format.cparse(new StringReader("-7")));
+		Assert.assertEquals("Wrong output", "abc", format.cparse(new StringReader("abc")));
 	}
 
 	@Test
-	public void format() {
-		//TODO
+	public void format() throws IOException {
+		AbstractFormat format = new AbstractFormat() {
+			@FormatMethod(@MetaFamily(subin = Integer.class))
+			protected void integer_string(FormatArguments<Integer, ?> arguments) throws IOException {
+				arguments.output.write(String.valueOf(arguments.input));
+			}
+
+			@FormatMethod(@MetaFamily(subin = List.class))
+			protected void list_string(FormatArguments<List, ?> arguments) throws IOException {
+				//nested formatToString. While the outer one is using the writer of this thread
+				StringBuilder builder = new StringBuilder();
+				for (Object element : arguments.input)
+					builder.append(this.formatToString(element)).append(',');
+
+				arguments.output.append('[').append(builder).append(']');
+			}
+
+			@FormatMethod(@MetaFamily(subin = String.class))
+			protected void string_string(FormatArguments<String, ?> arguments) throws IOException {
+				arguments.output.write(arguments.input);
+			}
+		};
+
+		Assert.assertEquals("Wrong output", "12", format.format(12, new StringBuilder()).toString());
+		Assert.assertEquals("Wrong output", "x12", format.format(12, new StringBuilder("x")).toString());
+		Assert.assertEquals("Wrong output", "[1,2,]", format.formatToString(Arrays.asList(1, 2)));
+		Assert.assertEquals("Writer not reset", "3", format.formatToString(3));
+
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		format.format(Arrays.asList(1, 2), stream);
+		Assert.assertEquals("Wrong output", "[1,2,]", stream.toString("UTF-8"));
+
+		ByteBuffer buffer = format.format(12, ByteBuffer.allocate(8));
+		Assert.assertEquals("Position not moved", 2, buffer.position());
+
+		//a high surrogate at the end of the text
+		stream = new ByteArrayOutputStream();
+		format.format("a\ud83d", stream);
+		Assert.assertEquals("Surrogate dropped", "a?", stream.toString("UTF-8"));
+
+		stream = new ByteArrayOutputStream();
+		format.format("a\ud83d", Channels.newChannel(stream));
+		Assert.assertEquals("Surrogate dropped", "a?", stream.toString("UTF-8"));
+
+		buffer = format.format("a\ud83d", ByteBuffer.allocate(8));
+		Assert.assertEquals("Surrogate dropped", 2, buffer.position());
+		Assert.assertEquals("Surrogate dropped", '?', buffer.get(1));
+	}
+
+	@Test
+	public void getFormatMethod() {
+		AtomicInteger finds = new AtomicInteger();
+		AbstractFormat format = new AbstractFormat() {
+			@FormatMethod(@MetaFamily(subin = Integer.class))
+			protected void integer_string(FormatArguments<Integer, ?> arguments) {
+			}
+
+			@Override
+			protected Method findFormatMethod(Class klass) {
+				finds.incrementAndGet();
+				return super.findFormatMethod(klass);
+			}
+		};
+
+		Method method = format.getFormatMethod(Integer.class);
+		Assert.assertNotNull("Method not found", method);
+		Assert.assertSame("Method not cached", method, format.getFormatMethod(Integer.class));
+		Assert.assertNull("Method found for unsupported class", format.getFormatMethod(String.class));
+		Assert.assertNull("Negative entry not cached", format.getFormatMethod(String.class));
+		Assert.assertEquals("Methods not cached", 2, finds.get());
 	}
 
 	@Test
-	public void parse() {
-		//TODO
+	public void parse() throws IOException {
+		AbstractFormat format = new AbstractFormat() {
+			@ParseMethod(@MetaFamily(subin = Integer.class))
+			protected void string_integer(ParseArguments<?, Integer> arguments) throws IOException {
+				int value = 0;
+
+				if (arguments.bytes != null) {
+					//structural bytes. No decoding
+					ByteSource bytes = arguments.bytes;
+					while (bytes.peekByte() >= '0' && bytes.peekByte() <= '9')
+						value = value * 10 + bytes.readByte() - '0';
+				} else if (arguments.source != null) {
+					//index-based
+					CharSource source = arguments.source;
+					int i = source.position();
+					while (i < source.length() && Character.isDigit(source.charAt(i)))
+						value = value * 10 + source.charAt(i++) - '0';
+					source.position(i);
+				} else {
+					for (int c = arguments.input.read(); c != -1; c = arguments.input.read())
+						value = value * 10 + c - '0';
+				}
+
+				arguments.output = value;
+			}
+		};
+		Clazz<Integer> clazz = Clazz.of(Integer.class);
+
+		Assert.assertEquals("Wrong output", 123, (int) format.parse("123", clazz));
+		Assert.assertEquals("Wrong output", 123, (int) format.parse(new StringReader("123"), clazz));
+		Assert.assertEquals("Wrong output", 42, (int) format.parse(new CharSource("x42x".toCharArray(), 1, 2), clazz));
+		Assert.assertEquals("Wrong output", 7, (int) format.parse(CharBuffer.wrap("07"), clazz));
+		Assert.assertEquals("Wrong output", 99, (int) format.parse(ByteBuffer.wrap(new byte[]{'9', '9'}), clazz));
+		Assert.assertEquals("Wrong output", 5, (int) format.parse(new ByteArrayInputStream(new byte[]{'5'}), clazz));
+
+		Path file = Files.createTempFile("parse", ".txt");
+		try {
+			Files.write(file, new byte[]{'3', '1', '4'});
+			Assert.assertEquals("Wrong output", 314, (int) format.parse(file, clazz));
+		} finally {
+			Files.delete(file);
+		}
 	}
 }
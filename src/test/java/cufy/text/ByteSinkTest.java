@@ -0,0 +1,95 @@
+package cufy.text;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+@SuppressWarnings("JavaDoc")
+public class ByteSinkTest {
+	final static String TEXT = "ascii \u00e9\u00e8 \u20ac \ud83d\ude00 end";
+
+	@Test
+	public void buffer() throws IOException {
+		byte[] expected = TEXT.getBytes(StandardCharsets.UTF_8);
+
+		//heap
+		{
+			ByteBuffer buffer = ByteBuffer.allocate(64);
+			buffer.position(3);
+
+			ByteSink sink = new ByteSink(buffer);
+			sink.write(TEXT);
+			sink.flush();
+
+			Assert.assertEquals("Position not moved", 3 + expected.length, buffer.position());
+			Assert.assertArrayEquals("Wrong bytes", expected, Arrays.copyOfRange(buffer.array(), 3, buffer.position()));
+		}
+		//direct
+		{
+			ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+
+			ByteSink sink = new ByteSink(buffer);
+			sink.write(TEXT);
+			sink.flush();
+
+			byte[] actual = new byte[buffer.flip().remaining()];
+			buffer.get(actual);
+			Assert.assertArrayEquals("Wrong bytes", expected, actual);
+		}
+		//overflow
+		{
+			ByteSink sink = new ByteSink(ByteBuffer.allocate(4));
+
+			try {
+				sink.write("\u20ac\u20ac");
+				Assert.fail("No room for the bytes");
+			} catch (BufferOverflowException ignored) {
+			}
+		}
+	}
+
+	@Test
+	public void stream() throws IOException {
+		byte[] expected = TEXT.getBytes(StandardCharsets.UTF_8);
+
+		//split into writes of each char. With a small staging array
+		{
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			ByteSink sink = new ByteSink(stream, 4);
+
+			for (char c : TEXT.toCharArray())
+				sink.write(c);
+			sink.flush();
+
+			Assert.assertArrayEquals("Wrong bytes", expected, stream.toByteArray());
+		}
+		//bulk write to a channel
+		{
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			ByteSink sink = new ByteSink(Channels.newChannel(stream), 5);
+
+			sink.write(TEXT.toCharArray());
+			sink.close();
+
+			Assert.assertArrayEquals("Wrong bytes", expected, stream.toByteArray());
+		}
+		//unpaired surrogates
+		{
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			ByteSink sink = new ByteSink(stream);
+
+			sink.write("a\ud83db\ude00");
+			sink.write('\ud83d');
+			sink.close();
+
+			Assert.assertEquals("Wrong bytes", "a?b??", stream.toString("UTF-8"));
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package cufy.text;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@SuppressWarnings("JavaDoc")
+public class ByteSourceTest {
+	final static String TEXT = "{\"k\": \"ascii \u00e9\u00e8 \u20ac \ud83d\ude00\"}";
+
+	static String readAll(Reader reader, int chunk) throws IOException {
+		StringBuilder builder = new StringBuilder();
+		char[] chars = new char[chunk];
+
+		for (int n = reader.read(chars, 0, chunk); n != -1; n = reader.read(chars, 0, chunk))
+			builder.append(chars, 0, n);
+
+		return builder.toString();
+	}
+
+	@Test
+	public void bytes() throws IOException {
+		ByteSource source = new ByteSource(TEXT.getBytes(StandardCharsets.UTF_8));
+
+		Assert.assertEquals("Wrong byte", '{', source.peekByte());
+		Assert.assertEquals("Wrong byte", '{', source.readByte());
+		Assert.assertEquals("Wrong byte", 'k', source.peekByte(1));
+
+		source.mark(4);
+		Assert.assertEquals("Wrong character", '"', source.read());
+		source.reset();
+		Assert.assertEquals("Mark not kept", '"', source.readByte());
+
+		source.skip(5);
+		Assert.assertEquals("Wrong characters", "ascii \u00e9\u00e8 \u20ac \ud83d\ude00\"}", readAll(source, 64));
+		Assert.assertEquals("End not reached", -1, source.peekByte());
+	}
+
+	@Test
+	public void read() throws IOException {
+		byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+
+		Assert.assertEquals("Wrong characters", TEXT, readAll(new ByteSource(bytes), 64));
+		Assert.assertEquals("Wrong characters", TEXT, readAll(new ByteSource(new ByteArrayInputStream(bytes), 4), 3));
+		Assert.assertEquals("Wrong characters", TEXT, readAll(new ByteSource(new ByteArrayInputStream(bytes), 5), 1));
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		Assert.assertEquals("Wrong characters", TEXT, readAll(new ByteSource(direct), 7));
+		Assert.assertEquals("Position changed", 0, direct.position());
+	}
+
+	@Test
+	public void channel() throws IOException {
+		byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+		Path file = Files.createTempFile("source", ".txt");
+
+		try {
+			Files.write(file, bytes);
+
+			try (FileChannel channel = FileChannel.open(file)) {
+				//characters split between windows
+				Assert.assertEquals("Wrong characters", TEXT, readAll(new ByteSource(channel, 4), 3));
+				Assert.assertEquals("Wrong characters", TEXT, readAll(new ByteSource(channel, 5), 64));
+				Assert.assertEquals("Wrong characters", TEXT, readAll(new ByteSource(channel), 64));
+
+				channel.position(1);
+				Assert.assertEquals("Wrong characters", TEXT.substring(1), readAll(new ByteSource(channel, 7), 64));
+				Assert.assertEquals("Position changed", 1, (int) channel.position());
+			}
+
+			Files.write(file, "   [1,   \"\u00e9\"]  x".getBytes(StandardCharsets.UTF_8));
+
+			try (FileChannel channel = FileChannel.open(file)) {
+				//the byte methods straight from the windows. Mixed with characters and marks
+				ByteSource source = new ByteSource(channel, 4);
+
+				Assert.assertEquals("Wrong byte", '[', source.skipWhitespace());
+				Assert.assertEquals("Wrong byte", '[', source.readByte());
+				Assert.assertEquals("Wrong byte", '1', source.peekByte());
+				Assert.assertEquals("Wrong byte", '1', source.readByte());
+				Assert.assertEquals("Wrong byte", ',', source.readByte());
+				Assert.assertEquals("Wrong byte", '"', source.skipWhitespace());
+				Assert.assertEquals("Wrong byte", '"', source.readByte());
+				Assert.assertEquals("Wrong character", '\u00e9', source.read());
+				Assert.assertEquals("Wrong byte", '"', source.readByte());
+				Assert.assertEquals("Wrong byte", ']', source.peekByte());
+				source.mark(1);
+				Assert.assertEquals("Wrong byte", ']', source.readByte());
+				Assert.assertEquals("Wrong byte", 'x', source.skipWhitespace());
+				source.reset();
+				Assert.assertEquals("Mark not kept", ']', source.readByte());
+				Assert.assertEquals("Wrong byte", 'x', source.skipWhitespace());
+				Assert.assertEquals("Wrong byte", 'x', source.readByte());
+				Assert.assertEquals("End not reached", -1, source.skipWhitespace());
+				Assert.assertEquals("End not reached", -1, source.peekByte());
+				Assert.assertEquals("End not reached", -1, source.readByte());
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void malformed() throws IOException {
+		byte[][] inputs = {
+				{'a', (byte) 0x80, 'b'},
+				{'a', (byte) 0xC0, (byte) 0xAF},
+				{(byte) 0xE2, (byte) 0x82},
+				{(byte) 0xE2, (byte) 0x82, 'c'},
+				{(byte) 0xF0, (byte) 0x9F, (byte) 0x98},
+				{(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80},
+		};
+
+		for (byte[] input : inputs)
+			Assert.assertEquals("Not replaced like the jdk", new String(input, StandardCharsets.UTF_8), readAll(new ByteSource(input), 8));
+
+		//an encoded surrogate. Replaced as 3 invalid subparts
+		byte[] surrogate = {(byte) 0xED, (byte) 0xA0, (byte) 0x80};
+		Assert.assertEquals("Not replaced right", "\ufffd\ufffd\ufffd", readAll(new ByteSource(surrogate), 8));
+	}
+}
@@ -0,0 +1,56 @@
+package cufy.text;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.CharBuffer;
+
+@SuppressWarnings("JavaDoc")
+public class CharSourceTest {
+	@Test
+	public void read() {
+		//array slice
+		{
+			CharSource source = new CharSource("abcdef".toCharArray(), 1, 4);
+			char[] chars = new char[8];
+
+			Assert.assertEquals("Wrong character", 'b', source.read());
+			Assert.assertEquals("Wrong count", 3, source.read(chars, 0, chars.length));
+			Assert.assertEquals("Wrong characters", "cde", new String(chars, 0, 3));
+			Assert.assertEquals("End not reached", -1, source.read());
+		}
+		//buffer position snapshot
+		{
+			CharBuffer buffer = CharBuffer.wrap("abcdef");
+			buffer.position(2);
+			CharSource source = new CharSource(buffer);
+			buffer.position(0);
+
+			Assert.assertEquals("Wrong length", 4, source.length());
+			Assert.assertEquals("Wrong character", 'c', source.read());
+			Assert.assertEquals("Wrong characters", "cdef", source.toString());
+		}
+		//mark and reset
+		{
+			CharSource source = new CharSource("abc");
+
+			source.read();
+			source.mark(0);
+			source.skip(5);
+			Assert.assertEquals("End not reached", -1, source.peek());
+			source.reset();
+			Assert.assertEquals("Mark not kept", 'b', source.read());
+		}
+	}
+
+	@Test
+	public void slice() {
+		CharSource source = new CharSource(new StringBuilder("abcdef"));
+		CharSource slice = source.slice(2, 5);
+
+		Assert.assertEquals("Wrong characters", "cde", slice.toString());
+		Assert.assertEquals("Wrong character", 'd', slice.charAt(1));
+		Assert.assertEquals("Wrong character", 'e', slice.peek(2));
+		Assert.assertEquals("Beyond the slice", -1, slice.peek(3));
+	}
+}
@@ -0,0 +1,56 @@
+package cufy.text;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+@SuppressWarnings("JavaDoc")
+public class LookaheadReaderTest {
+	@Test
+	public void mark() throws IOException {
+		//marks kept while sliding the buffer
+		{
+			LookaheadReader reader = new LookaheadReader(new StringReader("abcdefghij"), 4);
+
+			reader.skip(2);
+			reader.mark(4);
+			Assert.assertEquals("Wrong character", 'c', reader.read());
+			Assert.assertEquals("Wrong character", 'd', reader.read());
+			Assert.assertEquals("Wrong character", 'e', reader.read());
+			Assert.assertEquals("Wrong character", 'f', reader.read());
+			reader.reset();
+			Assert.assertEquals("Mark not kept", 'c', reader.read());
+		}
+		//marks beyond the capacity
+		{
+			LookaheadReader reader = new LookaheadReader(new StringReader("abc"), 2);
+
+			try {
+				reader.mark(3);
+				Assert.fail("Mark beyond the capacity");
+			} catch (IOException ignored) {
+			}
+		}
+	}
+
+	@Test
+	public void peek() throws IOException {
+		LookaheadReader reader = new LookaheadReader(new StringReader("abcdef"), 3);
+
+		Assert.assertEquals("Wrong character", 'a', reader.peek());
+		Assert.assertEquals("Wrong character", 'c', reader.peek(2));
+		Assert.assertEquals("Consumed by peeking", 'a', reader.read());
+		Assert.assertEquals("Wrong character", 'd', reader.peek(2));
+
+		char[] chars = new char[8];
+		int length = 0;
+		for (int n = reader.read(chars, 0, chars.length); n != -1; n = reader.read(chars, length, chars.length - length))
+			length += n;
+
+		Assert.assertEquals("Wrong characters", "bcdef", new String(chars, 0, length));
+		Assert.assertEquals("End not reached", -1, reader.peek());
+		Assert.assertEquals("End not reached", -1, reader.peek(1));
+	}
+}
@@ -0,0 +1,214 @@
+package cufy.text;
+
+import cufy.lang.Clazz;
+import cufy.meta.MetaFamily;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@SuppressWarnings("JavaDoc")
+public class PushParserTest {
+	//integers, strings in quotes and lists of them
+	final static Format format = new AbstractFormat() {
+		@ClassifyMethod(start = "[")
+		protected boolean string_list(ClassifyArguments arguments) {
+			arguments.output = Clazz.of(ArrayList.class);
+			return true;
+		}
+
+		@ClassifyMethod(start = "\"")
+		protected boolean string_string(ClassifyArguments arguments) {
+			arguments.output = Clazz.of(String.class);
+			return true;
+		}
+
+		@ClassifyMethod(range = "0-9")
+		protected boolean string_integer(ClassifyArguments arguments) {
+			arguments.output = Clazz.of(Integer.class);
+			return true;
+		}
+
+		@ParseMethod(@MetaFamily(subin = Integer.class))
+		protected void string_integer(ParseArguments<?, Integer> arguments) {
+			CharSource source = arguments.source;
+			int value = 0;
+
+			while (source.peek() >= '0' && source.peek() <= '9')
+				value = value * 10 + source.read() - '0';
+
+			arguments.output = value;
+		}
+
+		@ParseMethod(@MetaFamily(subin = String.class))
+		protected void string_string(ParseArguments<?, String> arguments) {
+			CharSource source = arguments.source;
+			int start = source.position() + 1;
+			int end = start;
+
+			while (source.charAt(end) != '"')
+				end++;
+
+			source.position(end + 1);
+			arguments.output = source.slice(start, end).toString();
+		}
+
+		@ParseMethod(@MetaFamily(subin = List.class))
+		protected void string_list(ParseArguments<?, List> arguments) throws IOException {
+			CharSource source = arguments.source;
+			List output = new ArrayList();
+			arguments.output = output;
+
+			source.read();
+			while (source.peek() != ']') {
+				if (!output.isEmpty())
+					source.read();
+
+				Clazz clazz = this.classify(source);
+				output.add(this.parse(new ParseArguments<>(arguments, source, null, clazz, clazz)));
+			}
+			source.read();
+		}
+
+		@Override
+		public PushScanner newPushScanner() {
+			return new PushScanner() {
+				int depth;
+				boolean number;
+				boolean started;
+				boolean string;
+
+				@Override
+				public boolean blank() {
+					return !this.started;
+				}
+
+				@Override
+				public boolean end() {
+					return this.number;
+				}
+
+				@Override
+				public void reset() {
+					this.depth = 0;
+					this.number = false;
+					this.started = false;
+					this.string = false;
+				}
+
+				@Override
+				public int scan(char[] chars, int from, int to) {
+					for (int i = from; i < to; i++) {
+						char c = chars[i];
+
+						if (c != ' ' && c != '\n')
+							this.started = true;
+
+						if (this.string) {
+							if (c == '"') {
+								this.string = false;
+								if (this.depth == 0)
+									return i + 1;
+							}
+						} else if (c == '"') {
+							this.string = true;
+						} else if (c == '[') {
+							this.depth++;
+						} else if (c == ']') {
+							if (--this.depth == 0)
+								return i + 1;
+						} else if (this.depth == 0) {
+							if (c >= '0' && c <= '9')
+								this.number = true;
+							else if (this.number)
+								return i;
+						}
+					}
+
+					return -1;
+				}
+			};
+		}
+	};
+
+	@Test
+	public void feed() throws IOException {
+		PushParser<Object> parser = new PushParser<>(format);
+
+		Assert.assertSame("Value completed early", PushParser.NEED_INPUT, parser.feed(CharBuffer.wrap("[1,[2")));
+		Assert.assertSame("Value completed early", PushParser.NEED_INPUT, parser.feed(CharBuffer.wrap(",\"a]\"")));
+		Assert.assertEquals("Wrong value", Arrays.asList(1, Arrays.asList(2, "a]")), parser.feed(CharBuffer.wrap("]][3]\"x\"")));
+		Assert.assertEquals("Wrong value", Arrays.asList(3), parser.poll());
+		Assert.assertEquals("Wrong value", "x", parser.poll());
+		Assert.assertSame("Value completed", PushParser.NEED_INPUT, parser.poll());
+
+		Assert.assertSame("Value completed early", PushParser.NEED_INPUT, parser.feed(CharBuffer.wrap("42")));
+		Assert.assertEquals("Wrong value", 42, parser.finish());
+		Assert.assertSame("Value completed", PushParser.NEED_INPUT, parser.finish());
+	}
+
+	@Test
+	public void feed_bytes() throws IOException {
+		PushParser<String> parser = new PushParser<>(format, Clazz.of(String.class));
+		byte[] bytes = "\"\u20ac\ud83d\ude00\"".getBytes(StandardCharsets.UTF_8);
+		Object value = PushParser.NEED_INPUT;
+
+		//a byte at a time. Splitting each multi-byte character
+		for (byte b : bytes) {
+			Assert.assertSame("Value completed early", PushParser.NEED_INPUT, value);
+			value = parser.feed(ByteBuffer.wrap(new byte[]{b}));
+		}
+
+		Assert.assertEquals("Wrong value", "\u20ac\ud83d\ude00", value);
+	}
+
+	@Test
+	public void feed_many() throws IOException {
+		PushParser<Object> parser = new PushParser<>(format);
+		StringBuilder first = new StringBuilder();
+		StringBuilder second = new StringBuilder("00]");
+
+		for (int i = 0; i < 1000; i++) {
+			first.append('[').append(i).append(']');
+			second.append('[').append(1001 + i).append(']');
+		}
+
+		//the last value is split between the chunks. (the parsed characters are dropped to make room for the second chunk)
+		first.append("[10");
+
+		Assert.assertEquals("Wrong value", Arrays.asList(0), parser.feed(CharBuffer.wrap(first)));
+		for (int i = 1; i < 1000; i++)
+			Assert.assertEquals("Wrong value", Arrays.asList(i), parser.poll());
+		Assert.assertSame("Value completed early", PushParser.NEED_INPUT, parser.poll());
+
+		Assert.assertEquals("Wrong value", Arrays.asList(1000), parser.feed(CharBuffer.wrap(second)));
+		for (int i = 1001; i < 2001; i++)
+			Assert.assertEquals("Wrong value", Arrays.asList(i), parser.poll());
+		Assert.assertSame("Value completed", PushParser.NEED_INPUT, parser.finish());
+	}
+
+	@Test
+	public void finish_blank() throws IOException {
+		PushParser<Object> parser = new PushParser<>(format);
+
+		Assert.assertEquals("Wrong value", Arrays.asList(1), parser.feed(CharBuffer.wrap("[1]\n")));
+		Assert.assertSame("Value completed", PushParser.NEED_INPUT, parser.poll());
+		Assert.assertSame("Trailing whitespace parsed", PushParser.NEED_INPUT, parser.finish());
+
+		Assert.assertSame("Value completed early", PushParser.NEED_INPUT, parser.feed(CharBuffer.wrap("7")));
+		Assert.assertEquals("Wrong value", 7, parser.finish());
+	}
+
+	@Test(expected = ParseException.class)
+	public void finish() throws IOException {
+		PushParser<Object> parser = new PushParser<>(format);
+		parser.feed(CharBuffer.wrap("[1,"));
+		parser.finish();
+	}
+}
@@ -0,0 +1,93 @@
+package cufy.text;
+
+import cufy.lang.Clazz;
+import cufy.meta.MetaFamily;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+@SuppressWarnings("JavaDoc")
+public class StructuralIndexTest {
+	final static StructuralIndex INDEX = new StructuralIndex("[{", "]}", ',', '"', '\\');
+
+	static List<String> elements(String text) {
+		ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+		int[] elements = INDEX.index(buffer);
+		List<String> list = new ArrayList<>();
+
+		for (int i = 0; i < elements.length; i += 2)
+			list.add(new String(buffer.array(), elements[i], elements[i + 1] - elements[i], StandardCharsets.UTF_8));
+
+		return list;
+	}
+
+	@Test
+	public void index() {
+		Assert.assertEquals("Wrong elements", Arrays.asList(), elements(" [ ] "));
+		Assert.assertEquals("Wrong elements", Arrays.asList("1", "22", "333"), elements("[1, 22 ,333]"));
+		Assert.assertEquals("Wrong elements", Arrays.asList("\"a,]\"", "[1,{\"b\":[2]}]", "\"\\\",\\\\\"", "\"\u00e9,\ud83d\ude00\""),
+				elements("\n[\"a,]\", [1,{\"b\":[2]}],\t\"\\\",\\\\\" ,\"\u00e9,\ud83d\ude00\"] trailing"));
+
+		//an escape at the end of each word
+		for (int i = 0; i < 8; i++) {
+			String padding = new String(new char[i]).replace('\0', 'x');
+			Assert.assertEquals("Wrong elements", Arrays.asList("\"" + padding + "\\\"]\"", "2"), elements("[\"" + padding + "\\\"]\",2]"));
+		}
+	}
+
+	@Test(expected = ParseException.class)
+	public void index_mismatched() {
+		elements("[1, {2]]");
+	}
+
+	@Test(expected = ParseException.class)
+	public void index_unended() {
+		elements("[1, \"2]\"");
+	}
+
+	@Test
+	public void parse() throws IOException {
+		AbstractFormat format = new AbstractFormat() {
+			@ParseMethod(@MetaFamily(subin = Integer.class))
+			protected void string_integer(ParseArguments<?, Integer> arguments) throws IOException {
+				ByteSource bytes = arguments.bytes;
+				int value = 0;
+
+				while (bytes.peekByte() >= '0' && bytes.peekByte() <= '9')
+					value = value * 10 + bytes.readByte() - '0';
+
+				arguments.output = value;
+			}
+
+			@Override
+			public StructuralIndex structuralIndex() {
+				return INDEX;
+			}
+		};
+
+		//big enough to be split between tasks
+		Random random = new Random(0);
+		List<Integer> expected = new ArrayList<>();
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < 50000; i++) {
+			int value = random.nextInt(1000000);
+			expected.add(value);
+			builder.append(i == 0 ? "" : ",").append(value);
+		}
+		byte[] bytes = builder.append("]").toString().getBytes(StandardCharsets.UTF_8);
+
+		Assert.assertEquals("Wrong elements", expected, format.parseElements(ByteBuffer.wrap(bytes), Clazz.of(Integer.class)));
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		Assert.assertEquals("Wrong elements", expected, format.parseElements(direct, Clazz.of(Integer.class)));
+		Assert.assertEquals("Position changed", 0, direct.position());
+	}
+}
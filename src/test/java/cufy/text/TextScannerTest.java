@@ -0,0 +1,104 @@
+package cufy.text;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+
+@SuppressWarnings("JavaDoc")
+public class TextScannerTest {
+	final static String ALPHABET = "  \t\n\rab\"\\,:}\u00e9";
+
+	static String random(Random random, int length) {
+		StringBuilder builder = new StringBuilder(length);
+		//runs of one character. Like the whitespace and the plain text of real inputs
+		while (builder.length() < length) {
+			char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+			for (int i = random.nextInt(20); i >= 0 && builder.length() < length; i--)
+				builder.append(c);
+		}
+		return builder.toString();
+	}
+
+	@Test
+	public void scan() {
+		TextScanner scanner = TextScanner.global;
+		TextScanner.Delimiters delimiters = new TextScanner.Delimiters(",:}@");
+		Random random = new Random(0);
+
+		for (int k = 0; k < 500; k++) {
+			//ascii and latin-1. So each character is a byte
+			String text = random(random, random.nextInt(64));
+			char[] chars = text.toCharArray();
+			byte[] bytes = new byte[chars.length];
+			for (int i = 0; i < chars.length; i++)
+				bytes[i] = (byte) chars[i];
+
+			int from = text.isEmpty() ? 0 : random.nextInt(text.length());
+			int to = from + random.nextInt(text.length() - from + 1);
+
+			int whitespace = from;
+			while (whitespace < to && " \t\n\r".indexOf(text.charAt(whitespace)) >= 0)
+				whitespace++;
+			int quote = -1;
+			for (int i = from; i < to && quote < 0; i++)
+				if (text.charAt(i) == '"' || text.charAt(i) == '\\')
+					quote = i;
+			int delimiter = -1;
+			for (int i = from; i < to && delimiter < 0; i++)
+				if (",:}@".indexOf(text.charAt(i)) >= 0)
+					delimiter = i;
+
+			Assert.assertEquals("Wrong whitespace end", whitespace, scanner.skipWhitespace(bytes, from, to));
+			Assert.assertEquals("Wrong whitespace end", whitespace, scanner.skipWhitespace(chars, from, to));
+			Assert.assertEquals("Wrong whitespace end", whitespace, scanner.skipWhitespace(text, from, to));
+			Assert.assertEquals("Wrong quote index", quote, scanner.indexOfQuoteOrBackslash(bytes, from, to));
+			Assert.assertEquals("Wrong quote index", quote, scanner.indexOfQuoteOrBackslash(chars, from, to));
+			Assert.assertEquals("Wrong quote index", quote, scanner.indexOfQuoteOrBackslash(text, from, to));
+			Assert.assertEquals("Wrong delimiter index", delimiter, scanner.indexOfAny(bytes, from, to, ",:}@"));
+			Assert.assertEquals("Wrong delimiter index", delimiter, scanner.indexOfAny(chars, from, to, ",:}@"));
+			Assert.assertEquals("Wrong delimiter index", delimiter, scanner.indexOfAny(text, from, to, ",:}@"));
+			Assert.assertEquals("Wrong delimiter index", delimiter, scanner.indexOfAny(bytes, from, to, delimiters));
+			Assert.assertEquals("Wrong delimiter index", delimiter, scanner.indexOfAny(chars, from, to, delimiters));
+			Assert.assertEquals("Wrong delimiter index", delimiter, scanner.indexOfAny(text, from, to, delimiters));
+		}
+	}
+
+	@Test
+	public void delimiters() {
+		TextScanner scanner = TextScanner.global;
+		//'l' is ',' + 64. So a mask bit of the other half
+		Assert.assertEquals("Matched the other half", -1, scanner.indexOfAny("lll".getBytes(), 0, 3, ","));
+		Assert.assertEquals("Matched the other half", -1, scanner.indexOfAny("lll", 0, 3, ","));
+		Assert.assertEquals("Matched the other half", -1, scanner.indexOfAny(",,,", 0, 3, "l"));
+		Assert.assertEquals("Wrong index", 2, scanner.indexOfAny("ab\u00e9c", 0, 4, "x\u00e9"));
+		Assert.assertEquals("Wrong index", 2, scanner.indexOfAny("ab\u00e9c".toCharArray(), 0, 4, "x\u00e9"));
+		Assert.assertEquals("Wrong index", 1, scanner.indexOfAny(new byte[]{'a', 0, 'b'}, 0, 3, "\u0000"));
+		Assert.assertEquals("Wrong string", ",:}", new TextScanner.Delimiters(",:}").toString());
+
+		try {
+			scanner.indexOfAny("ab".getBytes(), 0, 2, new TextScanner.Delimiters("\u00e9"));
+			Assert.fail("Not ASCII delimiters accepted");
+		} catch (IllegalArgumentException ignored) {
+		}
+	}
+
+	@Test
+	public void sources() throws IOException {
+		CharSource chars = new CharSource("x   \t\n  \"a\\\"b\", c".toCharArray(), 1, 16);
+		Assert.assertEquals("Wrong next character", '"', chars.skipWhitespace());
+		Assert.assertEquals("Wrong position", 7, chars.position());
+		chars.read();
+		Assert.assertEquals("Wrong index", 9, chars.indexOfQuoteOrBackslash());
+		Assert.assertEquals("Wrong index", 13, chars.indexOfAny(",;"));
+		Assert.assertEquals("Not found", -1, chars.indexOfAny(";"));
+		Assert.assertEquals("Wrong index", 13, chars.indexOfAny(new TextScanner.Delimiters(",;")));
+
+		ByteSource bytes = new ByteSource(new ByteArrayInputStream("            \n\n\n\n\n\n\n\n  x ".getBytes()), 5);
+		Assert.assertEquals("Wrong next byte", 'x', bytes.skipWhitespace());
+		Assert.assertEquals("Wrong next byte", 'x', bytes.readByte());
+		Assert.assertEquals("End not reached", -1, bytes.skipWhitespace());
+	}
+}
@@ -0,0 +1,140 @@
+package cufy.text;
+
+import cufy.lang.Clazz;
+import cufy.meta.MetaFamily;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@SuppressWarnings("JavaDoc")
+public class TokenizerTest {
+	final static Format format = new AbstractFormat() {
+		@ClassifyMethod(start = "[")
+		protected boolean string_list(ClassifyArguments arguments) {
+			arguments.output = Clazz.of(ArrayList.class);
+			return true;
+		}
+
+		@ClassifyMethod(range = "0-9")
+		protected boolean string_integer(ClassifyArguments arguments) {
+			arguments.output = Clazz.of(Integer.class);
+			return true;
+		}
+
+		@ParseMethod(@MetaFamily(subin = Integer.class))
+		protected void string_integer(ParseArguments<?, Integer> arguments) throws IOException {
+			LookaheadReader input = (LookaheadReader) arguments.input;
+			int value = 0;
+
+			while (input.peek() >= '0' && input.peek() <= '9')
+				value = value * 10 + input.read() - '0';
+
+			arguments.output = value;
+		}
+
+		@ParseMethod(@MetaFamily(subin = List.class))
+		protected void string_list(ParseArguments<?, List> arguments) throws IOException {
+			LookaheadReader input = (LookaheadReader) arguments.input;
+			List output = new ArrayList();
+			arguments.output = output;
+
+			input.read();
+			while (input.peek() != ']') {
+				if (!output.isEmpty())
+					input.read();
+
+				Clazz clazz = this.classify(input);
+				output.add(this.parse(new ParseArguments<>(arguments, input, null, clazz, clazz)));
+			}
+			input.read();
+		}
+
+		@Override
+		public Tokenizer tokenize(Reader input) {
+			LookaheadReader reader = LookaheadReader.of(input);
+
+			return new Tokenizer(this, reader) {
+				//if an element has been read in the current collection
+				boolean after;
+
+				@Override
+				protected Token advance() throws IOException {
+					if (reader.peek() == ']') {
+						reader.read();
+						this.after = true;
+						return Token.END_COLLECTION;
+					}
+					if (!this.beforeValue())
+						if (reader.peek() == -1)
+							return null;
+						else throw new ParseException("Expected ',' or ']'");
+					if (reader.peek() == '[') {
+						reader.read();
+						this.after = false;
+						return Token.START_COLLECTION;
+					}
+
+					this.value = this.format.parse(reader, Clazz.of(Integer.class));
+					return Token.VALUE;
+				}
+
+				@Override
+				protected boolean beforeValue() throws IOException {
+					if (this.after)
+						if (reader.peek() == ',')
+							reader.read();
+						else return false;
+
+					this.after = true;
+					return reader.peek() != -1 && reader.peek() != ']';
+				}
+			};
+		}
+	};
+
+	@Test
+	public void nextToken() throws IOException {
+		Tokenizer tokenizer = format.tokenize(new StringReader("[1,[2,3],4]"));
+		List<Object> tokens = new ArrayList<>();
+
+		for (Token token = tokenizer.nextToken(); token != null; token = tokenizer.nextToken())
+			tokens.add(token == Token.VALUE ? tokenizer.currentValue() : token);
+
+		Assert.assertEquals("Wrong tokens", Arrays.asList(
+				Token.START_COLLECTION, 1, Token.START_COLLECTION, 2, 3, Token.END_COLLECTION, 4, Token.END_COLLECTION
+		), tokens);
+		Assert.assertEquals("Wrong depth", 0, tokenizer.depth());
+	}
+
+	@Test
+	public void parseValue() throws IOException {
+		Tokenizer tokenizer = format.tokenize(new StringReader("[1,[2,[3]],4]"));
+
+		tokenizer.nextToken();
+		tokenizer.nextToken();
+		Assert.assertEquals("Wrong value", Arrays.asList(2, Arrays.asList(3)), tokenizer.parseValue());
+		Assert.assertEquals("Wrong value", 4, (int) tokenizer.parseValue(Clazz.of(Integer.class)));
+		Assert.assertEquals("Wrong token", Token.END_COLLECTION, tokenizer.nextToken());
+		Assert.assertNull("End not reached", tokenizer.nextToken());
+	}
+
+	@Test
+	public void skipChildren() throws IOException {
+		Tokenizer tokenizer = format.tokenize(new StringReader("[1,[2,[3]],4]"));
+
+		tokenizer.nextToken();
+		tokenizer.nextToken();
+		Assert.assertEquals("Wrong token", Token.START_COLLECTION, tokenizer.nextToken());
+		tokenizer.skipChildren();
+		Assert.assertEquals("Wrong token", Token.END_COLLECTION, tokenizer.currentToken());
+		Assert.assertEquals("Wrong depth", 1, tokenizer.depth());
+		Assert.assertEquals("Wrong token", Token.VALUE, tokenizer.nextToken());
+		Assert.assertEquals("Wrong value", 4, tokenizer.currentValue());
+	}
+}
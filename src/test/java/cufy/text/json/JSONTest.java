@@ -0,0 +1,188 @@
+package cufy.text.json;
+
+import cufy.lang.Clazz;
+import cufy.lang.DispatchMetrics;
+import cufy.text.FormatArguments;
+import cufy.text.FormatException;
+import cufy.text.ParseException;
+import cufy.text.PushParser;
+import cufy.text.Token;
+import cufy.text.Tokenizer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+@SuppressWarnings("JavaDoc")
+public class JSONTest {
+	@Test
+	public void classify() throws IOException {
+		Assert.assertEquals("Wrong clazz", LinkedHashMap.class, JSON.global.classify(" {}").getKlass());
+		Assert.assertEquals("Wrong clazz", ArrayList.class, JSON.global.classify("\n[]").getKlass());
+		Assert.assertEquals("Wrong clazz", String.class, JSON.global.classify("\"\"").getKlass());
+		Assert.assertEquals("Wrong clazz", Number.class, JSON.global.classify("-1").getKlass());
+		Assert.assertEquals("Wrong clazz", Boolean.class, JSON.global.classify("false").getKlass());
+		Assert.assertEquals("Wrong clazz", Object.class, JSON.global.classify("null").getKlass());
+	}
+
+	@Test
+	public void cparse() throws IOException {
+		String text = " {\"a\": [1, 2.5, -3e2, 12345678901234567890, true, null], \"b\\n\": \"x\\u0041\\\"y\", \"c\": {}} ";
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("a", Arrays.asList(1, 2.5, -300.0, new BigInteger("12345678901234567890"), true, null));
+		expected.put("b\n", "xA\"y");
+		expected.put("c", new LinkedHashMap<>());
+
+		Assert.assertEquals("Wrong value", expected, JSON.global.cparse(text));
+		Assert.assertEquals("Wrong value", expected, JSON.global.cparse(new StringReader(text)));
+		Assert.assertEquals("Wrong value", expected, JSON.global.cparse(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)), Clazz.of(Object.class)));
+		Assert.assertEquals("Wrong value", "\u00e9\u4e2d", JSON.global.cparse(ByteBuffer.wrap("\"\u00e9\u4e2d\"".getBytes(StandardCharsets.UTF_8)),
+				Clazz.of(Object.class)));
+		Assert.assertNull("Expected null", JSON.global.cparse("null"));
+
+		//consecutive values of a markable reader (not read ahead)
+		BufferedReader reader = new BufferedReader(new StringReader("[1] {\"a\": 2} 3"));
+		Assert.assertEquals("Wrong value", Collections.singletonList(1), JSON.global.cparse(reader));
+		Assert.assertEquals("Wrong value", Collections.singletonMap("a", 2), JSON.global.cparse(reader, Clazz.of(Map.class)));
+		Assert.assertEquals("Wrong value", 3, (int) JSON.global.parse(reader, Clazz.of(Integer.class)));
+
+		for (String malformed : new String[]{"[1,]", "{\"a\" 1}", "[1 2]", "01", "1.", "\"a", "tru", "\"\\x\"", "\"a\u0001\"", "\"a\u0001\\nb\""})
+			try {
+				JSON.global.cparse(malformed);
+				Assert.fail("Parsed a malformed text: " + malformed);
+			} catch (ParseException ignored) {
+			}
+	}
+
+	@Test
+	public void format() throws IOException {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("a", Arrays.asList(1, -2L, 2.5, true, null));
+		map.put("b", "q\"\\\n\u0001");
+		map.put("c", new int[]{3, 4});
+		map.put("d", 'x');
+
+		Assert.assertEquals("Wrong text", "{\"a\":[1,-2,2.5,true,null],\"b\":\"q\\\"\\\\\\n\\u0001\",\"c\":[3,4],\"d\":\"x\"}",
+				JSON.global.formatToString(map));
+		Assert.assertEquals("Wrong text", "null", JSON.global.formatToString(null));
+		Assert.assertEquals("Wrong text", "[\"x\",1,null,[true]]", JSON.global.formatToString(new Object[]{"x", 1, null, new Object[]{true}}));
+
+		StringWriter writer = new StringWriter();
+		JSON.global.format(new FormatArguments<>(Arrays.asList("x", 1), writer, Clazz.of(List.class, Clazz.of(Object.class)), Clazz.of(String.class)));
+		Assert.assertEquals("Wrong text", "[\"x\",1]", writer.toString());
+		Assert.assertEquals("Wrong text", "-9223372036854775808", JSON.global.formatToString(Long.MIN_VALUE));
+
+		List<Object> cyclic = new ArrayList<>();
+		cyclic.add(cyclic);
+
+		try {
+			JSON.global.formatToString(cyclic);
+			Assert.fail("Formatted a cyclic list");
+		} catch (FormatException ignored) {
+		}
+		try {
+			JSON.global.formatToString(Double.NaN);
+			Assert.fail("Formatted NaN");
+		} catch (FormatException ignored) {
+		}
+	}
+
+	@Test
+	public void metrics() throws IOException {
+		JSON json = new JSON();
+		DispatchMetrics metrics = new DispatchMetrics();
+		json.setDispatchMetrics(metrics);
+
+		json.formatToString(Arrays.asList(1, 2, Collections.singletonList(3)));
+		Assert.assertEquals("Container sizes not recorded", 1, metrics.getContainerSizeHistogram()[1]);
+		Assert.assertEquals("Container sizes not recorded", 1, metrics.getContainerSizeHistogram()[2]);
+
+		//the elements dispatched again by their actual type are counted once
+		metrics.reset();
+		json.formatToString(new Object[]{"x", 1});
+		json.cparse("[1, [2, 3]]");
+		Assert.assertEquals("Container sizes not recorded", 3, metrics.getContainerSizeHistogram()[2]);
+		Assert.assertEquals("Container sizes not recorded", 3, Arrays.stream(metrics.getContainerSizeHistogram()).sum());
+	}
+
+	@Test
+	public void parse() throws IOException {
+		Map<String, List<Long>> map = JSON.global.parse("{\"a\": [1, 2], \"b\": []}",
+				Clazz.of(Map.class, Clazz.of(String.class), Clazz.of(List.class, Clazz.of(Long.class))));
+		Assert.assertEquals("Wrong value", Arrays.asList(1L, 2L), map.get("a"));
+		Assert.assertEquals("Wrong value", Collections.emptyList(), map.get("b"));
+
+		int[] ints = JSON.global.parse("[1, -2, 3]", Clazz.of(int[].class));
+		Assert.assertArrayEquals("Wrong value", new int[]{1, -2, 3}, ints);
+
+		Assert.assertEquals("Wrong value", 0.1, JSON.global.parse("0.1", Clazz.of(Double.class)), 0);
+		Assert.assertEquals("Wrong value", 1.7976931348623157e308, JSON.global.parse("1.7976931348623157e308", Clazz.of(Double.class)), 0);
+		Assert.assertEquals("Sign lost", Double.doubleToRawLongBits(-0.0),
+				Double.doubleToRawLongBits(JSON.global.parse("-0", Clazz.of(Double.class))));
+		Assert.assertEquals("Sign lost", Float.floatToRawIntBits(-0f), Float.floatToRawIntBits(JSON.global.parse("-0", Clazz.of(Float.class))));
+		Assert.assertEquals("Wrong value", 'x', (char) JSON.global.parse("\"x\"", Clazz.of(Character.class)));
+		Assert.assertEquals("Wrong value", new TreeSet<>(Arrays.asList("a", "b")), JSON.global.parse("[\"b\", \"a\"]", Clazz.of(SortedSet.class)));
+
+		try {
+			JSON.global.parse("300", Clazz.of(Byte.class));
+			Assert.fail("Parsed an out of range byte");
+		} catch (ParseException ignored) {
+		}
+		try {
+			JSON.global.parse("[1, null]", Clazz.of(int[].class));
+			Assert.fail("Parsed a null to an int");
+		} catch (ParseException ignored) {
+		}
+
+		Object value = Arrays.asList(Collections.singletonMap("k", "v\u00e9\t"), 12, -0.5, false);
+		Assert.assertEquals("Wrong round trip", value, JSON.global.cparse(JSON.global.formatToString(value)));
+	}
+
+	@Test
+	public void pushParser() throws IOException {
+		PushParser<Object> parser = new PushParser<>(JSON.global);
+		List<Object> values = new ArrayList<>();
+
+		for (String chunk : new String[]{"{\"a\":\"}\\\"", "\"}\n[1,", "2]\n3", "\n\"x\"  \n"}) {
+			for (Object value = parser.feed(CharBuffer.wrap(chunk)); value != PushParser.NEED_INPUT; value = parser.poll())
+				values.add(value);
+		}
+
+		Assert.assertEquals("Wrong values", Arrays.asList(Collections.singletonMap("a", "}\""), Arrays.asList(1, 2), 3, "x"), values);
+		Assert.assertSame("Trailing whitespace parsed", PushParser.NEED_INPUT, parser.finish());
+
+		parser.feed(CharBuffer.wrap(" 42"));
+		Assert.assertEquals("Wrong value", 42, parser.finish());
+	}
+
+	@Test
+	public void tokenize() throws IOException {
+		Tokenizer tokenizer = JSON.global.tokenize(new StringReader(" {\"a\": [1, {\"b\": null}], \"c\": \"d\"} "));
+		List<Object> tokens = new ArrayList<>();
+
+		for (Token token = tokenizer.nextToken(); token != null; token = tokenizer.nextToken())
+			tokens.add(token == Token.KEY || token == Token.VALUE ? tokenizer.currentValue() : token);
+
+		Assert.assertEquals("Wrong tokens", Arrays.asList(
+				Token.START_MAP, "a", Token.START_COLLECTION, 1, Token.START_MAP, "b", null, Token.END_MAP, Token.END_COLLECTION,
+				"c", "d", Token.END_MAP
+		), tokens);
+
+		tokenizer = JSON.global.tokenize(new StringReader("[{\"a\": 1}, [2], 3]"));
+		tokenizer.nextToken();
+		Assert.assertEquals("Wrong value", Collections.singletonMap("a", 1), tokenizer.parseValue());
+		Assert.assertEquals("Wrong token", Token.START_COLLECTION, tokenizer.nextToken());
+		tokenizer.skipChildren();
+		Assert.assertEquals("Wrong value", 3L, (long) tokenizer.parseValue(Clazz.of(Long.class)));
+		Assert.assertEquals("Wrong token", Token.END_COLLECTION, tokenizer.nextToken());
+		Assert.assertNull("End not reached", tokenizer.nextToken());
+	}
+}